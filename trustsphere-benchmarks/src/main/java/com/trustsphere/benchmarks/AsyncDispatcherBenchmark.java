@@ -0,0 +1,136 @@
+package com.trustsphere.benchmarks;
+
+import com.trustsphere.benchmarks.support.Beans;
+import com.trustsphere.rest.async.AsyncDispatcher;
+
+import jakarta.enterprise.concurrent.ManagedExecutorService;
+import jakarta.ws.rs.core.Response;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Slow reads dispatched from 32 request threads onto an executor with the 16 threads of
+ * {@code concurrent/trustsphere/slowReads}. Each call blocks its worker for {@code workMicros},
+ * standing in for the EJB and JDBC wait. With the production queue of 256 every call is
+ * eventually served; a queue of 8 leaves the callers more work than the executor can hold, so
+ * some are shed. The secondary results split throughput into completed and shed (503) requests,
+ * so a change that trades one for the other is visible.
+ *
+ * {@code threadPerRequest} is the same load without the dispatcher: each of the 32 request
+ * threads does the work itself, as the endpoints did before. It sets the throughput the executor
+ * has to match, and what the bounded pool gives up against it at each work duration.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@Threads(32)
+public class AsyncDispatcherBenchmark {
+
+    private static final String ENDPOINT = "benchmark";
+
+    @State(Scope.Benchmark)
+    public static class Dispatcher {
+
+        @Param({"0", "500", "5000"})
+        public long workMicros;
+
+        @Param({"256", "8"})
+        public int queueCapacity;
+
+        AsyncDispatcher dispatcher;
+        Response ok;
+        private ThreadPoolExecutor executor;
+
+        @Setup
+        public void setUp() {
+            executor = new ThreadPoolExecutor(16, 16, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity));
+            dispatcher = new AsyncDispatcher();
+            Beans.inject(dispatcher, "executor", Beans.managed(ManagedExecutorService.class, executor));
+            Beans.inject(dispatcher, "configProvider", Beans.configuration(Map.of(
+                    "async." + ENDPOINT + ".timeout.millis", "30000")));
+            ok = Response.ok().build();
+        }
+
+        @TearDown
+        public void tearDown() {
+            executor.shutdownNow();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Inline {
+
+        @Param({"0", "500", "5000"})
+        public long workMicros;
+
+        Response ok;
+
+        @Setup
+        public void setUp() {
+            ok = Response.ok().build();
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Outcomes {
+
+        public long completed;
+        public long shed;
+
+        @Setup(Level.Iteration)
+        public void clear() {
+            completed = 0;
+            shed = 0;
+        }
+    }
+
+    @Benchmark
+    public int supply(Dispatcher state, Outcomes outcomes) {
+        long workNanos = TimeUnit.MICROSECONDS.toNanos(state.workMicros);
+        Response response = state.dispatcher.supply(ENDPOINT, 30_000, () -> {
+            if (workNanos > 0) {
+                LockSupport.parkNanos(workNanos);
+            }
+            return state.ok;
+        }).toCompletableFuture().join();
+
+        if (response.getStatus() == Response.Status.SERVICE_UNAVAILABLE.getStatusCode()) {
+            outcomes.shed++;
+        } else {
+            outcomes.completed++;
+        }
+        return response.getStatus();
+    }
+
+    @Benchmark
+    public int threadPerRequest(Inline state, Outcomes outcomes) {
+        long workNanos = TimeUnit.MICROSECONDS.toNanos(state.workMicros);
+        if (workNanos > 0) {
+            LockSupport.parkNanos(workNanos);
+        }
+        outcomes.completed++;
+        return state.ok.getStatus();
+    }
+}
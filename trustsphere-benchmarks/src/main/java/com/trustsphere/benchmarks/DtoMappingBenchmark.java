@@ -0,0 +1,111 @@
+package com.trustsphere.benchmarks;
+
+import com.trustsphere.benchmarks.support.Beans;
+import com.trustsphere.benchmarks.support.Fixtures;
+import com.trustsphere.core.dto.AccountDTO;
+import com.trustsphere.core.dto.AuditLogDTO;
+import com.trustsphere.core.dto.NotificationDTO;
+import com.trustsphere.core.dto.TransactionDTO;
+import com.trustsphere.core.dto.UserDTO;
+import com.trustsphere.core.entity.Account;
+import com.trustsphere.core.entity.AuditLog;
+import com.trustsphere.core.entity.Notification;
+import com.trustsphere.core.entity.Transaction;
+import com.trustsphere.core.entity.User;
+import com.trustsphere.ejb.service.AccountServiceBean;
+import com.trustsphere.ejb.service.AuditServiceBean;
+import com.trustsphere.ejb.service.NotificationServiceBean;
+import com.trustsphere.ejb.service.TransactionServiceBean;
+import com.trustsphere.ejb.service.UserServiceBean;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping in each service bean, called once per row of every listing. The
+ * private {@code mapToDTO} methods are reached through method handles on plain bean instances;
+ * none of them touches an injected DAO.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+    private static final MethodHandle ACCOUNT = Beans.privateMethod(
+            AccountServiceBean.class, "mapToDTO", AccountDTO.class, Account.class);
+    private static final MethodHandle AUDIT_LOG = Beans.privateMethod(
+            AuditServiceBean.class, "mapToDTO", AuditLogDTO.class, AuditLog.class);
+    private static final MethodHandle NOTIFICATION = Beans.privateMethod(
+            NotificationServiceBean.class, "mapToDTO", NotificationDTO.class, Notification.class);
+    private static final MethodHandle TRANSACTION = Beans.privateMethod(
+            TransactionServiceBean.class, "mapToDTO", TransactionDTO.class, Transaction.class);
+    private static final MethodHandle USER = Beans.privateMethod(
+            UserServiceBean.class, "mapToDTO", UserDTO.class, User.class);
+
+    private AccountServiceBean accountService;
+    private AuditServiceBean auditService;
+    private NotificationServiceBean notificationService;
+    private TransactionServiceBean transactionService;
+    private UserServiceBean userService;
+
+    private Account account;
+    private AuditLog auditLog;
+    private Notification notification;
+    private Transaction transaction;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        accountService = new AccountServiceBean();
+        auditService = new AuditServiceBean();
+        notificationService = new NotificationServiceBean();
+        transactionService = new TransactionServiceBean();
+        userService = new UserServiceBean();
+
+        account = Fixtures.account(1);
+        auditLog = Fixtures.auditLog(1);
+        notification = Fixtures.notification(1);
+        transaction = Fixtures.transaction(1);
+        // Staff users carry two roles, which exercises the role name stream
+        user = Fixtures.user(10);
+    }
+
+    @Benchmark
+    public AccountDTO account() throws Throwable {
+        return (AccountDTO) ACCOUNT.invokeExact(accountService, account);
+    }
+
+    @Benchmark
+    public AuditLogDTO auditLog() throws Throwable {
+        return (AuditLogDTO) AUDIT_LOG.invokeExact(auditService, auditLog);
+    }
+
+    @Benchmark
+    public NotificationDTO notification() throws Throwable {
+        return (NotificationDTO) NOTIFICATION.invokeExact(notificationService, notification);
+    }
+
+    @Benchmark
+    public TransactionDTO transaction() throws Throwable {
+        return (TransactionDTO) TRANSACTION.invokeExact(transactionService, transaction);
+    }
+
+    @Benchmark
+    public UserDTO user() throws Throwable {
+        return (UserDTO) USER.invokeExact(userService, user);
+    }
+}
@@ -0,0 +1,99 @@
+package com.trustsphere.benchmarks;
+
+import com.trustsphere.benchmarks.support.Beans;
+import com.trustsphere.benchmarks.support.FakeRequestContext;
+import com.trustsphere.rest.security.ConfigurationProvider;
+import com.trustsphere.rest.security.JWTAuthenticationFilter;
+import com.trustsphere.rest.security.JWTConfiguration;
+import com.trustsphere.rest.security.VerifiedTokenCache;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bearer token authentication. {@code validateToken} is the full parse and HMAC signature check
+ * a token costs on its first request; {@code filterCachedToken} is the whole filter for a token
+ * the verified-token cache already holds, which is what repeat requests pay.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class JwtValidationBenchmark {
+
+    private static final String SECRET = "benchmark-only-secret-key-of-at-least-256-bits-for-hs256";
+
+    private static final MethodHandle VALIDATE_TOKEN = Beans.privateMethod(
+            JWTAuthenticationFilter.class, "validateToken", Claims.class, String.class);
+
+    private JWTAuthenticationFilter filter;
+    private String token;
+    private FakeRequestContext request;
+
+    @Setup
+    public void setUp() throws IOException {
+        // Neither the token nor its cache entry expires during a run
+        ConfigurationProvider config = Beans.configuration(Map.of(
+                "jwt.secret.key", SECRET,
+                "jwt.cache.max.ttl.seconds", String.valueOf(TimeUnit.DAYS.toSeconds(1))));
+        JWTConfiguration jwtConfig = Beans.inject(new JWTConfiguration(), "configProvider", config);
+        VerifiedTokenCache tokenCache = Beans.inject(new VerifiedTokenCache(), "jwtConfig", jwtConfig);
+        tokenCache.init();
+
+        filter = new JWTAuthenticationFilter();
+        Beans.inject(filter, "jwtConfig", jwtConfig);
+        Beans.inject(filter, "tokenCache", tokenCache);
+        filter.init();
+
+        Instant now = Instant.now();
+        token = Jwts.builder()
+                .setSubject("customer1@example.com")
+                .setIssuer("trustsphere")
+                .claim("roles", List.of("CUSTOMER"))
+                .setIssuedAt(Date.from(now))
+                .setExpiration(Date.from(now.plus(1, ChronoUnit.DAYS)))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .compact();
+
+        request = new FakeRequestContext("accounts/3f0c2a7e-9b1d-4c55-8e2f-6a7b8c9d0e1f",
+                Map.of("Authorization", "Bearer " + token));
+        filter.filter(request);
+        if (request.getAbortResponse() != null) {
+            throw new IllegalStateException("Benchmark token was rejected");
+        }
+    }
+
+    @Benchmark
+    public Claims validateToken() throws Throwable {
+        return (Claims) VALIDATE_TOKEN.invokeExact(filter, token);
+    }
+
+    @Benchmark
+    public FakeRequestContext filterCachedToken() throws IOException {
+        request.reset();
+        filter.filter(request);
+        return request;
+    }
+}
@@ -0,0 +1,78 @@
+package com.trustsphere.benchmarks;
+
+import com.trustsphere.benchmarks.support.Fixtures;
+import com.trustsphere.core.dto.TransactionDTO;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A transaction listing returned through the local and the remote business view inside one JVM.
+ * The local view hands the caller the bean's list; the remote view is pass-by-value, so the
+ * container copies the argument and the result the way GlassFish does, through Java
+ * serialization. The difference is what the REST resources save by injecting the local views.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Thread)
+public class LocalViewBenchmark {
+
+    @Param({"100", "1000"})
+    public int size;
+
+    private String userId;
+    private List<TransactionDTO> rows;
+
+    @Setup
+    public void setUp() {
+        userId = Fixtures.id(0);
+        rows = Fixtures.listOf(size, Fixtures::transactionDTO);
+    }
+
+    @Benchmark
+    public List<TransactionDTO> localView() {
+        return getTransactionsByUser(userId);
+    }
+
+    @Benchmark
+    public List<TransactionDTO> remoteView() throws IOException, ClassNotFoundException {
+        return copy((Serializable) getTransactionsByUser(copy(userId)));
+    }
+
+    // Stands in for the bean method; the query and mapping cost the same through either view
+    private List<TransactionDTO> getTransactionsByUser(String userId) {
+        return userId != null ? rows : List.of();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T copy(Serializable value) throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (T) in.readObject();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.trustsphere.benchmarks;
+
+import com.trustsphere.benchmarks.support.Beans;
+import com.trustsphere.ejb.metrics.MetricsRegistry;
+import com.trustsphere.ejb.metrics.Timer;
+import com.trustsphere.ejb.tracing.Span;
+import com.trustsphere.ejb.tracing.SpanKind;
+import com.trustsphere.ejb.tracing.Tracing;
+import com.trustsphere.rest.jfr.RateLimitDecisionEvent;
+import com.trustsphere.rest.tracing.InMemorySpanStore;
+
+import jdk.jfr.Recording;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What instrumentation adds to every request: recording a latency, a trace with one child span,
+ * and a JFR event that stays under its threshold. Compare against the per-request budget of the
+ * code being measured, not against zero.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class ObservabilityBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Metrics {
+
+        Timer timer;
+
+        @Setup
+        public void setUp() {
+            timer = new MetricsRegistry().timer("benchmark_seconds", "Benchmark timer", "method", "filter");
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Traces {
+
+        @Param({"1.0", "0.0"})
+        public double sampleRate;
+
+        @Setup
+        public void setUp() {
+            InMemorySpanStore store = new InMemorySpanStore();
+            Beans.inject(store, "configProvider", Beans.configuration(Map.of()));
+            store.init();
+            Tracing.configure(sampleRate, List.of(store));
+        }
+
+        @TearDown
+        public void tearDown() {
+            Tracing.configure(0.0, List.of());
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class FlightRecorder {
+
+        // none: no recording, so the event is disabled; threshold: enabled at 1 ms as in trustsphere.jfc
+        @Param({"none", "threshold"})
+        public String recording;
+
+        private Recording active;
+
+        @Setup
+        public void setUp() {
+            if ("threshold".equals(recording)) {
+                active = new Recording();
+                active.enable(RateLimitDecisionEvent.class).withThreshold(Duration.ofMillis(1)).withoutStackTrace();
+                active.start();
+            }
+        }
+
+        @TearDown
+        public void tearDown() {
+            if (active != null) {
+                active.close();
+            }
+        }
+    }
+
+    @Benchmark
+    public void timerRecord(Metrics metrics) {
+        metrics.timer.record(125_000L);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void timerRecordContended(Metrics metrics) {
+        metrics.timer.record(125_000L);
+    }
+
+    @Benchmark
+    public Span traceWithChildSpan(Traces traces) {
+        Span root = Tracing.startTrace("GET accounts/{id}", SpanKind.SERVER, null, false);
+        Span child = Tracing.startSpan("AccountService.getAccountById", SpanKind.INTERNAL);
+        if (child != null) {
+            child.setAttribute("layer", "service");
+            child.end();
+        }
+        root.setAttribute("http.status", 200);
+        root.end();
+        return root;
+    }
+
+    @Benchmark
+    public boolean jfrEvent(FlightRecorder flightRecorder) {
+        RateLimitDecisionEvent event = new RateLimitDecisionEvent();
+        event.begin();
+        event.end();
+        boolean commit = event.shouldCommit();
+        if (commit) {
+            event.backend = "local";
+            event.allowed = true;
+            event.commit();
+        }
+        return commit;
+    }
+}
@@ -0,0 +1,53 @@
+package com.trustsphere.benchmarks;
+
+import com.trustsphere.core.util.PasswordHasher;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Password hashing on registration and verification on login. Hashing includes drawing a salt
+ * from the shared {@code SecureRandom}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class PasswordHasherBenchmark {
+
+    private String password = "Corr3ct-Horse!";
+    private String wrongPassword = "Corr3ct-Horse?";
+    private String hashed;
+
+    @Setup
+    public void hashOnce() {
+        hashed = PasswordHasher.hashPassword(password);
+    }
+
+    @Benchmark
+    public String hash() {
+        return PasswordHasher.hashPassword(password);
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return PasswordHasher.verifyPassword(password, hashed);
+    }
+
+    @Benchmark
+    public boolean verifyWrongPassword() {
+        return PasswordHasher.verifyPassword(wrongPassword, hashed);
+    }
+}
@@ -0,0 +1,124 @@
+package com.trustsphere.benchmarks;
+
+import com.trustsphere.benchmarks.support.Beans;
+import com.trustsphere.benchmarks.support.FakeRequestContext;
+import com.trustsphere.rest.security.RateLimitFilter;
+
+import jakarta.enterprise.concurrent.ManagedScheduledExecutorService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One rate-limit decision per call from eight threads sharing a filter, as request threads do.
+ * With {@code clients=distinct} every thread cycles through its own client addresses; with
+ * {@code shared} all threads hit the same bucket, the worst case for CAS contention.
+ *
+ * The limits are set so high that every request is admitted: the benchmark measures the cost of
+ * the decision, not of building 429 responses.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@Threads(8)
+public class RateLimitFilterBenchmark {
+
+    private static final int CLIENTS_PER_THREAD = 1024;
+    private static final String PROXY = "172.16.0.1";
+
+    @State(Scope.Benchmark)
+    public static class Limiter {
+
+        @Param({"local", "shared"})
+        public String backend;
+
+        RateLimitFilter filter;
+        private ScheduledThreadPoolExecutor executor;
+
+        @Setup
+        public void setUp() {
+            executor = new ScheduledThreadPoolExecutor(1);
+            filter = new RateLimitFilter();
+            Beans.inject(filter, "configProvider", Beans.configuration(Map.of(
+                    "rate.limit.backend", backend,
+                    "rate.limit.shared.store", "memory",
+                    "rate.limit.requests.per.minute", String.valueOf(Integer.MAX_VALUE),
+                    "rate.limit.requests.per.hour", String.valueOf(Integer.MAX_VALUE),
+                    "rate.limit.trusted.proxies", PROXY)));
+            // Every request arrives through the load balancer, which names the client in X-Forwarded-For
+            Beans.inject(filter, "servletRequest", Beans.remoteAddress(PROXY));
+            Beans.inject(filter, "scheduler", Beans.managed(ManagedScheduledExecutorService.class, executor));
+            filter.init();
+        }
+
+        @TearDown
+        public void tearDown() {
+            filter.shutdown();
+            executor.shutdownNow();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Requests {
+
+        @Param({"distinct", "shared"})
+        public String clients;
+
+        private FakeRequestContext[] contexts;
+        private int next;
+
+        @Setup
+        public void setUp(ThreadParams threads) {
+            int count = "shared".equals(clients) ? 1 : CLIENTS_PER_THREAD;
+            contexts = new FakeRequestContext[count];
+            for (int i = 0; i < count; i++) {
+                String client = "shared".equals(clients)
+                        ? "203.0.113.7"
+                        : "10." + threads.getThreadIndex() + "." + (i >> 8) + "." + (i & 0xff);
+                contexts[i] = new FakeRequestContext("accounts/3f0c2a7e-9b1d-4c55-8e2f-6a7b8c9d0e1f/transactions",
+                        Map.of("X-Forwarded-For", client + ", " + PROXY));
+            }
+        }
+
+        @TearDown(Level.Iteration)
+        public void checkAdmitted() {
+            for (FakeRequestContext context : contexts) {
+                if (context.getAbortResponse() != null) {
+                    throw new IllegalStateException("Request was rate limited; the benchmark limits are too low");
+                }
+            }
+        }
+
+        FakeRequestContext next() {
+            FakeRequestContext context = contexts[next];
+            next = next + 1 == contexts.length ? 0 : next + 1;
+            return context;
+        }
+    }
+
+    @Benchmark
+    public FakeRequestContext filter(Limiter limiter, Requests requests) throws IOException {
+        FakeRequestContext context = requests.next();
+        limiter.filter.filter(context);
+        return context;
+    }
+}
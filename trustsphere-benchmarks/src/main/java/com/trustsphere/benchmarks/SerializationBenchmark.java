@@ -0,0 +1,113 @@
+package com.trustsphere.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.trustsphere.benchmarks.support.Fixtures;
+import com.trustsphere.rest.provider.BinaryMediaType;
+import com.trustsphere.rest.provider.CborEntityProvider;
+import com.trustsphere.rest.provider.JsonEntityWriter;
+import com.trustsphere.rest.provider.ProtobufEntityProvider;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing a listing response body: the JSON writer the API registers, a default-configured
+ * Jackson mapper for reference, and the CBOR and protobuf representations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Thread)
+public class SerializationBenchmark {
+
+    private static final Annotation[] NO_ANNOTATIONS = new Annotation[0];
+    private static final MediaType CBOR = MediaType.valueOf(BinaryMediaType.APPLICATION_CBOR);
+    private static final MediaType PROTOBUF = MediaType.valueOf(BinaryMediaType.APPLICATION_PROTOBUF);
+
+    @Param({"account", "transaction", "auditLog"})
+    public String dto;
+
+    @Param({"10", "100", "1000"})
+    public int size;
+
+    private List<?> rows;
+    private final JsonEntityWriter json = new JsonEntityWriter();
+    private final CborEntityProvider cbor = new CborEntityProvider();
+    private final ProtobufEntityProvider protobuf = new ProtobufEntityProvider();
+    private final ObjectMapper jacksonDefaults = JsonMapper.builder().addModule(new JavaTimeModule()).build();
+    private final Sink sink = new Sink();
+
+    @Setup
+    public void setUp() {
+        switch (dto) {
+            case "account":
+                rows = Fixtures.listOf(size, Fixtures::accountDTO);
+                break;
+            case "transaction":
+                rows = Fixtures.listOf(size, Fixtures::transactionDTO);
+                break;
+            case "auditLog":
+                rows = Fixtures.listOf(size, Fixtures::auditLogDTO);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown dto " + dto);
+        }
+    }
+
+    @Benchmark
+    public int json() throws IOException {
+        return write(json, MediaType.APPLICATION_JSON_TYPE);
+    }
+
+    @Benchmark
+    public int jacksonDefaults() throws IOException {
+        sink.reset();
+        jacksonDefaults.writeValue(sink, rows);
+        return sink.size();
+    }
+
+    @Benchmark
+    public int cbor() throws IOException {
+        return write(cbor, CBOR);
+    }
+
+    @Benchmark
+    public int protobuf() throws IOException {
+        return write(protobuf, PROTOBUF);
+    }
+
+    private int write(MessageBodyWriter<Object> writer, MediaType mediaType) throws IOException {
+        sink.reset();
+        writer.writeTo(rows, List.class, List.class, NO_ANNOTATIONS, mediaType, null, sink);
+        return sink.size();
+    }
+
+    // Reused across invocations, so what is measured is the encoding and not buffer growth
+    private static final class Sink extends ByteArrayOutputStream {
+
+        private Sink() {
+            super(256 * 1024);
+        }
+    }
+}
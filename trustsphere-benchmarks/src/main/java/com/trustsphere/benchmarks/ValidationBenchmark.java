@@ -0,0 +1,90 @@
+package com.trustsphere.benchmarks;
+
+import com.trustsphere.core.util.ValidationUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The validators every create and transfer request runs through. Inputs are valid, so each
+ * pattern is matched to the end rather than rejected at the first character.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+
+    // Not final, so the JIT cannot fold the inputs into constants
+    private String email = "customer.name+alerts@mail.example.com";
+    private String accountNumber = "TS0001234567";
+    private String phoneNumber = "+447700900123";
+    private String name = "Anne-Marie O'Neill";
+    private String referenceNumber = "REF000123456";
+    private String password = "Corr3ct-Horse!";
+    private String uuid = "3f0c2a7e-9b1d-4c55-8e2f-6a7b8c9d0e1f";
+    private String markup = "  Payment for <b>invoice</b> 42 <script>alert(1)</script> onclick=x ";
+    private BigDecimal amount = new BigDecimal("1250.75");
+
+    @Benchmark
+    public boolean email() {
+        return ValidationUtils.isValidEmail(email);
+    }
+
+    @Benchmark
+    public boolean accountNumber() {
+        return ValidationUtils.isValidAccountNumber(accountNumber);
+    }
+
+    @Benchmark
+    public boolean phoneNumber() {
+        return ValidationUtils.isValidPhoneNumber(phoneNumber);
+    }
+
+    @Benchmark
+    public boolean name() {
+        return ValidationUtils.isValidName(name);
+    }
+
+    @Benchmark
+    public boolean referenceNumber() {
+        return ValidationUtils.isValidReferenceNumber(referenceNumber);
+    }
+
+    @Benchmark
+    public boolean transactionAmount() {
+        return ValidationUtils.isValidTransactionAmount(amount);
+    }
+
+    @Benchmark
+    public boolean accountBalance() {
+        return ValidationUtils.isValidAccountBalance(amount);
+    }
+
+    @Benchmark
+    public boolean password() {
+        return ValidationUtils.isValidPassword(password);
+    }
+
+    @Benchmark
+    public boolean uuid() {
+        return ValidationUtils.isValidUUID(uuid);
+    }
+
+    @Benchmark
+    public String sanitize() {
+        return ValidationUtils.sanitizeString(markup);
+    }
+}
@@ -0,0 +1,186 @@
+package com.trustsphere.benchmarks.report;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares a JMH JSON result file with a stored baseline and writes a Markdown report.
+ *
+ * A benchmark counts as changed only when its score moved by more than the threshold and the
+ * two runs' confidence intervals do not overlap; anything else is reported as noise. Whether
+ * higher is better follows the mode: throughput scores should rise, time scores should fall.
+ *
+ * Usage: {@code CompareResults <baseline.json> <current.json> <report.md> [threshold%] [--fail-on-regression]}
+ */
+public final class CompareResults {
+
+    private static final double DEFAULT_THRESHOLD_PERCENT = 5.0;
+    private static final String FAIL_ON_REGRESSION = "--fail-on-regression";
+
+    private CompareResults() {}
+
+    public static void main(String[] args) throws IOException {
+        List<String> positional = new ArrayList<>();
+        boolean failOnRegression = false;
+        for (String arg : args) {
+            if (FAIL_ON_REGRESSION.equals(arg)) {
+                failOnRegression = true;
+            } else {
+                positional.add(arg);
+            }
+        }
+        if (positional.size() < 3) {
+            System.err.println("Usage: CompareResults <baseline.json> <current.json> <report.md> [threshold%] ["
+                    + FAIL_ON_REGRESSION + "]");
+            System.exit(2);
+        }
+
+        Path baselineFile = Path.of(positional.get(0));
+        Path currentFile = Path.of(positional.get(1));
+        Path reportFile = Path.of(positional.get(2));
+        double threshold = positional.size() > 3 ? Double.parseDouble(positional.get(3)) : DEFAULT_THRESHOLD_PERCENT;
+
+        Map<String, Result> current = read(currentFile);
+        Map<String, Result> baseline = Files.exists(baselineFile) ? read(baselineFile) : Map.of();
+
+        StringWriter text = new StringWriter();
+        int regressions = report(new PrintWriter(text), baselineFile, baseline, current, threshold);
+
+        Files.createDirectories(reportFile.toAbsolutePath().getParent());
+        Files.writeString(reportFile, text.toString(), StandardCharsets.UTF_8);
+        System.out.print(text);
+        System.out.println("Report written to " + reportFile);
+
+        if (failOnRegression && regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    // Returns the number of regressions
+    static int report(PrintWriter out, Path baselineFile, Map<String, Result> baseline,
+                      Map<String, Result> current, double threshold) {
+        out.println("# Benchmark comparison");
+        out.println();
+        if (baseline.isEmpty()) {
+            out.println("No baseline results in `" + baselineFile + "`; the results below are not compared. "
+                    + "See `trustsphere-benchmarks/baselines/README.md` to record one.");
+            out.println();
+        } else {
+            out.printf(Locale.ROOT, "Baseline `%s`, threshold %.1f%%.%n%n", baselineFile, threshold);
+        }
+
+        out.println("| Benchmark | Mode | Baseline | Current | Change | Verdict |");
+        out.println("| --- | --- | ---: | ---: | ---: | --- |");
+
+        int regressions = 0;
+        int improvements = 0;
+        for (Map.Entry<String, Result> entry : current.entrySet()) {
+            Result now = entry.getValue();
+            Result before = baseline.get(entry.getKey());
+            String verdict;
+            String change = "";
+            if (before == null) {
+                verdict = baseline.isEmpty() ? "" : "new";
+            } else if (!before.unit.equals(now.unit) || !before.mode.equals(now.mode)) {
+                verdict = "not comparable (" + before.mode + " " + before.unit + " in baseline)";
+            } else {
+                double percent = (now.score - before.score) / before.score * 100.0;
+                change = String.format(Locale.ROOT, "%+.1f%%", percent);
+                boolean better = now.higherIsBetter() ? percent > 0 : percent < 0;
+                if (Math.abs(percent) <= threshold || now.overlaps(before)) {
+                    verdict = "noise";
+                } else if (better) {
+                    verdict = "**improvement**";
+                    improvements++;
+                } else {
+                    verdict = "**regression**";
+                    regressions++;
+                }
+            }
+            out.printf(Locale.ROOT, "| %s | %s | %s | %s | %s | %s |%n", entry.getKey(), now.mode,
+                    before != null ? before.format() : "", now.format(), change, verdict);
+        }
+
+        int notRun = 0;
+        for (String key : baseline.keySet()) {
+            if (!current.containsKey(key)) {
+                notRun++;
+            }
+        }
+
+        out.println();
+        out.printf("%d regression(s), %d improvement(s)", regressions, improvements);
+        if (notRun > 0) {
+            out.printf(", %d baseline benchmark(s) not run", notRun);
+        }
+        out.println(".");
+        out.flush();
+        return regressions;
+    }
+
+    // Results keyed by benchmark name without the package, plus its parameters
+    static Map<String, Result> read(Path file) throws IOException {
+        JsonNode root = new ObjectMapper().readTree(file.toFile());
+        Map<String, Result> results = new TreeMap<>();
+        for (JsonNode run : root) {
+            String name = run.path("benchmark").asText();
+            name = name.substring(name.lastIndexOf('.', name.lastIndexOf('.') - 1) + 1);
+
+            Map<String, String> params = new LinkedHashMap<>();
+            Iterator<Map.Entry<String, JsonNode>> fields = run.path("params").fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> param = fields.next();
+                params.put(param.getKey(), param.getValue().asText());
+            }
+            String key = params.isEmpty() ? name : name + " " + params;
+
+            JsonNode primary = run.path("primaryMetric");
+            double error = primary.path("scoreError").asDouble(Double.NaN);
+            results.put(key, new Result(run.path("mode").asText(), primary.path("score").asDouble(),
+                    // A single fork and iteration has no error estimate
+                    Double.isNaN(error) ? 0.0 : error, primary.path("scoreUnit").asText()));
+        }
+        return results;
+    }
+
+    static final class Result {
+
+        private final String mode;
+        private final double score;
+        private final double error;
+        private final String unit;
+
+        Result(String mode, double score, double error, String unit) {
+            this.mode = mode;
+            this.score = score;
+            this.error = error;
+            this.unit = unit;
+        }
+
+        boolean higherIsBetter() {
+            return "thrpt".equals(mode);
+        }
+
+        boolean overlaps(Result other) {
+            return score - error <= other.score + other.error && other.score - other.error <= score + error;
+        }
+
+        String format() {
+            return String.format(Locale.ROOT, "%.3f ± %.3f %s", score, error, unit);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.trustsphere.benchmarks.support;
+
+import com.trustsphere.rest.security.ConfigurationProvider;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Wires beans by hand the way the container would, so their hot paths can be measured without
+ * a server. Only the injection points a benchmark exercises are filled in.
+ */
+public final class Beans {
+
+    private Beans() {}
+
+    /**
+     * A configuration with these properties on top of {@code application.properties}. The
+     * provider copies system properties when it is created, so they are only set for that moment.
+     */
+    public static ConfigurationProvider configuration(Map<String, String> overrides) {
+        overrides.forEach(System::setProperty);
+        try {
+            return new ConfigurationProvider();
+        } finally {
+            overrides.keySet().forEach(System::clearProperty);
+        }
+    }
+
+    // Sets an injected field, declared on the bean's class or one of its superclasses
+    public static <T> T inject(T bean, String fieldName, Object value) {
+        for (Class<?> type = bean.getClass(); type != null; type = type.getSuperclass()) {
+            try {
+                Field field = type.getDeclaredField(fieldName);
+                field.setAccessible(true);
+                field.set(bean, value);
+                return bean;
+            } catch (NoSuchFieldException e) {
+                // keep looking in the superclass
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot inject " + fieldName + " into " + bean.getClass().getName(), e);
+            }
+        }
+        throw new IllegalArgumentException(bean.getClass().getName() + " has no field " + fieldName);
+    }
+
+    /**
+     * A handle on a private method, so it can be measured on its own; invoke it with
+     * {@code invokeExact} and the exact declared types to keep the call free of boxing.
+     */
+    public static MethodHandle privateMethod(Class<?> owner, String name, Class<?> returnType, Class<?>... parameterTypes) {
+        try {
+            return MethodHandles.privateLookupIn(owner, MethodHandles.lookup())
+                    .findVirtual(owner, name, MethodType.methodType(returnType, parameterTypes));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access " + owner.getName() + "." + name, e);
+        }
+    }
+
+    // The servlet request of a connection from this address; only getRemoteAddr is answered
+    public static HttpServletRequest remoteAddress(String address) {
+        Object proxy = Proxy.newProxyInstance(HttpServletRequest.class.getClassLoader(),
+                new Class<?>[] {HttpServletRequest.class}, (instance, method, args) -> {
+                    if (!"getRemoteAddr".equals(method.getName())) {
+                        throw new UnsupportedOperationException(method.toString());
+                    }
+                    return address;
+                });
+        return (HttpServletRequest) proxy;
+    }
+
+    /**
+     * Exposes a plain executor as one of the container's managed executor interfaces. Calls to
+     * methods only the managed interface declares fail.
+     */
+    public static <T> T managed(Class<T> managedType, ExecutorService delegate) {
+        Object proxy = Proxy.newProxyInstance(managedType.getClassLoader(), new Class<?>[] {managedType},
+                (instance, method, args) -> {
+                    if (!method.getDeclaringClass().isInstance(delegate)) {
+                        throw new UnsupportedOperationException(method.toString());
+                    }
+                    try {
+                        return method.invoke(delegate, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+        return managedType.cast(proxy);
+    }
+}
@@ -0,0 +1,197 @@
+package com.trustsphere.benchmarks.support;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.core.Cookie;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.SecurityContext;
+import jakarta.ws.rs.core.UriInfo;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.security.Principal;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The parts of a pre-matching request the security filters read and write: path, headers,
+ * security context, properties and the abort response. A plain class rather than a mock, so
+ * the measured cost is the filter's and not the test double's.
+ */
+public final class FakeRequestContext implements ContainerRequestContext {
+
+    public static final SecurityContext ANONYMOUS = new SecurityContext() {
+        @Override
+        public Principal getUserPrincipal() {
+            return null;
+        }
+
+        @Override
+        public boolean isUserInRole(String role) {
+            return false;
+        }
+
+        @Override
+        public boolean isSecure() {
+            return true;
+        }
+
+        @Override
+        public String getAuthenticationScheme() {
+            return null;
+        }
+    };
+
+    private final UriInfo uriInfo;
+    private final Map<String, String> headers;
+    private final Map<String, Object> properties = new HashMap<>();
+    private SecurityContext securityContext = ANONYMOUS;
+    private Response abortResponse;
+
+    public FakeRequestContext(String path, Map<String, String> headers) {
+        this.uriInfo = new FakeUriInfo(path);
+        this.headers = Map.copyOf(headers);
+    }
+
+    public Response getAbortResponse() {
+        return abortResponse;
+    }
+
+    // Makes the context reusable for the next invocation
+    public void reset() {
+        securityContext = ANONYMOUS;
+        abortResponse = null;
+        properties.clear();
+    }
+
+    @Override
+    public UriInfo getUriInfo() {
+        return uriInfo;
+    }
+
+    @Override
+    public String getHeaderString(String name) {
+        return headers.get(name);
+    }
+
+    @Override
+    public SecurityContext getSecurityContext() {
+        return securityContext;
+    }
+
+    @Override
+    public void setSecurityContext(SecurityContext context) {
+        this.securityContext = context;
+    }
+
+    @Override
+    public void abortWith(Response response) {
+        this.abortResponse = response;
+    }
+
+    @Override
+    public Object getProperty(String name) {
+        return properties.get(name);
+    }
+
+    @Override
+    public Collection<String> getPropertyNames() {
+        return properties.keySet();
+    }
+
+    @Override
+    public void setProperty(String name, Object object) {
+        properties.put(name, object);
+    }
+
+    @Override
+    public void removeProperty(String name) {
+        properties.remove(name);
+    }
+
+    @Override
+    public String getMethod() {
+        return "GET";
+    }
+
+    @Override
+    public void setRequestUri(URI requestUri) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void setRequestUri(URI baseUri, URI requestUri) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Request getRequest() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void setMethod(String method) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public MultivaluedMap<String, String> getHeaders() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Date getDate() {
+        return null;
+    }
+
+    @Override
+    public Locale getLanguage() {
+        return null;
+    }
+
+    @Override
+    public int getLength() {
+        return -1;
+    }
+
+    @Override
+    public MediaType getMediaType() {
+        return null;
+    }
+
+    @Override
+    public List<MediaType> getAcceptableMediaTypes() {
+        return List.of(MediaType.WILDCARD_TYPE);
+    }
+
+    @Override
+    public List<Locale> getAcceptableLanguages() {
+        return List.of();
+    }
+
+    @Override
+    public Map<String, Cookie> getCookies() {
+        return Map.of();
+    }
+
+    @Override
+    public boolean hasEntity() {
+        return false;
+    }
+
+    @Override
+    public InputStream getEntityStream() {
+        return InputStream.nullInputStream();
+    }
+
+    @Override
+    public void setEntityStream(InputStream input) {
+        throw new UnsupportedOperationException();
+    }
+}
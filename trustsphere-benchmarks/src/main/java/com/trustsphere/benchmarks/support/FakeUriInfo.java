@@ -0,0 +1,114 @@
+package com.trustsphere.benchmarks.support;
+
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.PathSegment;
+import jakarta.ws.rs.core.UriBuilder;
+import jakarta.ws.rs.core.UriInfo;
+
+import java.net.URI;
+import java.util.List;
+
+// Pre-matching filters only read the path; everything else is out of scope for the benchmarks
+final class FakeUriInfo implements UriInfo {
+
+    private final String path;
+
+    FakeUriInfo(String path) {
+        this.path = path;
+    }
+
+    @Override
+    public String getPath() {
+        return path;
+    }
+
+    @Override
+    public String getPath(boolean decode) {
+        return path;
+    }
+
+    @Override
+    public List<PathSegment> getPathSegments() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<PathSegment> getPathSegments(boolean decode) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public URI getRequestUri() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public UriBuilder getRequestUriBuilder() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public URI getAbsolutePath() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public UriBuilder getAbsolutePathBuilder() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public URI getBaseUri() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public UriBuilder getBaseUriBuilder() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public MultivaluedMap<String, String> getPathParameters() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public MultivaluedMap<String, String> getPathParameters(boolean decode) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public MultivaluedMap<String, String> getQueryParameters() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public MultivaluedMap<String, String> getQueryParameters(boolean decode) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<String> getMatchedURIs() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<String> getMatchedURIs(boolean decode) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<Object> getMatchedResources() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public URI resolve(URI uri) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public URI relativize(URI uri) {
+        throw new UnsupportedOperationException();
+    }
+}
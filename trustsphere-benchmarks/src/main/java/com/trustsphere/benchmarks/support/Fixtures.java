@@ -0,0 +1,154 @@
+package com.trustsphere.benchmarks.support;
+
+import com.trustsphere.core.dto.AccountDTO;
+import com.trustsphere.core.dto.AuditLogDTO;
+import com.trustsphere.core.dto.TransactionDTO;
+import com.trustsphere.core.entity.Account;
+import com.trustsphere.core.entity.AuditLog;
+import com.trustsphere.core.entity.Notification;
+import com.trustsphere.core.entity.Role;
+import com.trustsphere.core.entity.Transaction;
+import com.trustsphere.core.entity.User;
+import com.trustsphere.core.entity.base.BaseAuditEntity;
+import com.trustsphere.core.enums.AccountStatus;
+import com.trustsphere.core.enums.NotificationType;
+import com.trustsphere.core.enums.SeverityLevel;
+import com.trustsphere.core.enums.TransactionStatus;
+import com.trustsphere.core.enums.TransactionType;
+import com.trustsphere.core.enums.UserStatus;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.IntFunction;
+
+/**
+ * Entities and DTOs shaped like production rows: UUID ids, two-decimal amounts and realistic
+ * string lengths. Values are derived from the index, so every run serializes the same bytes.
+ */
+public final class Fixtures {
+
+    private static final Instant EPOCH = Instant.parse("2024-01-01T00:00:00Z");
+
+    private Fixtures() {}
+
+    public static String id(int i) {
+        return new UUID(0x5452555354L, i).toString();
+    }
+
+    public static User user(int i) {
+        User user = new User("customer" + i + "@example.com", "Customer Number " + i,
+                "$2a$12$abcdefghijklmnopqrstuuO9mqKCk7OKjQaCHsYVvxuk4vTO1u0xS", UserStatus.ACTIVE);
+        audit(user, i);
+        Set<Role> roles = new LinkedHashSet<>();
+        roles.add(role("CUSTOMER", 1));
+        if (i % 10 == 0) {
+            roles.add(role("TELLER", 2));
+        }
+        user.setRoles(roles);
+        return user;
+    }
+
+    public static Account account(int i) {
+        Account account = new Account(String.format("TS%010d", i), amount(i), AccountStatus.ACTIVE, user(i));
+        audit(account, i);
+        return account;
+    }
+
+    public static Transaction transaction(int i) {
+        Transaction transaction = new Transaction(account(i), account(i + 1), amount(i),
+                TransactionType.TRANSFER, TransactionStatus.COMPLETED);
+        transaction.setTimestamp(EPOCH.plusSeconds(i));
+        transaction.setReferenceNumber(String.format("REF%012d", i));
+        audit(transaction, i);
+        return transaction;
+    }
+
+    public static AuditLog auditLog(int i) {
+        AuditLog log = new AuditLog(id(i), "TRANSFER", "Account", SeverityLevel.INFO);
+        log.setResourceId(id(i + 1));
+        log.setDetails("Transfer of " + amount(i) + " from " + id(i) + " to " + id(i + 1));
+        log.setIpAddress("10.0." + (i >> 8 & 0xff) + "." + (i & 0xff));
+        log.setUserAgent("Mozilla/5.0 (X11; Linux x86_64) TrustSphereClient/1.0");
+        log.setTimestamp(EPOCH.plusSeconds(i));
+        audit(log, i);
+        return log;
+    }
+
+    public static Notification notification(int i) {
+        Notification notification = new Notification();
+        notification.setUserId(id(i));
+        notification.setType(NotificationType.SYSTEM);
+        notification.setMessage("Your statement for account TS" + i + " is ready");
+        notification.setTimestamp(EPOCH.plusSeconds(i));
+        audit(notification, i);
+        return notification;
+    }
+
+    public static AccountDTO accountDTO(int i) {
+        AccountDTO dto = new AccountDTO();
+        dto.setId(id(i));
+        dto.setAccountNumber(String.format("TS%010d", i));
+        dto.setBalance(amount(i));
+        dto.setStatus(AccountStatus.ACTIVE);
+        dto.setUserId(id(i + 1));
+        dto.setCreatedAt(EPOCH.plusSeconds(i));
+        dto.setUpdatedAt(EPOCH.plusSeconds(i + 60));
+        return dto;
+    }
+
+    public static TransactionDTO transactionDTO(int i) {
+        TransactionDTO dto = new TransactionDTO();
+        dto.setId(id(i));
+        dto.setSourceAccountId(id(i + 1));
+        dto.setTargetAccountId(id(i + 2));
+        dto.setAmount(amount(i));
+        dto.setType(TransactionType.TRANSFER);
+        dto.setStatus(TransactionStatus.COMPLETED);
+        dto.setTimestamp(EPOCH.plusSeconds(i));
+        return dto;
+    }
+
+    public static AuditLogDTO auditLogDTO(int i) {
+        AuditLogDTO dto = new AuditLogDTO();
+        dto.setId(id(i));
+        dto.setActorUserId(id(i + 1));
+        dto.setAction("TRANSFER");
+        dto.setResourceType("Account");
+        dto.setResourceId(id(i + 2));
+        dto.setSeverityLevel(SeverityLevel.INFO);
+        dto.setDetails("Transfer of " + amount(i) + " from " + id(i + 2) + " to " + id(i + 3));
+        dto.setIpAddress("10.0." + (i >> 8 & 0xff) + "." + (i & 0xff));
+        dto.setUserAgent("Mozilla/5.0 (X11; Linux x86_64) TrustSphereClient/1.0");
+        dto.setTimestamp(EPOCH.plusSeconds(i));
+        return dto;
+    }
+
+    public static <T> List<T> listOf(int size, IntFunction<T> factory) {
+        List<T> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(factory.apply(i));
+        }
+        return list;
+    }
+
+    private static BigDecimal amount(int i) {
+        return BigDecimal.valueOf(1_000_00L + i * 7_919L % 5_000_000L, 2);
+    }
+
+    private static Role role(String name, int level) {
+        Role role = new Role(name, level);
+        role.setId(id(-1 - level));
+        return role;
+    }
+
+    private static void audit(BaseAuditEntity entity, int i) {
+        entity.setId(id(i));
+        entity.setCreatedAt(EPOCH.plusSeconds(i));
+        entity.setUpdatedAt(EPOCH.plusSeconds(i + 60));
+    }
+}
@@ -0,0 +1,42 @@
+package com.trustsphere.core.dto;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+
+public class CursorPageDTO<T> implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private List<T> items;
+    private String next;
+
+    public CursorPageDTO() {}
+
+    public CursorPageDTO(List<T> items, String next) {
+        this.items = items;
+        this.next = next;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    // Cursor for the following page, or null when this is the last page
+    public String getNext() {
+        return next;
+    }
+
+    public void setNext(String next) {
+        this.next = next;
+    }
+
+    public boolean isHasNext() {
+        return next != null;
+    }
+}
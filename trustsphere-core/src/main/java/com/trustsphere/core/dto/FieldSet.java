@@ -0,0 +1,86 @@
+package com.trustsphere.core.dto;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Sparse fieldset requested by a client through {@code ?fields=}. Names are DTO property names;
+ * {@code id} is always included so results stay addressable. An absent or blank selection means
+ * every field.
+ */
+public final class FieldSet implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private static final FieldSet ALL = new FieldSet(null);
+
+    // Null when every field is selected
+    private final Set<String> names;
+
+    private FieldSet(Set<String> names) {
+        this.names = names;
+    }
+
+    public static FieldSet all() {
+        return ALL;
+    }
+
+    /**
+     * Parses a comma-separated selection against the properties of {@code dtoType}.
+     * Throws IllegalArgumentException naming the first unknown field.
+     */
+    public static FieldSet parse(String fields, Class<?> dtoType) {
+        if (fields == null || fields.trim().isEmpty()) {
+            return ALL;
+        }
+        Set<String> names = new LinkedHashSet<>();
+        names.add("id");
+        for (String raw : fields.split(",")) {
+            String name = raw.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!isProperty(dtoType, name)) {
+                throw new IllegalArgumentException("Unknown field: " + name);
+            }
+            names.add(name);
+        }
+        return new FieldSet(Collections.unmodifiableSet(names));
+    }
+
+    public static FieldSet orAll(FieldSet fields) {
+        return fields != null ? fields : ALL;
+    }
+
+    public boolean includes(String name) {
+        return names == null || names.contains(name);
+    }
+
+    public boolean isAll() {
+        return names == null;
+    }
+
+    public Set<String> getNames() {
+        return names;
+    }
+
+    private static boolean isProperty(Class<?> dtoType, String name) {
+        try {
+            Field field = dtoType.getDeclaredField(name);
+            return !Modifier.isStatic(field.getModifiers());
+        } catch (NoSuchFieldException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return names == null ? "*" : String.join(",", names);
+    }
+}
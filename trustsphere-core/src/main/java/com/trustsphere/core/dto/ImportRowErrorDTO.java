@@ -0,0 +1,46 @@
+package com.trustsphere.core.dto;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+public class ImportRowErrorDTO implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private long rowNumber;
+    private String code;
+    private String message;
+
+    public ImportRowErrorDTO() {}
+
+    public ImportRowErrorDTO(long rowNumber, String code, String message) {
+        this.rowNumber = rowNumber;
+        this.code = code;
+        this.message = message;
+    }
+
+    public long getRowNumber() {
+        return rowNumber;
+    }
+
+    public void setRowNumber(long rowNumber) {
+        this.rowNumber = rowNumber;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
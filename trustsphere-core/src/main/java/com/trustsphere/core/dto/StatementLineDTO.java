@@ -0,0 +1,102 @@
+package com.trustsphere.core.dto;
+
+import com.trustsphere.core.enums.TransactionType;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+
+public class StatementLineDTO implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private String transactionId;
+    private Instant timestamp;
+    private TransactionType type;
+    private BigDecimal amount;
+    private String sourceAccountId;
+    private String targetAccountId;
+    private String referenceNumber;
+    private String description;
+
+    public StatementLineDTO() {}
+
+    // Used by JPQL constructor expressions so statement reads skip entity hydration
+    public StatementLineDTO(String transactionId, Instant timestamp, TransactionType type, BigDecimal amount,
+                            String sourceAccountId, String targetAccountId, String referenceNumber, String description) {
+        this.transactionId = transactionId;
+        this.timestamp = timestamp;
+        this.type = type;
+        this.amount = amount;
+        this.sourceAccountId = sourceAccountId;
+        this.targetAccountId = targetAccountId;
+        this.referenceNumber = referenceNumber;
+        this.description = description;
+    }
+
+    public String getTransactionId() {
+        return transactionId;
+    }
+
+    public void setTransactionId(String transactionId) {
+        this.transactionId = transactionId;
+    }
+
+    public Instant getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(Instant timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public TransactionType getType() {
+        return type;
+    }
+
+    public void setType(TransactionType type) {
+        this.type = type;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public String getSourceAccountId() {
+        return sourceAccountId;
+    }
+
+    public void setSourceAccountId(String sourceAccountId) {
+        this.sourceAccountId = sourceAccountId;
+    }
+
+    public String getTargetAccountId() {
+        return targetAccountId;
+    }
+
+    public void setTargetAccountId(String targetAccountId) {
+        this.targetAccountId = targetAccountId;
+    }
+
+    public String getReferenceNumber() {
+        return referenceNumber;
+    }
+
+    public void setReferenceNumber(String referenceNumber) {
+        this.referenceNumber = referenceNumber;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+}
@@ -0,0 +1,122 @@
+package com.trustsphere.core.dto;
+
+import com.trustsphere.core.enums.TransactionStatus;
+import com.trustsphere.core.enums.TransactionType;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Filters for transaction search. Every field is optional; set fields are combined with AND.
+ * {@code accountId} matches either side of a transaction, {@code from} is inclusive and {@code to} exclusive.
+ */
+public class TransactionSearchCriteria implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private String accountId;
+    private String sourceAccountId;
+    private String targetAccountId;
+    private TransactionStatus status;
+    private TransactionType type;
+    private BigDecimal minAmount;
+    private BigDecimal maxAmount;
+    private Instant from;
+    private Instant to;
+
+    public String getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(String accountId) {
+        this.accountId = accountId;
+    }
+
+    public String getSourceAccountId() {
+        return sourceAccountId;
+    }
+
+    public void setSourceAccountId(String sourceAccountId) {
+        this.sourceAccountId = sourceAccountId;
+    }
+
+    public String getTargetAccountId() {
+        return targetAccountId;
+    }
+
+    public void setTargetAccountId(String targetAccountId) {
+        this.targetAccountId = targetAccountId;
+    }
+
+    public TransactionStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TransactionStatus status) {
+        this.status = status;
+    }
+
+    public TransactionType getType() {
+        return type;
+    }
+
+    public void setType(TransactionType type) {
+        this.type = type;
+    }
+
+    public BigDecimal getMinAmount() {
+        return minAmount;
+    }
+
+    public void setMinAmount(BigDecimal minAmount) {
+        this.minAmount = minAmount;
+    }
+
+    public BigDecimal getMaxAmount() {
+        return maxAmount;
+    }
+
+    public void setMaxAmount(BigDecimal maxAmount) {
+        this.maxAmount = maxAmount;
+    }
+
+    public Instant getFrom() {
+        return from;
+    }
+
+    public void setFrom(Instant from) {
+        this.from = from;
+    }
+
+    public Instant getTo() {
+        return to;
+    }
+
+    public void setTo(Instant to) {
+        this.to = to;
+    }
+
+    // True when an account, status or type filter can drive an index range scan
+    public boolean isAnchored() {
+        return accountId != null || sourceAccountId != null || targetAccountId != null
+                || status != null || type != null;
+    }
+
+    @Override
+    public String toString() {
+        return "TransactionSearchCriteria{" +
+                "accountId='" + accountId + '\'' +
+                ", sourceAccountId='" + sourceAccountId + '\'' +
+                ", targetAccountId='" + targetAccountId + '\'' +
+                ", status=" + status +
+                ", type=" + type +
+                ", minAmount=" + minAmount +
+                ", maxAmount=" + maxAmount +
+                ", from=" + from +
+                ", to=" + to +
+                '}';
+    }
+}
@@ -13,6 +13,14 @@ import java.math.BigDecimal;
 import java.util.Set;
 
 @NamedQueries({
+        @NamedQuery(
+                name = "Account.findUpdatedAt",
+                query = "SELECT a.updatedAt FROM Account a WHERE a.id = :id"
+        ),
+        @NamedQuery(
+                name = "Account.findOwnerId",
+                query = "SELECT a.user.id FROM Account a WHERE a.id = :id"
+        ),
         @NamedQuery(
                 name = "Account.findByAccountNumber",
                 query = "SELECT a FROM Account a WHERE a.accountNumber = :accountNumber"
@@ -24,6 +32,19 @@ import java.util.Set;
         @NamedQuery(
                 name = "Account.findActiveByUserId",
                 query = "SELECT a FROM Account a WHERE a.user.id = :userId AND a.status = com.trustsphere.core.enums.AccountStatus.ACTIVE"
+        ),
+        @NamedQuery(
+                name = "Account.findClosingPage",
+                query = "SELECT a.id, a.balance, " +
+                        "(SELECT COALESCE(SUM(i.amount), 0) FROM Transaction i WHERE i.targetAccount = a " +
+                        "AND i.status = com.trustsphere.core.enums.TransactionStatus.COMPLETED AND i.timestamp >= :since), " +
+                        "(SELECT COALESCE(SUM(o.amount), 0) FROM Transaction o WHERE o.sourceAccount = a " +
+                        "AND o.status = com.trustsphere.core.enums.TransactionStatus.COMPLETED AND o.timestamp >= :since) " +
+                        "FROM Account a WHERE a.id > :afterId ORDER BY a.id"
+        ),
+        @NamedQuery(
+                name = "Account.findExistingAccountNumbers",
+                query = "SELECT a.accountNumber FROM Account a WHERE a.accountNumber IN :accountNumbers"
         )
 })
 @Entity
@@ -0,0 +1,92 @@
+package com.trustsphere.core.entity;
+
+import com.trustsphere.core.entity.base.BaseAuditEntity;
+import com.trustsphere.core.enums.ActivityDirection;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * Denormalized index of transaction legs: one row per (account, direction) a transaction touches.
+ * Lets user and account history be read with a single index range scan instead of joining
+ * transactions to both accounts and their owners.
+ */
+@NamedQueries({
+        @NamedQuery(
+                name = "AccountActivity.findTransactionsByUserId",
+                query = "SELECT a.transaction FROM AccountActivity a WHERE a.userId = :userId " +
+                        "ORDER BY a.timestamp DESC, a.transaction.id DESC"
+        ),
+        @NamedQuery(
+                name = "AccountActivity.findTransactionsByUserIdBefore",
+                query = "SELECT a.transaction FROM AccountActivity a WHERE a.userId = :userId " +
+                        "AND (a.timestamp < :beforeTs OR (a.timestamp = :beforeTs AND a.transaction.id < :beforeId)) " +
+                        "ORDER BY a.timestamp DESC, a.transaction.id DESC"
+        ),
+        @NamedQuery(
+                name = "AccountActivity.findUnindexedTransactions",
+                query = "SELECT t.id, t.timestamp, s.id, su.id, tg.id, tu.id FROM Transaction t " +
+                        "LEFT JOIN t.sourceAccount s LEFT JOIN s.user su LEFT JOIN t.targetAccount tg LEFT JOIN tg.user tu " +
+                        "WHERE t.id > :afterId AND NOT EXISTS (SELECT 1 FROM AccountActivity a WHERE a.transaction = t) " +
+                        "ORDER BY t.id"
+        )
+})
+@Entity
+@Table(name = "account_activity", indexes = {
+        @Index(name = "idx_account_activity_user_ts", columnList = "user_id, timestamp, transaction_id"),
+        @Index(name = "idx_account_activity_account_ts", columnList = "account_id, timestamp, transaction_id")
+})
+public class AccountActivity extends BaseAuditEntity implements Serializable {
+
+    @NotNull
+    @Column(name = "user_id", nullable = false)
+    private String userId;
+
+    @NotNull
+    @Column(name = "account_id", nullable = false)
+    private String accountId;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "direction", nullable = false, length = 10)
+    private ActivityDirection direction;
+
+    // Copied from the transaction so ordering and seeking never touch the transactions table
+    @NotNull
+    @Column(name = "timestamp", nullable = false)
+    private Instant timestamp;
+
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "transaction_id", nullable = false)
+    private Transaction transaction;
+
+    public AccountActivity() {}
+
+    public AccountActivity(String userId, String accountId, ActivityDirection direction,
+                           Instant timestamp, Transaction transaction) {
+        this.userId = userId;
+        this.accountId = accountId;
+        this.direction = direction;
+        this.timestamp = timestamp;
+        this.transaction = transaction;
+    }
+
+    public String getUserId() { return userId; }
+    public void setUserId(String userId) { this.userId = userId; }
+
+    public String getAccountId() { return accountId; }
+    public void setAccountId(String accountId) { this.accountId = accountId; }
+
+    public ActivityDirection getDirection() { return direction; }
+    public void setDirection(ActivityDirection direction) { this.direction = direction; }
+
+    public Instant getTimestamp() { return timestamp; }
+    public void setTimestamp(Instant timestamp) { this.timestamp = timestamp; }
+
+    public Transaction getTransaction() { return transaction; }
+    public void setTransaction(Transaction transaction) { this.transaction = transaction; }
+}
@@ -0,0 +1,57 @@
+package com.trustsphere.core.entity;
+
+import com.trustsphere.core.entity.base.BaseAuditEntity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@NamedQueries({
+        @NamedQuery(
+                name = "BalanceSnapshot.findLatestOnOrBefore",
+                query = "SELECT b FROM BalanceSnapshot b WHERE b.accountId = :accountId AND b.snapshotDate <= :date ORDER BY b.snapshotDate DESC"
+        ),
+        @NamedQuery(
+                name = "BalanceSnapshot.deleteByDateAndAccounts",
+                query = "DELETE FROM BalanceSnapshot b WHERE b.snapshotDate = :date AND b.accountId IN :accountIds"
+        )
+})
+@Entity
+@Table(name = "balance_snapshots",
+        uniqueConstraints = @UniqueConstraint(name = "uk_balance_snapshots_account_date", columnNames = {"account_id", "snapshot_date"}))
+public class BalanceSnapshot extends BaseAuditEntity implements Serializable {
+
+    // Plain column rather than an association: snapshots are written and read in bulk without loading accounts
+    @NotNull
+    @Column(name = "account_id", nullable = false)
+    private String accountId;
+
+    // Business date (UTC); the balance is as of the end of this day
+    @NotNull
+    @Column(name = "snapshot_date", nullable = false)
+    private LocalDate snapshotDate;
+
+    @NotNull
+    @Column(name = "closing_balance", nullable = false, precision = 19, scale = 2)
+    private BigDecimal closingBalance;
+
+    public BalanceSnapshot() {}
+
+    public BalanceSnapshot(String accountId, LocalDate snapshotDate, BigDecimal closingBalance) {
+        this.accountId = accountId;
+        this.snapshotDate = snapshotDate;
+        this.closingBalance = closingBalance;
+    }
+
+    public String getAccountId() { return accountId; }
+    public void setAccountId(String accountId) { this.accountId = accountId; }
+
+    public LocalDate getSnapshotDate() { return snapshotDate; }
+    public void setSnapshotDate(LocalDate snapshotDate) { this.snapshotDate = snapshotDate; }
+
+    public BigDecimal getClosingBalance() { return closingBalance; }
+    public void setClosingBalance(BigDecimal closingBalance) { this.closingBalance = closingBalance; }
+}
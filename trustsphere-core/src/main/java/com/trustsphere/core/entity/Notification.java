@@ -13,15 +13,18 @@ import java.time.Instant;
 @NamedQueries({
         @NamedQuery(
                 name = "Notification.findByUserId",
-                query = "SELECT n FROM Notification n WHERE n.userId = :userId ORDER BY n.timestamp DESC"
+                query = "SELECT n FROM Notification n WHERE n.userId = :userId ORDER BY n.timestamp DESC, n.id DESC"
         ),
         @NamedQuery(
                 name = "Notification.findByType",
-                query = "SELECT n FROM Notification n WHERE n.type = :type ORDER BY n.timestamp DESC"
+                query = "SELECT n FROM Notification n WHERE n.type = :type ORDER BY n.timestamp DESC, n.id DESC"
         )
 })
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notifications_user_ts_id", columnList = "user_id, timestamp, id"),
+        @Index(name = "idx_notifications_type_ts_id", columnList = "type, timestamp, id")
+})
 public class Notification extends BaseAuditEntity implements Serializable {
 
     @NotNull
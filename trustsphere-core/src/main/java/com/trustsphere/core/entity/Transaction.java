@@ -16,15 +16,16 @@ import java.time.Instant;
 @NamedQueries({
         @NamedQuery(
                 name = "Transaction.findBySourceAccountId",
-                query = "SELECT t FROM Transaction t WHERE t.sourceAccount.id = :accountId ORDER BY t.timestamp DESC"
+                query = "SELECT t FROM Transaction t WHERE t.sourceAccount.id = :accountId ORDER BY t.timestamp DESC, t.id DESC"
         ),
         @NamedQuery(
                 name = "Transaction.findByTargetAccountId",
-                query = "SELECT t FROM Transaction t WHERE t.targetAccount.id = :accountId ORDER BY t.timestamp DESC"
+                query = "SELECT t FROM Transaction t WHERE t.targetAccount.id = :accountId ORDER BY t.timestamp DESC, t.id DESC"
         ),
         @NamedQuery(
                 name = "Transaction.findByUserId",
-                query = "SELECT t FROM Transaction t WHERE t.sourceAccount.user.id = :userId OR t.targetAccount.user.id = :userId ORDER BY t.timestamp DESC"
+                query = "SELECT t FROM Transaction t LEFT JOIN t.sourceAccount s LEFT JOIN t.targetAccount tg " +
+                        "WHERE s.user.id = :userId OR tg.user.id = :userId ORDER BY t.timestamp DESC, t.id DESC"
         ),
         @NamedQuery(
                 name = "Transaction.findByStatus",
@@ -33,15 +34,54 @@ import java.time.Instant;
         @NamedQuery(
                 name = "Transaction.findRecent",
                 query = "SELECT t FROM Transaction t ORDER BY t.timestamp DESC"
+        ),
+        @NamedQuery(
+                name = "Transaction.findStatementPage",
+                query = "SELECT new com.trustsphere.core.dto.StatementLineDTO(t.id, t.timestamp, t.type, t.amount, s.id, tg.id, t.referenceNumber, t.description) " +
+                        "FROM Transaction t LEFT JOIN t.sourceAccount s LEFT JOIN t.targetAccount tg " +
+                        "WHERE (s.id = :accountId OR tg.id = :accountId) " +
+                        "AND t.status = com.trustsphere.core.enums.TransactionStatus.COMPLETED " +
+                        "AND t.timestamp < :to " +
+                        "AND (t.timestamp > :afterTs OR (t.timestamp = :afterTs AND t.id > :afterId)) " +
+                        "ORDER BY t.timestamp ASC, t.id ASC"
+        ),
+        @NamedQuery(
+                name = "Transaction.sumIncomingSince",
+                query = "SELECT SUM(t.amount) FROM Transaction t WHERE t.targetAccount.id = :accountId " +
+                        "AND t.status = com.trustsphere.core.enums.TransactionStatus.COMPLETED AND t.timestamp >= :since"
+        ),
+        @NamedQuery(
+                name = "Transaction.sumOutgoingSince",
+                query = "SELECT SUM(t.amount) FROM Transaction t WHERE t.sourceAccount.id = :accountId " +
+                        "AND t.status = com.trustsphere.core.enums.TransactionStatus.COMPLETED AND t.timestamp >= :since"
+        ),
+        @NamedQuery(
+                name = "Transaction.sumIncomingBetween",
+                query = "SELECT SUM(t.amount) FROM Transaction t WHERE t.targetAccount.id = :accountId " +
+                        "AND t.status = com.trustsphere.core.enums.TransactionStatus.COMPLETED " +
+                        "AND t.timestamp >= :from AND t.timestamp < :to"
+        ),
+        @NamedQuery(
+                name = "Transaction.sumOutgoingBetween",
+                query = "SELECT SUM(t.amount) FROM Transaction t WHERE t.sourceAccount.id = :accountId " +
+                        "AND t.status = com.trustsphere.core.enums.TransactionStatus.COMPLETED " +
+                        "AND t.timestamp >= :from AND t.timestamp < :to"
         )
 })
 @Entity
-@Table(name = "transactions")
+@Table(name = "transactions", indexes = {
+        // Keyset pagination: equality column first, then the (timestamp, id) seek key
+        @Index(name = "idx_transactions_source_ts_id", columnList = "source_account_id, timestamp, id"),
+        @Index(name = "idx_transactions_target_ts_id", columnList = "target_account_id, timestamp, id"),
+        @Index(name = "idx_transactions_status_ts_id", columnList = "status, timestamp, id"),
+        @Index(name = "idx_transactions_type_ts_id", columnList = "type, timestamp, id"),
+        @Index(name = "idx_transactions_ts_id", columnList = "timestamp, id")
+})
 public class Transaction extends BaseAuditEntity implements Serializable {
 
-    @NotNull
+    // Null for postings that only credit an account, such as interest
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "source_account_id", nullable = false)
+    @JoinColumn(name = "source_account_id")
     private Account sourceAccount;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -12,6 +12,10 @@ import java.io.Serializable;
 import java.util.Set;
 
 @NamedQueries({
+        @NamedQuery(
+                name = "User.findUpdatedAt",
+                query = "SELECT u.updatedAt FROM User u WHERE u.id = :id"
+        ),
         @NamedQuery(
                 name = "User.findByEmail",
                 query = "SELECT u FROM User u WHERE u.email = :email"
@@ -31,6 +35,10 @@ import java.util.Set;
         @NamedQuery(
                 name = "User.findActiveUsers",
                 query = "SELECT u FROM User u WHERE u.status = com.trustsphere.core.enums.UserStatus.ACTIVE"
+        ),
+        @NamedQuery(
+                name = "User.findExistingIds",
+                query = "SELECT u.id FROM User u WHERE u.id IN :ids"
         )
 })
 @Entity
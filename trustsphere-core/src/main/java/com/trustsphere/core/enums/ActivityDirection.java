@@ -0,0 +1,6 @@
+package com.trustsphere.core.enums;
+
+public enum ActivityDirection {
+    DEBIT,
+    CREDIT
+}
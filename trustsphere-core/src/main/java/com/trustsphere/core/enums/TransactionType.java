@@ -3,5 +3,6 @@ package com.trustsphere.core.enums;
 public enum TransactionType {
     DEPOSIT,
     WITHDRAWAL,
-    TRANSFER
+    TRANSFER,
+    INTEREST
 }
\ No newline at end of file
@@ -0,0 +1,3 @@
+-- Interest postings credit an account without debiting one, so the source side becomes optional.
+-- Hibernate's schema update never relaxes an existing NOT NULL, hence the explicit migration.
+ALTER TABLE transactions MODIFY source_account_id VARCHAR(255) NULL;
@@ -0,0 +1,9 @@
+-- Cluster-wide rate-limit counters of the shared backend (rate.limit.backend=shared, store jdbc),
+-- one row per scope, fixed window and hashed key. Old windows are deleted by the nodes themselves.
+CREATE TABLE IF NOT EXISTS rate_limit_counters (
+    scope      VARCHAR(8) NOT NULL,
+    window_id  BIGINT     NOT NULL,
+    bucket_key BIGINT     NOT NULL,
+    hits       BIGINT     NOT NULL,
+    PRIMARY KEY (scope, window_id, bucket_key)
+);
@@ -0,0 +1,88 @@
+package com.trustsphere.ejb.dao;
+
+import com.trustsphere.core.entity.AccountActivity;
+import com.trustsphere.core.entity.Transaction;
+import com.trustsphere.core.enums.ActivityDirection;
+import com.trustsphere.core.util.PageCursor;
+import com.trustsphere.ejb.routing.ReadRouting;
+import com.trustsphere.ejb.interceptor.Timed;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import jakarta.ejb.Stateless;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+@Stateless
+@Timed("dao")
+public class AccountActivityDAO {
+
+    @PersistenceContext(unitName = "trustspherePU")
+    private EntityManager em;
+
+    @PersistenceContext(unitName = "trustsphereReadPU")
+    private EntityManager readEm;
+
+    public AccountActivity create(AccountActivity activity) {
+        em.persist(activity);
+        return activity;
+    }
+
+    // Writes the debit and credit legs of a transaction; must run in the transaction that created it
+    public void recordTransaction(Transaction transaction) {
+        if (transaction.getSourceAccount() != null) {
+            create(new AccountActivity(transaction.getSourceAccount().getUser().getId(),
+                    transaction.getSourceAccount().getId(), ActivityDirection.DEBIT,
+                    transaction.getTimestamp(), transaction));
+        }
+        if (transaction.getTargetAccount() != null) {
+            create(new AccountActivity(transaction.getTargetAccount().getUser().getId(),
+                    transaction.getTargetAccount().getId(), ActivityDirection.CREDIT,
+                    transaction.getTimestamp(), transaction));
+        }
+    }
+
+    // Keyset page of a user's transactions, newest first; a null cursor returns the first page
+    public List<Transaction> findTransactionsByUserBefore(String userId, PageCursor before, int limit) {
+        TypedQuery<Transaction> query = reader().createNamedQuery(before == null
+                ? "AccountActivity.findTransactionsByUserId"
+                : "AccountActivity.findTransactionsByUserIdBefore", Transaction.class);
+        query.setParameter("userId", userId);
+        if (before != null) {
+            query.setParameter("beforeTs", before.getTimestamp());
+            query.setParameter("beforeId", before.getId());
+        }
+        // A transfer between two of the user's own accounts yields two adjacent legs for the same
+        // transaction, so over-fetch enough rows to still return `limit` distinct transactions
+        query.setMaxResults(limit * 2);
+        Set<Transaction> distinct = new LinkedHashSet<>(query.getResultList());
+        List<Transaction> results = new ArrayList<>(distinct);
+        return results.size() > limit ? results.subList(0, limit) : results;
+    }
+
+    // Rows of (transactionId, timestamp, sourceAccountId, sourceUserId, targetAccountId, targetUserId)
+    // for transactions that have no activity yet, in id order
+    public List<Object[]> findUnindexedTransactions(String afterId, int limit) {
+        return em.createNamedQuery("AccountActivity.findUnindexedTransactions", Object[].class)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    public Transaction getTransactionReference(String transactionId) {
+        return em.getReference(Transaction.class, transactionId);
+    }
+
+    public void flushBatch() {
+        em.flush();
+        em.clear();
+    }
+
+    // Replica context while a @ReadOnly service read is routed there, primary otherwise
+    private EntityManager reader() {
+        return ReadRouting.useReplica() ? readEm : em;
+    }
+}
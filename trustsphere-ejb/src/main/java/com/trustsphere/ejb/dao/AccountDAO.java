@@ -1,18 +1,28 @@
 package com.trustsphere.ejb.dao;
 
 import com.trustsphere.core.entity.Account;
+import com.trustsphere.ejb.routing.ReadRouting;
+import com.trustsphere.ejb.interceptor.Timed;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import jakarta.ejb.Stateless;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.TypedQuery;
 
 @Stateless
+@Timed("dao")
 public class AccountDAO {
 
     @PersistenceContext(unitName = "trustspherePU")
     private EntityManager em;
 
+    @PersistenceContext(unitName = "trustsphereReadPU")
+    private EntityManager readEm;
+
     public Account create(Account account) {
         em.persist(account);
         return account;
@@ -22,6 +32,21 @@ public class AccountDAO {
         return em.find(Account.class, id);
     }
 
+    // Modification time only, for cheap conditional-request checks; null if the account does not exist
+    public Instant findUpdatedAt(String id) {
+        List<Instant> results = em.createNamedQuery("Account.findUpdatedAt", Instant.class)
+                .setParameter("id", id)
+                .getResultList();
+        return results.isEmpty() ? null : results.get(0);
+    }
+
+    public String findOwnerId(String id) {
+        List<String> results = em.createNamedQuery("Account.findOwnerId", String.class)
+                .setParameter("id", id)
+                .getResultList();
+        return results.isEmpty() ? null : results.get(0);
+    }
+
     public Account findByAccountNumber(String accountNumber) {
         TypedQuery<Account> query = em.createNamedQuery("Account.findByAccountNumber", Account.class);
         query.setParameter("accountNumber", accountNumber);
@@ -29,6 +54,15 @@ public class AccountDAO {
         return results.isEmpty() ? null : results.get(0);
     }
 
+    public Set<String> findExistingAccountNumbers(Collection<String> accountNumbers) {
+        if (accountNumbers.isEmpty()) {
+            return new HashSet<>();
+        }
+        TypedQuery<String> query = em.createNamedQuery("Account.findExistingAccountNumbers", String.class);
+        query.setParameter("accountNumbers", accountNumbers);
+        return new HashSet<>(query.getResultList());
+    }
+
     public List<Account> findByUserId(String userId) {
         TypedQuery<Account> query = em.createNamedQuery("Account.findByUserId", Account.class);
         query.setParameter("userId", userId);
@@ -41,8 +75,17 @@ public class AccountDAO {
     }
 
 
+    // Rows of id, live balance, and completed incoming and outgoing sums since the instant, read in one statement
+    public List<Object[]> findClosingPage(String afterId, Instant since, int limit) {
+        return em.createNamedQuery("Account.findClosingPage", Object[].class)
+                .setParameter("afterId", afterId)
+                .setParameter("since", since)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
     public List<Account> findActiveByUserId(String userId) {
-        TypedQuery<Account> query = em.createNamedQuery("Account.findActiveByUserId", Account.class);
+        TypedQuery<Account> query = reader().createNamedQuery("Account.findActiveByUserId", Account.class);
         query.setParameter("userId", userId);
         return query.getResultList();
     }
@@ -59,8 +102,18 @@ public class AccountDAO {
         }
     }
 
+    // Writes pending changes without detaching anything, so the caller can keep using its entities
+    public void flush() {
+        em.flush();
+    }
+
     public void flushBatch() {
         em.flush();
         em.clear();
     }
-}
\ No newline at end of file
+
+    // Replica context while a @ReadOnly service read is routed there, primary otherwise
+    private EntityManager reader() {
+        return ReadRouting.useReplica() ? readEm : em;
+    }
+}
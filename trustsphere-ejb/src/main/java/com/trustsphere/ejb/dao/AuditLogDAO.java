@@ -1,21 +1,50 @@
 package com.trustsphere.ejb.dao;
 
+import com.trustsphere.core.dto.AuditLogDTO;
+import com.trustsphere.core.dto.FieldSet;
 import com.trustsphere.core.entity.AuditLog;
 import com.trustsphere.core.enums.SeverityLevel;
+import com.trustsphere.ejb.routing.ReadRouting;
+import com.trustsphere.ejb.interceptor.Timed;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import jakarta.ejb.Stateless;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
 import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 
 @Stateless
+@Timed("dao")
 public class AuditLogDAO {
 
+    // Columns behind each AuditLogDTO property; details and user agent are the wide ones worth skipping
+    public static final Projection<AuditLog, AuditLogDTO> PROJECTION =
+            new Projection<AuditLog, AuditLogDTO>(AuditLogDTO::new)
+                    .field("id", a -> a.get("id"), AuditLogDTO::setId)
+                    .field("actorUserId", a -> a.get("actorUserId"), AuditLogDTO::setActorUserId)
+                    .field("action", a -> a.get("action"), AuditLogDTO::setAction)
+                    .field("resourceType", a -> a.get("resourceType"), AuditLogDTO::setResourceType)
+                    .field("resourceId", a -> a.get("resourceId"), AuditLogDTO::setResourceId)
+                    .field("severityLevel", a -> a.get("severityLevel"), AuditLogDTO::setSeverityLevel)
+                    .field("details", a -> a.get("details"), AuditLogDTO::setDetails)
+                    .field("ipAddress", a -> a.get("ipAddress"), AuditLogDTO::setIpAddress)
+                    .field("userAgent", a -> a.get("userAgent"), AuditLogDTO::setUserAgent)
+                    .field("timestamp", a -> a.get("timestamp"), AuditLogDTO::setTimestamp);
+
     @PersistenceContext(unitName = "trustspherePU")
     private EntityManager em;
 
+    @PersistenceContext(unitName = "trustsphereReadPU")
+    private EntityManager readEm;
+
     public EntityManager getEm() {
         return em;
     }
@@ -26,13 +55,13 @@ public class AuditLogDAO {
     }
 
     public List<AuditLog> findRecent(int limit) {
-        return em.createNamedQuery("AuditLog.findRecent", AuditLog.class)
+        return reader().createNamedQuery("AuditLog.findRecent", AuditLog.class)
                 .setMaxResults(limit)
                 .getResultList();
     }
 
     public List<AuditLog> findBySeverity(SeverityLevel level, int offset, int limit) {
-        return em.createNamedQuery("AuditLog.findBySeverity", AuditLog.class)
+        return reader().createNamedQuery("AuditLog.findBySeverity", AuditLog.class)
                 .setParameter("severityLevel", level)
                 .setFirstResult(offset)
                 .setMaxResults(limit)
@@ -40,7 +69,7 @@ public class AuditLogDAO {
     }
 
     public List<AuditLog> findByUserId(String userId, int offset, int limit) {
-        return em.createNamedQuery("AuditLog.findByUserId", AuditLog.class)
+        return reader().createNamedQuery("AuditLog.findByUserId", AuditLog.class)
                 .setParameter("userId", userId)
                 .setFirstResult(offset)
                 .setMaxResults(limit)
@@ -48,7 +77,7 @@ public class AuditLogDAO {
     }
 
     public List<AuditLog> findByResource(String type, String resourceId, int offset, int limit) {
-        return em.createNamedQuery("AuditLog.findByResource", AuditLog.class)
+        return reader().createNamedQuery("AuditLog.findByResource", AuditLog.class)
                 .setParameter("resourceType", type)
                 .setParameter("resourceId", resourceId)
                 .setFirstResult(offset)
@@ -56,12 +85,43 @@ public class AuditLogDAO {
                 .getResultList();
     }
 
+    /**
+     * Newest-first entries whose attributes equal the given values (a null value matches IS NULL),
+     * selecting only the requested {@link #PROJECTION} fields.
+     */
+    public List<Tuple> findProjected(Map<String, Object> equalTo, FieldSet fields, int offset, int limit) {
+        EntityManager reader = reader();
+        CriteriaBuilder cb = reader.getCriteriaBuilder();
+        CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+        Root<AuditLog> a = cq.from(AuditLog.class);
+
+        List<Predicate> where = new ArrayList<>();
+        for (Map.Entry<String, Object> filter : equalTo.entrySet()) {
+            where.add(filter.getValue() == null
+                    ? cb.isNull(a.get(filter.getKey()))
+                    : cb.equal(a.get(filter.getKey()), filter.getValue()));
+        }
+
+        cq.multiselect(PROJECTION.select(a, fields))
+                .where(where.toArray(new Predicate[0]))
+                .orderBy(cb.desc(a.get("timestamp")));
+        return reader.createQuery(cq)
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
     public void save(AuditLog log) {
         em.persist(log);
     }
 
-    public void deleteBefore(Instant timestamp) {
-        em.createQuery("DELETE FROM AuditLog a WHERE a.timestamp < :ts")
+    public void flush() {
+        em.flush();
+    }
+
+    // Returns the number of entries deleted
+    public int deleteBefore(Instant timestamp) {
+        return em.createQuery("DELETE FROM AuditLog a WHERE a.timestamp < :ts")
                 .setParameter("ts", timestamp)
                 .executeUpdate();
     }
@@ -74,4 +134,9 @@ public class AuditLogDAO {
             em.remove(em.merge(auditLog));
         }
     }
-}
\ No newline at end of file
+
+    // Replica context while a @ReadOnly service read is routed there, primary otherwise
+    private EntityManager reader() {
+        return ReadRouting.useReplica() ? readEm : em;
+    }
+}
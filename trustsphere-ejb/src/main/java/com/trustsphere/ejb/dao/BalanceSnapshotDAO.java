@@ -0,0 +1,44 @@
+package com.trustsphere.ejb.dao;
+
+import com.trustsphere.core.entity.BalanceSnapshot;
+import com.trustsphere.ejb.interceptor.Timed;
+
+import java.time.LocalDate;
+import java.util.List;
+import jakarta.ejb.Stateless;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+@Stateless
+@Timed("dao")
+public class BalanceSnapshotDAO {
+
+    @PersistenceContext(unitName = "trustspherePU")
+    private EntityManager em;
+
+    public BalanceSnapshot create(BalanceSnapshot snapshot) {
+        em.persist(snapshot);
+        return snapshot;
+    }
+
+    public BalanceSnapshot findLatestOnOrBefore(String accountId, LocalDate date) {
+        List<BalanceSnapshot> results = em.createNamedQuery("BalanceSnapshot.findLatestOnOrBefore", BalanceSnapshot.class)
+                .setParameter("accountId", accountId)
+                .setParameter("date", date)
+                .setMaxResults(1)
+                .getResultList();
+        return results.isEmpty() ? null : results.get(0);
+    }
+
+    public int deleteByDate(LocalDate date, List<String> accountIds) {
+        return em.createNamedQuery("BalanceSnapshot.deleteByDateAndAccounts")
+                .setParameter("date", date)
+                .setParameter("accountIds", accountIds)
+                .executeUpdate();
+    }
+
+    public void flushBatch() {
+        em.flush();
+        em.clear();
+    }
+}
@@ -1,33 +1,96 @@
 package com.trustsphere.ejb.dao;
 
+import com.trustsphere.core.dto.FieldSet;
+import com.trustsphere.core.dto.NotificationDTO;
 import com.trustsphere.core.entity.Notification;
 import com.trustsphere.core.enums.NotificationType;
+import com.trustsphere.core.util.PageCursor;
+import com.trustsphere.ejb.routing.ReadRouting;
+import com.trustsphere.ejb.interceptor.Timed;
 
 import jakarta.ejb.Stateless;
 import jakarta.persistence.*;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 
 @Stateless
+@Timed("dao")
 public class NotificationDAO {
 
+    public static final Projection<Notification, NotificationDTO> PROJECTION =
+            new Projection<Notification, NotificationDTO>(NotificationDTO::new)
+                    .field("id", n -> n.get("id"), NotificationDTO::setId)
+                    .field("userId", n -> n.get("userId"), NotificationDTO::setUserId)
+                    .field("type", n -> n.get("type"), NotificationDTO::setType)
+                    .field("message", n -> n.get("message"), NotificationDTO::setMessage)
+                    .field("timestamp", n -> n.get("timestamp"), NotificationDTO::setTimestamp);
+
     @PersistenceContext(unitName = "trustspherePU")
     private EntityManager em;
 
+    @PersistenceContext(unitName = "trustsphereReadPU")
+    private EntityManager readEm;
+
     public Notification create(Notification notification) {
         em.persist(notification);
         return notification;
     }
 
     public List<Notification> findByUserId(String userId, int offset, int limit) {
-        TypedQuery<Notification> query = em.createNamedQuery("Notification.findByUserId", Notification.class).setFirstResult(offset).setMaxResults(limit);
+        TypedQuery<Notification> query = reader().createNamedQuery("Notification.findByUserId", Notification.class).setFirstResult(offset).setMaxResults(limit);
         query.setParameter("userId", userId);
         return query.getResultList();
     }
 
     public List<Notification> findByType(NotificationType type, int offset, int limit) {
-        TypedQuery<Notification> query = em.createNamedQuery("Notification.findByType", Notification.class).setFirstResult(offset).setMaxResults(limit);
+        TypedQuery<Notification> query = reader().createNamedQuery("Notification.findByType", Notification.class).setFirstResult(offset).setMaxResults(limit);
         query.setParameter("type", type);
         return query.getResultList();
     }
+
+    // Keyset pages, newest first; a null cursor returns the first page
+    public List<Tuple> findByUserIdBefore(String userId, PageCursor before, int limit, FieldSet fields) {
+        return seek("userId", userId, before, limit, fields);
+    }
+
+    public List<Tuple> findByTypeBefore(NotificationType type, PageCursor before, int limit, FieldSet fields) {
+        return seek("type", type, before, limit, fields);
+    }
+
+    // Selects the requested fields plus the timestamp and id the next cursor is built from
+    private List<Tuple> seek(String attribute, Object value, PageCursor before, int limit, FieldSet fields) {
+        EntityManager reader = reader();
+        CriteriaBuilder cb = reader.getCriteriaBuilder();
+        CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+        Root<Notification> n = cq.from(Notification.class);
+        Path<Instant> timestamp = n.get("timestamp");
+        Path<String> id = n.get("id");
+
+        List<Predicate> where = new ArrayList<>();
+        where.add(cb.equal(n.get(attribute), value));
+        if (before != null) {
+            where.add(cb.or(
+                    cb.lessThan(timestamp, before.getTimestamp()),
+                    cb.and(cb.equal(timestamp, before.getTimestamp()), cb.lessThan(id, before.getId()))));
+        }
+
+        cq.multiselect(PROJECTION.select(n, fields, "timestamp", "id"))
+                .where(where.toArray(new Predicate[0]))
+                .orderBy(cb.desc(timestamp), cb.desc(id));
+        return reader.createQuery(cq)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // Replica context while a @ReadOnly service read is routed there, primary otherwise
+    private EntityManager reader() {
+        return ReadRouting.useReplica() ? readEm : em;
+    }
 }
@@ -0,0 +1,72 @@
+package com.trustsphere.ejb.dao;
+
+import com.trustsphere.core.dto.FieldSet;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * Maps DTO properties to entity paths so list queries can select only the columns a client
+ * asked for and build DTOs straight from the resulting tuples, without loading entities or
+ * touching their associations. Unselected DTO properties stay null.
+ */
+public final class Projection<E, D> {
+
+    private final Supplier<D> factory;
+    private final Map<String, Function<Root<E>, Path<?>>> paths = new LinkedHashMap<>();
+    private final Map<String, BiConsumer<D, Object>> setters = new LinkedHashMap<>();
+
+    public Projection(Supplier<D> factory) {
+        this.factory = factory;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V> Projection<E, D> field(String name, Function<Root<E>, Path<?>> path, BiConsumer<D, V> setter) {
+        paths.put(name, path);
+        setters.put(name, (BiConsumer<D, Object>) setter);
+        return this;
+    }
+
+    /**
+     * Tuple selections for the requested fields plus {@code keys}, each aliased by its DTO
+     * property name. Keys are the columns the caller needs itself, such as a keyset cursor.
+     */
+    public List<Selection<?>> select(Root<E> root, FieldSet fields, String... keys) {
+        List<Selection<?>> selections = new ArrayList<>();
+        for (Map.Entry<String, Function<Root<E>, Path<?>>> entry : paths.entrySet()) {
+            String name = entry.getKey();
+            if (fields.includes(name) || isKey(name, keys)) {
+                selections.add(entry.getValue().apply(root).alias(name));
+            }
+        }
+        return selections;
+    }
+
+    public D map(Tuple tuple, FieldSet fields) {
+        D dto = factory.get();
+        for (Map.Entry<String, BiConsumer<D, Object>> entry : setters.entrySet()) {
+            if (fields.includes(entry.getKey())) {
+                entry.getValue().accept(dto, tuple.get(entry.getKey()));
+            }
+        }
+        return dto;
+    }
+
+    private static boolean isKey(String name, String[] keys) {
+        for (String key : keys) {
+            if (key.equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
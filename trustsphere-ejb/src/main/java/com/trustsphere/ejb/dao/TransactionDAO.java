@@ -1,18 +1,59 @@
 package com.trustsphere.ejb.dao;
 
+import com.trustsphere.core.dto.FieldSet;
+import com.trustsphere.core.dto.StatementLineDTO;
+import com.trustsphere.core.dto.TransactionDTO;
+import com.trustsphere.core.dto.TransactionSearchCriteria;
 import com.trustsphere.core.entity.Transaction;
+import com.trustsphere.core.util.PageCursor;
+import com.trustsphere.ejb.routing.ReadRouting;
+import com.trustsphere.ejb.interceptor.Timed;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import jakarta.ejb.Stateless;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
 import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 
 @Stateless
+@Timed("dao")
 public class TransactionDAO {
 
+    private static final int SEARCH_QUERY_TIMEOUT_MS = 5000;
+
+    private static final Comparator<Tuple> NEWEST_FIRST =
+            Comparator.comparing((Tuple row) -> row.get("timestamp", Instant.class))
+                    .thenComparing(row -> row.get("id", String.class))
+                    .reversed();
+
+    // Columns behind each TransactionDTO property; account ids come from the foreign keys, not the accounts
+    public static final Projection<Transaction, TransactionDTO> PROJECTION =
+            new Projection<Transaction, TransactionDTO>(TransactionDTO::new)
+                    .field("id", t -> t.get("id"), TransactionDTO::setId)
+                    .field("sourceAccountId", t -> t.get("sourceAccount").get("id"), TransactionDTO::setSourceAccountId)
+                    .field("targetAccountId", t -> t.get("targetAccount").get("id"), TransactionDTO::setTargetAccountId)
+                    .field("amount", t -> t.get("amount"), TransactionDTO::setAmount)
+                    .field("type", t -> t.get("type"), TransactionDTO::setType)
+                    .field("status", t -> t.get("status"), TransactionDTO::setStatus)
+                    .field("timestamp", t -> t.get("timestamp"), TransactionDTO::setTimestamp);
+
     @PersistenceContext(unitName = "trustspherePU")
     private EntityManager em;
 
+    @PersistenceContext(unitName = "trustsphereReadPU")
+    private EntityManager readEm;
+
     public Transaction create(Transaction transaction) {
         em.persist(transaction);
         return transaction;
@@ -44,14 +85,190 @@ public class TransactionDAO {
         return query.getResultList();
     }
 
+    // Keyset pages, newest first; a null cursor returns the first page
+    public List<Tuple> findBySourceAccIdBefore(String accId, PageCursor before, int limit, FieldSet fields) {
+        TransactionSearchCriteria criteria = new TransactionSearchCriteria();
+        criteria.setSourceAccountId(accId);
+        return search(criteria, before, limit, fields);
+    }
+
     public List<Transaction> findByTargetAccId(String accId, int offset, int limit) {
-        TypedQuery<Transaction> query = em.createNamedQuery("Transaction.findBySourceAccountId", Transaction.class);
+        TypedQuery<Transaction> query = em.createNamedQuery("Transaction.findByTargetAccountId", Transaction.class);
         query.setParameter("accountId", accId);
         query.setFirstResult(offset);
         query.setMaxResults(limit);
         return query.getResultList();
     }
 
+    /**
+     * Keyset page of matching transactions, newest first. Each query leads with the most selective
+     * equality filter so it runs as a range scan over the matching (column, timestamp, id) index;
+     * an either-side account filter runs the source and target scans separately and merges them.
+     *
+     * Rows are tuples of the requested {@link #PROJECTION} fields plus the timestamp and id the
+     * cursor is built from, so unrequested columns are never read.
+     */
+    public List<Tuple> search(TransactionSearchCriteria criteria, PageCursor before, int limit, FieldSet fields) {
+        List<String[]> legs = legs(criteria);
+        if (legs.size() == 1) {
+            return search(criteria, legs.get(0)[0], legs.get(0)[1], before, limit, fields);
+        }
+        // Keyed by id: a transfer from the account to itself is found by both legs
+        Map<String, Tuple> merged = new HashMap<>();
+        for (String[] leg : legs) {
+            for (Tuple row : search(criteria, leg[0], leg[1], before, limit, fields)) {
+                merged.putIfAbsent(row.get("id", String.class), row);
+            }
+        }
+        List<Tuple> rows = new ArrayList<>(merged.values());
+        rows.sort(NEWEST_FIRST);
+        return rows.size() > limit ? rows.subList(0, limit) : rows;
+    }
+
+    // Name of the index the search is shaped for, for plan diagnostics
+    public String searchIndexFor(TransactionSearchCriteria criteria) {
+        List<String[]> legs = legs(criteria);
+        if (legs.isEmpty()) {
+            return "none";
+        }
+        List<String> indexes = new ArrayList<>();
+        for (String[] leg : legs) {
+            indexes.add(indexFor(criteria, leg[0], leg[1]));
+        }
+        return String.join("+", indexes);
+    }
+
+    /*
+     * The (source, target) filter pairs whose results together match the criteria. accountId is
+     * already satisfied when it equals the explicit source or target; otherwise it becomes a source
+     * leg and a target leg, each dropped when the other explicit filter contradicts it. No legs means
+     * nothing can match.
+     */
+    private static List<String[]> legs(TransactionSearchCriteria criteria) {
+        String accountId = criteria.getAccountId();
+        String source = criteria.getSourceAccountId();
+        String target = criteria.getTargetAccountId();
+        List<String[]> legs = new ArrayList<>(2);
+        if (accountId == null || accountId.equals(source) || accountId.equals(target)) {
+            legs.add(new String[] {source, target});
+            return legs;
+        }
+        if (source == null) {
+            legs.add(new String[] {accountId, target});
+        }
+        if (target == null) {
+            legs.add(new String[] {source, accountId});
+        }
+        return legs;
+    }
+
+    private static String indexFor(TransactionSearchCriteria criteria, String sourceAccountId, String targetAccountId) {
+        if (sourceAccountId != null) {
+            return "idx_transactions_source_ts_id";
+        } else if (targetAccountId != null) {
+            return "idx_transactions_target_ts_id";
+        } else if (criteria.getStatus() != null) {
+            return "idx_transactions_status_ts_id";
+        } else if (criteria.getType() != null) {
+            return "idx_transactions_type_ts_id";
+        }
+        return "idx_transactions_ts_id";
+    }
+
+    private List<Tuple> search(TransactionSearchCriteria criteria, String sourceAccountId,
+                               String targetAccountId, PageCursor before, int limit, FieldSet fields) {
+        EntityManager reader = reader();
+        CriteriaBuilder cb = reader.getCriteriaBuilder();
+        CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+        Root<Transaction> t = cq.from(Transaction.class);
+        Path<Instant> timestamp = t.get("timestamp");
+        Path<String> id = t.get("id");
+        Path<BigDecimal> amount = t.get("amount");
+
+        List<Predicate> where = new ArrayList<>();
+        if (sourceAccountId != null) {
+            where.add(cb.equal(t.get("sourceAccount").get("id"), sourceAccountId));
+        }
+        if (targetAccountId != null) {
+            where.add(cb.equal(t.get("targetAccount").get("id"), targetAccountId));
+        }
+        if (criteria.getStatus() != null) {
+            where.add(cb.equal(t.get("status"), criteria.getStatus()));
+        }
+        if (criteria.getType() != null) {
+            where.add(cb.equal(t.get("type"), criteria.getType()));
+        }
+        if (criteria.getMinAmount() != null) {
+            where.add(cb.greaterThanOrEqualTo(amount, criteria.getMinAmount()));
+        }
+        if (criteria.getMaxAmount() != null) {
+            where.add(cb.lessThanOrEqualTo(amount, criteria.getMaxAmount()));
+        }
+        if (criteria.getFrom() != null) {
+            where.add(cb.greaterThanOrEqualTo(timestamp, criteria.getFrom()));
+        }
+        if (criteria.getTo() != null) {
+            where.add(cb.lessThan(timestamp, criteria.getTo()));
+        }
+        if (before != null) {
+            where.add(cb.or(
+                    cb.lessThan(timestamp, before.getTimestamp()),
+                    cb.and(cb.equal(timestamp, before.getTimestamp()), cb.lessThan(id, before.getId()))));
+        }
+
+        cq.multiselect(PROJECTION.select(t, fields, "timestamp", "id"))
+                .where(where.toArray(new Predicate[0]))
+                .orderBy(cb.desc(timestamp), cb.desc(id));
+        return reader.createQuery(cq)
+                .setHint("jakarta.persistence.query.timeout", SEARCH_QUERY_TIMEOUT_MS)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // Keyset page: rows strictly after (afterTs, afterId), oldest first
+    public List<StatementLineDTO> findStatementPage(String accId, Instant afterTs, String afterId, Instant to, int limit) {
+        return em.createNamedQuery("Transaction.findStatementPage", StatementLineDTO.class)
+                .setParameter("accountId", accId)
+                .setParameter("afterTs", afterTs)
+                .setParameter("afterId", afterId)
+                .setParameter("to", to)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    public BigDecimal sumIncomingSince(String accId, Instant since) {
+        BigDecimal sum = em.createNamedQuery("Transaction.sumIncomingSince", BigDecimal.class)
+                .setParameter("accountId", accId)
+                .setParameter("since", since)
+                .getSingleResult();
+        return sum != null ? sum : BigDecimal.ZERO;
+    }
+
+    public BigDecimal sumOutgoingSince(String accId, Instant since) {
+        BigDecimal sum = em.createNamedQuery("Transaction.sumOutgoingSince", BigDecimal.class)
+                .setParameter("accountId", accId)
+                .setParameter("since", since)
+                .getSingleResult();
+        return sum != null ? sum : BigDecimal.ZERO;
+    }
+
+    public BigDecimal sumIncomingBetween(String accId, Instant from, Instant to) {
+        return sumBetween("Transaction.sumIncomingBetween", accId, from, to);
+    }
+
+    public BigDecimal sumOutgoingBetween(String accId, Instant from, Instant to) {
+        return sumBetween("Transaction.sumOutgoingBetween", accId, from, to);
+    }
+
+    private BigDecimal sumBetween(String queryName, String accId, Instant from, Instant to) {
+        BigDecimal sum = em.createNamedQuery(queryName, BigDecimal.class)
+                .setParameter("accountId", accId)
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .getSingleResult();
+        return sum != null ? sum : BigDecimal.ZERO;
+    }
+
     public Transaction update(Transaction transaction) {
         return em.merge(transaction);
     }
@@ -64,6 +281,11 @@ public class TransactionDAO {
         }
     }
 
+    // Replica context while a @ReadOnly service read is routed there, primary otherwise
+    private EntityManager reader() {
+        return ReadRouting.useReplica() ? readEm : em;
+    }
+
 //    private TransactionDTO mapToDTO(Transaction transaction) {
 //        TransactionDTO dto = new TransactionDTO();
 //        dto.setId(transaction.getId());
@@ -75,4 +297,4 @@ public class TransactionDAO {
 //        dto.setStatus(transaction.getStatus());
 //        return dto;
 //    }
-}
\ No newline at end of file
+}
@@ -1,18 +1,28 @@
 package com.trustsphere.ejb.dao;
 
 import com.trustsphere.core.entity.User;
+import com.trustsphere.ejb.routing.ReadRouting;
+import com.trustsphere.ejb.interceptor.Timed;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import jakarta.ejb.Stateless;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.TypedQuery;
 
 @Stateless
+@Timed("dao")
 public class UserDAO {
 
     @PersistenceContext(unitName = "trustspherePU")
     private EntityManager em;
 
+    @PersistenceContext(unitName = "trustsphereReadPU")
+    private EntityManager readEm;
+
     public User create(User user) {
         em.persist(user);
         return user;
@@ -22,6 +32,28 @@ public class UserDAO {
         return em.find(User.class, id);
     }
 
+    // Proxy for FK assignment; avoids a SELECT per row when the id is already known to exist
+    public User getReference(String id) {
+        return em.getReference(User.class, id);
+    }
+
+    // Modification time only, for cheap conditional-request checks; null if the user does not exist
+    public Instant findUpdatedAt(String id) {
+        List<Instant> results = em.createNamedQuery("User.findUpdatedAt", Instant.class)
+                .setParameter("id", id)
+                .getResultList();
+        return results.isEmpty() ? null : results.get(0);
+    }
+
+    public Set<String> findExistingIds(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return new HashSet<>();
+        }
+        TypedQuery<String> query = em.createNamedQuery("User.findExistingIds", String.class);
+        query.setParameter("ids", ids);
+        return new HashSet<>(query.getResultList());
+    }
+
     public User findByEmail(String email) {
         TypedQuery<User> query = em.createNamedQuery("User.findByEmail", User.class);
         query.setParameter("email", email);
@@ -30,7 +62,7 @@ public class UserDAO {
     }
 
     public List<User> findAll() {
-        TypedQuery<User> query = em.createNamedQuery("User.findAll", User.class);
+        TypedQuery<User> query = reader().createNamedQuery("User.findAll", User.class);
         return query.getResultList();
     }
 
@@ -45,4 +77,9 @@ public class UserDAO {
             em.remove(em.merge(user));
         }
     }
-}
\ No newline at end of file
+
+    // Replica context while a @ReadOnly service read is routed there, primary otherwise
+    private EntityManager reader() {
+        return ReadRouting.useReplica() ? readEm : em;
+    }
+}
@@ -0,0 +1,42 @@
+package com.trustsphere.ejb.interceptor;
+
+import com.trustsphere.ejb.routing.ReadRouting;
+import com.trustsphere.ejb.routing.ReplicaRouter;
+
+import jakarta.annotation.Priority;
+import jakarta.annotation.Resource;
+import jakarta.ejb.EJB;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+import jakarta.transaction.Status;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import java.security.Principal;
+
+@Interceptor
+@ReadOnly
+@Priority(Interceptor.Priority.APPLICATION)
+public class ReadOnlyRoutingInterceptor {
+
+    @EJB
+    private ReplicaRouter replicaRouter;
+
+    @Resource
+    private TransactionSynchronizationRegistry transactionRegistry;
+
+    @Inject
+    private Principal caller;
+
+    @AroundInvoke
+    public Object route(InvocationContext ctx) throws Exception {
+        // Inside a transaction the read must see that transaction's writes, and enlisting the
+        // replica alongside the primary would need XA, so only standalone reads are routed
+        if (ReadRouting.useReplica()
+                || transactionRegistry.getTransactionStatus() != Status.STATUS_NO_TRANSACTION
+                || !replicaRouter.canRead(caller != null ? caller.getName() : null)) {
+            return ctx.proceed();
+        }
+        return replicaRouter.onReplica(ctx::proceed);
+    }
+}
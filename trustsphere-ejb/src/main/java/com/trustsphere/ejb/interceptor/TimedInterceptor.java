@@ -0,0 +1,95 @@
+package com.trustsphere.ejb.interceptor;
+
+import com.trustsphere.ejb.metrics.MetricsRegistry;
+import com.trustsphere.ejb.metrics.Timer;
+import com.trustsphere.ejb.sql.SqlScope;
+import com.trustsphere.ejb.sql.SqlStats;
+import com.trustsphere.ejb.tracing.Span;
+import com.trustsphere.ejb.tracing.SpanKind;
+import com.trustsphere.ejb.tracing.Tracing;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// Runs before the routing and audit interceptors, so their cost is part of the measured call
+@Interceptor
+@Timed
+@Priority(Interceptor.Priority.APPLICATION - 100)
+public class TimedInterceptor {
+
+    static final String CALL_SECONDS = "trustsphere_ejb_call_seconds";
+    static final String CALL_ERRORS = "trustsphere_ejb_call_errors_total";
+
+    private static final ConcurrentMap<Method, Call> CALLS = new ConcurrentHashMap<>();
+
+    @Inject
+    private MetricsRegistry registry;
+
+    @AroundInvoke
+    public Object time(InvocationContext ctx) throws Exception {
+        Method method = ctx.getMethod();
+        Call call = CALLS.computeIfAbsent(method, this::callFor);
+        // Calls made outside a request, such as timers and remote clients, get their own SQL scope
+        SqlScope sqlScope = SqlStats.current() == null ? SqlStats.open(call.name) : null;
+        // Null unless the call is part of a sampled trace
+        Span span = Tracing.startSpan(call.name, SpanKind.INTERNAL);
+        if (span != null) {
+            span.setAttribute("layer", call.layer);
+        }
+        long started = System.nanoTime();
+        try {
+            return ctx.proceed();
+        } catch (Exception e) {
+            registry.counter(CALL_ERRORS, "EJB business method calls that threw", labels(method)).increment();
+            if (span != null) {
+                span.fail(e);
+            }
+            throw e;
+        } finally {
+            call.timer.recordSince(started);
+            if (span != null) {
+                span.end();
+            }
+            if (sqlScope != null) {
+                SqlStats.close(sqlScope);
+            }
+        }
+    }
+
+    private Call callFor(Method method) {
+        return new Call(registry.timer(CALL_SECONDS, "EJB business method latency", labels(method)),
+                method.getDeclaringClass().getSimpleName() + "." + method.getName(), layer(method));
+    }
+
+    // The declaring class rather than the target, which may be a container subclass
+    private static String[] labels(Method method) {
+        return new String[]{
+                "layer", layer(method),
+                "bean", method.getDeclaringClass().getSimpleName(),
+                "method", method.getName()};
+    }
+
+    private static String layer(Method method) {
+        Timed timed = method.getDeclaringClass().getAnnotation(Timed.class);
+        return timed != null ? timed.value() : "service";
+    }
+
+    private static final class Call {
+
+        final Timer timer;
+        final String name;
+        final String layer;
+
+        Call(Timer timer, String name, String layer) {
+            this.timer = timer;
+            this.name = name;
+            this.layer = layer;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.trustsphere.ejb.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * An audit write reaching the database: a single recorded entry, or the retention purge.
+ */
+@Name("com.trustsphere.AuditFlush")
+@Label("Audit Flush")
+@Category({"TrustSphere", "Audit"})
+@StackTrace(false)
+public class AuditFlushEvent extends jdk.jfr.Event {
+
+    public static final String RECORD = "record";
+    public static final String PURGE = "purge";
+
+    @Label("Operation")
+    @Description("record or purge")
+    public String operation;
+
+    @Label("Rows")
+    public int rows;
+}
@@ -0,0 +1,23 @@
+package com.trustsphere.ejb.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One chunk of the nightly interest run: computing interest for a batch of accounts and
+ * flushing their balance updates.
+ */
+@Name("com.trustsphere.InterestChunk")
+@Label("Interest Chunk")
+@Category({"TrustSphere", "Banking"})
+@StackTrace(false)
+public class InterestChunkEvent extends jdk.jfr.Event {
+
+    @Label("Chunk")
+    public int chunk;
+
+    @Label("Accounts")
+    public int accounts;
+}
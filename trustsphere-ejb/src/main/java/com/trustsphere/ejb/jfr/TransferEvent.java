@@ -0,0 +1,79 @@
+package com.trustsphere.ejb.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * One funds transfer, from the account lookups to the flush of its rows. Account ids are
+ * recorded as hashes and the amount only as a power-of-ten bucket, so recordings can leave
+ * production without carrying account data.
+ */
+@Name("com.trustsphere.Transfer")
+@Label("Transfer")
+@Category({"TrustSphere", "Banking"})
+@StackTrace(false)
+public class TransferEvent extends jdk.jfr.Event {
+
+    @Label("Source Account")
+    @Description("First 8 bytes of the SHA-256 of the account id")
+    public String sourceAccount;
+
+    @Label("Target Account")
+    @Description("First 8 bytes of the SHA-256 of the account id")
+    public String targetAccount;
+
+    @Label("Amount Bucket")
+    @Description("Largest power of ten not above the amount; 0 below 1")
+    public long amountBucket;
+
+    @Label("Lock Wait")
+    @Description("Flush of the two balance updates, which waits while another transaction holds either row")
+    @Timespan
+    public long lockWait;
+
+    @Label("Database Time")
+    @Description("Account lookups plus every flush of the transfer's rows")
+    @Timespan
+    public long dbTime;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+
+    // Only call once shouldCommit() has returned true; hashing is the expensive part of the event
+    public void identify(String sourceAccountId, String targetAccountId, BigDecimal amount) {
+        sourceAccount = hash(sourceAccountId);
+        targetAccount = hash(targetAccountId);
+        amountBucket = bucket(amount);
+    }
+
+    static String hash(String id) {
+        if (id == null) {
+            return null;
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(id.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    static long bucket(BigDecimal amount) {
+        if (amount == null || amount.compareTo(BigDecimal.ONE) < 0) {
+            return 0;
+        }
+        // precision - scale is the number of integer digits
+        int digits = amount.precision() - amount.scale();
+        return digits > 18 ? Long.MAX_VALUE : (long) Math.pow(10, digits - 1);
+    }
+}
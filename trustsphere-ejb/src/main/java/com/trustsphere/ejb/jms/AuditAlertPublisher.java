@@ -2,6 +2,10 @@ package com.trustsphere.ejb.jms;
 
 import com.trustsphere.core.entity.AuditLog;
 
+import com.trustsphere.ejb.tracing.Span;
+import com.trustsphere.ejb.tracing.SpanKind;
+import com.trustsphere.ejb.tracing.Tracing;
+
 import jakarta.annotation.Resource;
 import jakarta.ejb.EJBException;
 import jakarta.ejb.Stateless;
@@ -20,20 +24,45 @@ public class AuditAlertPublisher {
 
     private static final Logger logger = LoggerFactory.getLogger(AuditAlertPublisher.class);
 
+    private static final String DESTINATION = "audit.alert.high";
+
     @Inject
     private JMSContext context;
 
+    @Inject
+    private JmsPublishMetrics metrics;
+
     @Resource(lookup = "java:global/jms/audit/alert/high")
     private Topic topic;
 
     public void publish(AuditLog log) {
         // context.createProducer().send(topic, log);
+        Span span = Tracing.startSpan("publish " + DESTINATION, SpanKind.PRODUCER);
+        long start = System.nanoTime();
         try {
             ObjectMessage msg = context.createObjectMessage(log);
+            propagateTrace(msg);
             context.createProducer().send(topic, msg);
+            metrics.published(DESTINATION, start);
         } catch (Exception e) {
+            metrics.failed(DESTINATION, start);
             //throw new EJBException("JMS publish failed", e);
             logger.error("JMS publish failed :{}", e.getMessage(), e);
+            if (span != null) {
+                span.fail(e);
+            }
+        } finally {
+            if (span != null) {
+                span.end();
+            }
+        }
+    }
+
+    // Consumers continue the trace from the W3C traceparent property
+    private static void propagateTrace(Message msg) throws JMSException {
+        Span current = Tracing.current();
+        if (current != null) {
+            msg.setStringProperty(Tracing.TRACEPARENT, current.traceparent());
         }
     }
 }
@@ -0,0 +1,60 @@
+package com.trustsphere.ejb.jms;
+
+import com.trustsphere.ejb.metrics.Counter;
+import com.trustsphere.ejb.metrics.MetricsRegistry;
+import com.trustsphere.ejb.metrics.Timer;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Send latency and failures per destination. Publishing is synchronous, so a backed-up broker
+ * shows here first, as slow sends on the calling request.
+ */
+@ApplicationScoped
+public class JmsPublishMetrics {
+
+    @Inject
+    private MetricsRegistry registry;
+
+    private final ConcurrentMap<String, Destination> destinations = new ConcurrentHashMap<>();
+
+    public void published(String destination, long startNanos) {
+        destination(destination).timer.recordSince(startNanos);
+    }
+
+    public void failed(String destination, long startNanos) {
+        Destination metrics = destination(destination);
+        metrics.timer.recordSince(startNanos);
+        metrics.failures.increment();
+    }
+
+    // Send latency of every destination published to so far
+    public Map<String, Timer> timers() {
+        Map<String, Timer> timers = new TreeMap<>();
+        destinations.forEach((name, metrics) -> timers.put(name, metrics.timer));
+        return timers;
+    }
+
+    private Destination destination(String name) {
+        return destinations.computeIfAbsent(name, key -> new Destination(
+                registry.timer("trustsphere_jms_publish_seconds", "JMS send latency", "destination", key),
+                registry.counter("trustsphere_jms_publish_errors_total", "JMS sends that failed", "destination", key)));
+    }
+
+    private static final class Destination {
+
+        final Timer timer;
+        final Counter failures;
+
+        Destination(Timer timer, Counter failures) {
+            this.timer = timer;
+            this.failures = failures;
+        }
+    }
+}
@@ -2,6 +2,10 @@ package com.trustsphere.ejb.jms;
 
 import com.trustsphere.core.entity.Transaction;
 
+import com.trustsphere.ejb.tracing.Span;
+import com.trustsphere.ejb.tracing.SpanKind;
+import com.trustsphere.ejb.tracing.Tracing;
+
 import jakarta.annotation.Resource;
 import jakarta.ejb.EJBException;
 import jakarta.ejb.Stateless;
@@ -16,20 +20,45 @@ public class TransactionCreatedPublisher {
 
     private static final Logger logger = LoggerFactory.getLogger(TransactionCreatedPublisher.class);
 
+    private static final String DESTINATION = "bank.txn.created";
+
     @Inject
     private JMSContext context;
 
+    @Inject
+    private JmsPublishMetrics metrics;
+
     @Resource(lookup = "java:global/jms/bank/txn/created")
     private Topic topic;
 
     public void publish(Transaction txn) {
         // context.createProducer().send(topic, txn);
+        Span span = Tracing.startSpan("publish " + DESTINATION, SpanKind.PRODUCER);
+        long start = System.nanoTime();
         try {
             ObjectMessage msg = context.createObjectMessage(txn);
+            propagateTrace(msg);
             context.createProducer().send(topic, msg);
+            metrics.published(DESTINATION, start);
         } catch (Exception e) {
+            metrics.failed(DESTINATION, start);
             logger.error("JMS publish failed :{}", e.getMessage(), e);
+            if (span != null) {
+                span.fail(e);
+            }
             throw new EJBException("JMS publish failed", e);
+        } finally {
+            if (span != null) {
+                span.end();
+            }
+        }
+    }
+
+    // Consumers continue the trace from the W3C traceparent property
+    private static void propagateTrace(Message msg) throws JMSException {
+        Span current = Tracing.current();
+        if (current != null) {
+            msg.setStringProperty(Tracing.TRACEPARENT, current.traceparent());
         }
     }
 }
@@ -0,0 +1,9 @@
+package com.trustsphere.ejb.local;
+
+import com.trustsphere.ejb.remote.NotificationServiceRemote;
+import jakarta.ejb.Local;
+
+// Same contract as the remote view, invoked by reference by callers inside the EAR
+@Local
+public interface NotificationServiceLocal extends NotificationServiceRemote {
+}
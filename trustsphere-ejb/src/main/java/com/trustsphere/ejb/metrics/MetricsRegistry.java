@@ -0,0 +1,157 @@
+package com.trustsphere.ejb.metrics;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Application-wide counters, gauges and latency timers, rendered in the Prometheus text
+ * exposition format.
+ *
+ * Metrics are keyed by family name plus label pairs and created on first use. Looking one up
+ * builds its label string, so hot paths should look a metric up once and keep the instance;
+ * recording into it is then lock-free.
+ */
+@ApplicationScoped
+public class MetricsRegistry {
+
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private final ConcurrentMap<String, Family> families = new ConcurrentSkipListMap<>();
+
+    /**
+     * @param labels alternating label names and values
+     */
+    public Counter counter(String name, String help, String... labels) {
+        return (Counter) family(name, help, Type.COUNTER).metrics
+                .computeIfAbsent(labelString(labels), key -> new Counter());
+    }
+
+    // A count kept elsewhere, read at scrape time
+    public void counter(String name, String help, DoubleSupplier value, String... labels) {
+        family(name, help, Type.COUNTER).metrics.putIfAbsent(labelString(labels), value);
+    }
+
+    public void gauge(String name, String help, DoubleSupplier value, String... labels) {
+        family(name, help, Type.GAUGE).metrics.putIfAbsent(labelString(labels), value);
+    }
+
+    public Timer timer(String name, String help, String... labels) {
+        return (Timer) family(name, help, Type.SUMMARY).metrics
+                .computeIfAbsent(labelString(labels), key -> new Timer(WINDOW_NANOS));
+    }
+
+    public void writeTo(Writer out) throws IOException {
+        for (Map.Entry<String, Family> entry : families.entrySet()) {
+            String name = entry.getKey();
+            Family family = entry.getValue();
+            out.write("# HELP " + name + " " + family.help + "\n");
+            out.write("# TYPE " + name + " " + family.type.exposed + "\n");
+            for (Map.Entry<String, Object> metric : family.metrics.entrySet()) {
+                write(out, name, metric.getKey(), metric.getValue());
+            }
+        }
+    }
+
+    private static void write(Writer out, String name, String labels, Object metric) throws IOException {
+        if (metric instanceof Counter) {
+            sample(out, name, labels, null, ((Counter) metric).get());
+        } else if (metric instanceof Timer) {
+            Timer timer = (Timer) metric;
+            long[] values = timer.quantiles(QUANTILES);
+            for (int i = 0; i < QUANTILES.length; i++) {
+                sample(out, name, labels, "quantile=\"" + QUANTILES[i] + "\"", seconds(values[i]));
+            }
+            sample(out, name + "_sum", labels, null, seconds(timer.getTotalNanos()));
+            sample(out, name + "_count", labels, null, timer.getCount());
+        } else {
+            sample(out, name, labels, null, ((DoubleSupplier) metric).getAsDouble());
+        }
+    }
+
+    private static void sample(Writer out, String name, String labels, String extraLabel, double value)
+            throws IOException {
+        out.write(name);
+        if (!labels.isEmpty() || extraLabel != null) {
+            out.write('{');
+            out.write(labels);
+            if (extraLabel != null) {
+                out.write(labels.isEmpty() ? extraLabel : "," + extraLabel);
+            }
+            out.write('}');
+        }
+        out.write(' ');
+        out.write(value == Math.rint(value) && !Double.isInfinite(value)
+                ? Long.toString((long) value)
+                : Double.toString(value));
+        out.write('\n');
+    }
+
+    private Family family(String name, String help, Type type) {
+        Family family = families.computeIfAbsent(name, key -> new Family(type, help));
+        if (family.type != type) {
+            throw new IllegalArgumentException("Metric " + name + " is already registered as a " + family.type.exposed);
+        }
+        return family;
+    }
+
+    private static String labelString(String[] labels) {
+        if (labels.length % 2 != 0) {
+            throw new IllegalArgumentException("Labels must be name/value pairs");
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < labels.length; i += 2) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(labels[i]).append("=\"").append(escape(labels[i + 1])).append('"');
+        }
+        return sb.toString();
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static double seconds(long nanos) {
+        return nanos / 1e9;
+    }
+
+    private enum Type {
+        COUNTER("counter"),
+        GAUGE("gauge"),
+        SUMMARY("summary");
+
+        final String exposed;
+
+        Type(String exposed) {
+            this.exposed = exposed;
+        }
+    }
+
+    private static final class Family {
+
+        final Type type;
+        final String help;
+        // Sorted so a scrape lists label sets in a stable order
+        final ConcurrentMap<String, Object> metrics = new ConcurrentSkipListMap<>();
+
+        Family(Type type, String help) {
+            this.type = type;
+            this.help = help;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.trustsphere.ejb.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency distribution of one operation, in nanoseconds.
+ *
+ * Recording goes to an HdrHistogram {@link Recorder}, which is wait-free for writers. Readers
+ * swap out its interval histogram on each scrape and fold it into a two-slot sliding window,
+ * so quantiles describe the last one to two windows rather than the whole uptime, while the
+ * count and sum stay cumulative as Prometheus expects.
+ */
+public final class Timer {
+
+    // Three significant digits: 0.1% value resolution from nanoseconds up to minutes
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final long windowNanos;
+
+    // Scrape-side state, guarded by this
+    private Histogram interval;
+    private Histogram current = new Histogram(SIGNIFICANT_DIGITS);
+    private Histogram previous = new Histogram(SIGNIFICANT_DIGITS);
+    private long windowStarted = System.nanoTime();
+
+    Timer(long windowNanos) {
+        this.windowNanos = windowNanos;
+    }
+
+    public void record(long nanos) {
+        if (nanos < 0) {
+            // nanoTime is monotonic, so this only happens when a caller mixes clocks
+            return;
+        }
+        recorder.recordValue(nanos);
+        count.increment();
+        totalNanos.add(nanos);
+    }
+
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    /**
+     * Recent latency at each requested quantile, in nanoseconds.
+     */
+    public synchronized long[] quantiles(double... quantiles) {
+        long now = System.nanoTime();
+        interval = recorder.getIntervalHistogram(interval);
+        current.add(interval);
+        if (now - windowStarted >= windowNanos) {
+            Histogram expired = previous;
+            previous = current;
+            current = expired;
+            current.reset();
+            windowStarted = now;
+        }
+
+        Histogram recent = previous.copy();
+        recent.add(current);
+        long[] values = new long[quantiles.length];
+        for (int i = 0; i < quantiles.length; i++) {
+            values[i] = recent.getTotalCount() == 0 ? 0 : recent.getValueAtPercentile(quantiles[i] * 100.0);
+        }
+        return values;
+    }
+}
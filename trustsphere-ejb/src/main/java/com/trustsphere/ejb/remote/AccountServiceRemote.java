@@ -2,19 +2,40 @@ package com.trustsphere.ejb.remote;
 
 import com.trustsphere.core.enums.AccountStatus;
 import com.trustsphere.core.dto.AccountDTO;
+import com.trustsphere.core.dto.ImportRowErrorDTO;
 import jakarta.ejb.Remote;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 @Remote
 public interface AccountServiceRemote {
 
     AccountDTO createAccount(AccountDTO dto);
 
+    // Persists one chunk of pre-validated import rows keyed by source row number; returns rejected rows only
+    List<ImportRowErrorDTO> importAccounts(Map<Long, AccountDTO> rows);
+
     AccountDTO getAccountById(String id);
 
+    // Last modification time, used as the account's version for ETags
+    Instant getAccountVersion(String id);
+
+    // Id of the user who owns the account, for ownership checks on user-facing endpoints
+    String getOwnerId(String id);
+
     List<AccountDTO> listActiveByUser(String userId);
 
+    // Balance at an instant, folded forward from the nearest end-of-day snapshot
+    BigDecimal getBalanceAsOf(String id, Instant at);
+
+    // Writes closing-balance rows for the given UTC business date for up to `limit` accounts after `afterId`;
+    // returns the id to resume after, or null when done
+    String snapshotClosingBalances(LocalDate date, String afterId, int limit);
+
     void updateStatus(String id, AccountStatus status);
 
     //void updateStatus(String id, AccountStatus status, String reason, User currentUser);
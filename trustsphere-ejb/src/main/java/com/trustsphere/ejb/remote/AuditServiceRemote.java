@@ -2,6 +2,7 @@ package com.trustsphere.ejb.remote;
 
 import com.trustsphere.core.enums.SeverityLevel;
 import com.trustsphere.core.dto.AuditLogDTO;
+import com.trustsphere.core.dto.FieldSet;
 
 import jakarta.ejb.Remote;
 import java.util.List;
@@ -9,19 +10,20 @@ import java.util.List;
 @Remote
 public interface AuditServiceRemote {
 
-    List<AuditLogDTO> getRecentLogs(int limit);
+    // A null fieldset selects every field
+    List<AuditLogDTO> getRecentLogs(int limit, FieldSet fields);
 
     List<AuditLogDTO> getLogsBySeverity(SeverityLevel level, int offset, int limit);
 
-    List<AuditLogDTO> getLogsBySeverity(SeverityLevel level);
+    List<AuditLogDTO> getLogsBySeverity(SeverityLevel level, FieldSet fields);
 
     List<AuditLogDTO> getLogsByUser(String userId, int offset, int limit);
 
-    List<AuditLogDTO> getLogsByUser(String userId);
+    List<AuditLogDTO> getLogsByUser(String userId, FieldSet fields);
 
     List<AuditLogDTO> getLogsByResource(String resourceType, String resourceId, int offset, int limit);
 
-    List<AuditLogDTO> getLogsByResource(String resourceType, String resourceId);
+    List<AuditLogDTO> getLogsByResource(String resourceType, String resourceId, FieldSet fields);
 
     void recordAuditEntry(AuditLogDTO auditLogDTO);
 
@@ -1,5 +1,7 @@
 package com.trustsphere.ejb.remote;
 
+import com.trustsphere.core.dto.CursorPageDTO;
+import com.trustsphere.core.dto.FieldSet;
 import com.trustsphere.core.dto.NotificationDTO;
 import com.trustsphere.core.enums.NotificationType;
 import jakarta.ejb.Remote;
@@ -10,7 +12,10 @@ import java.util.List;
 public interface NotificationServiceRemote {
     List<NotificationDTO> getNotificationsByUser(String userId);
     List<NotificationDTO> getNotificationsByUser(String userId, int offset, int limit);
+    // A null fieldset selects every field
+    CursorPageDTO<NotificationDTO> getNotificationPageByUser(String userId, String cursor, int limit, FieldSet fields);
 
     List<NotificationDTO> getNotificationsByType(NotificationType type);
     List<NotificationDTO> getNotificationsByType(NotificationType type, int offset, int limit);
+    CursorPageDTO<NotificationDTO> getNotificationPageByType(NotificationType type, String cursor, int limit, FieldSet fields);
 }
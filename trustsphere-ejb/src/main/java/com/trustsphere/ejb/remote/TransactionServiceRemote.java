@@ -1,9 +1,14 @@
 package com.trustsphere.ejb.remote;
 
+import com.trustsphere.core.dto.CursorPageDTO;
+import com.trustsphere.core.dto.FieldSet;
+import com.trustsphere.core.dto.StatementLineDTO;
 import com.trustsphere.core.dto.TransactionDTO;
+import com.trustsphere.core.dto.TransactionSearchCriteria;
 import jakarta.ejb.Remote;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
 
 @Remote
@@ -13,11 +18,22 @@ public interface TransactionServiceRemote {
 
     List<TransactionDTO> getTransactionsByUser(String userId);
     List<TransactionDTO> getTransactionsByUser(String userId, int offset, int limit);
+    CursorPageDTO<TransactionDTO> getTransactionPageByUser(String userId, String cursor, int limit);
 
     List<TransactionDTO> getTransactionsBySourceAccount(String accId);
     List<TransactionDTO> getTransactionsBySourceAccount(String accId, int offset, int limit);
+    // A null fieldset selects every field
+    CursorPageDTO<TransactionDTO> getTransactionPageBySourceAccount(String accId, String cursor, int limit, FieldSet fields);
 
     List<TransactionDTO> getTransactionsByTargetAccount(String accId);
     List<TransactionDTO> getTransactionsByTargetAccount(String accId, int offset, int limit);
 
+    CursorPageDTO<TransactionDTO> searchTransactions(TransactionSearchCriteria criteria, String cursor, int limit, FieldSet fields);
+
+    // Completed incoming and outgoing transactions in (timestamp, id) order, strictly after the given cursor
+    List<StatementLineDTO> getStatementPage(String accId, Instant afterTimestamp, String afterId, Instant to, int limit);
+
+    // Indexes up to `limit` transactions that predate account_activity; returns the id to resume after, or null when done
+    String backfillAccountActivity(String afterId, int limit);
+
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.trustsphere.core.enums.UserStatus;
 import com.trustsphere.core.dto.UserDTO;
 import jakarta.ejb.Remote;
 
+import java.time.Instant;
 import java.util.List;
 
 @Remote
@@ -13,6 +14,9 @@ public interface UserServiceRemote {
 
     UserDTO getUserById(String id);
 
+    // Last modification time, used as the user's version for ETags
+    Instant getUserVersion(String id);
+
     List<UserDTO> listActiveUsers();
 
     void updateStatus(String id, UserStatus status);
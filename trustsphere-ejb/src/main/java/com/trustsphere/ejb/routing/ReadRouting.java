@@ -0,0 +1,31 @@
+package com.trustsphere.ejb.routing;
+
+/**
+ * Per-thread flag set by {@link com.trustsphere.ejb.interceptor.ReadOnlyRoutingInterceptor} while a
+ * replica-eligible read runs; DAOs consult it to pick the replica persistence context.
+ */
+public final class ReadRouting {
+
+    private static final ThreadLocal<Boolean> REPLICA = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private ReadRouting() {}
+
+    public static boolean useReplica() {
+        return REPLICA.get();
+    }
+
+    // Returns the previous state so nested calls can restore it
+    static boolean enter() {
+        boolean previous = REPLICA.get();
+        REPLICA.set(Boolean.TRUE);
+        return previous;
+    }
+
+    static void exit(boolean previous) {
+        if (previous) {
+            REPLICA.set(Boolean.TRUE);
+        } else {
+            REPLICA.remove();
+        }
+    }
+}
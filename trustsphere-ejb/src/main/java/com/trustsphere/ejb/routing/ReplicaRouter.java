@@ -0,0 +1,110 @@
+package com.trustsphere.ejb.routing;
+
+import jakarta.annotation.Resource;
+import jakarta.ejb.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decides whether a read may be served by the replica. The replica is used only while its measured
+ * lag is within {@link #MAX_REPLICA_LAG}, and never for a caller that wrote recently enough that the
+ * replica might not have their change yet.
+ */
+@Singleton
+@Startup
+@ConcurrencyManagement(ConcurrencyManagementType.BEAN)
+// Consulted on every routed read; none of its methods need a transaction
+@TransactionAttribute(TransactionAttributeType.NOT_SUPPORTED)
+public class ReplicaRouter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRouter.class);
+
+    private static final Duration MAX_REPLICA_LAG = Duration.ofSeconds(5);
+    private static final Duration LAG_CHECK_INTERVAL = Duration.ofSeconds(5);
+
+    // A lag reading older than this is treated as unknown
+    private static final Duration MAX_LAG_READING_AGE = LAG_CHECK_INTERVAL.multipliedBy(3);
+
+    // Covers the worst tolerated lag plus one check interval of drift
+    private static final Duration READ_YOUR_WRITES_WINDOW = MAX_REPLICA_LAG.plus(LAG_CHECK_INTERVAL);
+
+    @Resource(lookup = "trust_sphere_replica_jdbc")
+    private DataSource replicaDataSource;
+
+    private final Map<String, Instant> lastWriteByCaller = new ConcurrentHashMap<>();
+
+    // Null while unknown or while replication is stopped
+    private volatile Duration replicaLag;
+    private volatile Instant lagCheckedAt = Instant.EPOCH;
+
+    public boolean canRead(String caller) {
+        Duration lag = replicaLag;
+        Instant now = Instant.now();
+        if (lag == null || lag.compareTo(MAX_REPLICA_LAG) > 0
+                || lagCheckedAt.isBefore(now.minus(MAX_LAG_READING_AGE))) {
+            return false;
+        }
+        Instant lastWrite = caller != null ? lastWriteByCaller.get(caller) : null;
+        return lastWrite == null || lastWrite.isBefore(now.minus(READ_YOUR_WRITES_WINDOW));
+    }
+
+    // Pins the caller's reads to the primary until the replica is guaranteed to have caught up;
+    // every service method that writes on a caller's behalf should call this
+    public void recordWrite(String caller) {
+        if (caller != null) {
+            lastWriteByCaller.put(caller, Instant.now());
+        }
+    }
+
+    @Schedule(hour = "*", minute = "*", second = "*/5", persistent = false, info = "replica-lag-check")
+    public void checkReplicaLag() {
+        try (Connection connection = replicaDataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!rs.next()) {
+                // Not configured as a replica (e.g. pointed at the primary); nothing to lag behind
+                replicaLag = Duration.ZERO;
+            } else {
+                long seconds = rs.getLong("Seconds_Behind_Source");
+                replicaLag = rs.wasNull() ? null : Duration.ofSeconds(seconds);
+            }
+            lagCheckedAt = Instant.now();
+        } catch (SQLException e) {
+            replicaLag = null;
+            logger.warn("Replica lag check failed, routing reads to primary :{}", e.getMessage());
+        }
+
+        Instant expired = Instant.now().minus(READ_YOUR_WRITES_WINDOW);
+        lastWriteByCaller.values().removeIf(lastWrite -> lastWrite.isBefore(expired));
+    }
+
+    // Last measured lag, or null while unknown or while replication is stopped
+    public Duration getReplicaLag() {
+        return replicaLag;
+    }
+
+    public Instant getLagCheckedAt() {
+        return lagCheckedAt;
+    }
+
+    // Runs the call with replica routing enabled, restoring the previous state afterwards
+    public <T> T onReplica(Callable<T> call) throws Exception {
+        boolean previous = ReadRouting.enter();
+        try {
+            return call.call();
+        } finally {
+            ReadRouting.exit(previous);
+        }
+    }
+}
@@ -2,27 +2,53 @@ package com.trustsphere.ejb.service;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.trustsphere.core.entity.Account;
+import com.trustsphere.core.entity.BalanceSnapshot;
+import com.trustsphere.core.entity.Transaction;
 import com.trustsphere.core.enums.AccountStatus;
+import com.trustsphere.core.enums.TransactionStatus;
+import com.trustsphere.core.enums.TransactionType;
+import com.trustsphere.ejb.local.AccountServiceLocal;
 import com.trustsphere.ejb.remote.AccountServiceRemote;
+import com.trustsphere.ejb.dao.AccountActivityDAO;
 import com.trustsphere.ejb.dao.AccountDAO;
+import com.trustsphere.ejb.dao.BalanceSnapshotDAO;
+import com.trustsphere.ejb.dao.TransactionDAO;
+import com.trustsphere.ejb.dao.UserDAO;
 import com.trustsphere.core.dto.AccountDTO;
+import com.trustsphere.core.dto.ImportRowErrorDTO;
 import com.trustsphere.ejb.exception.AccountNotFoundException;
+import com.trustsphere.ejb.interceptor.ReadOnly;
+import com.trustsphere.ejb.jfr.InterestChunkEvent;
+import com.trustsphere.ejb.interceptor.Timed;
+import com.trustsphere.ejb.routing.ReplicaRouter;
 
 import jakarta.annotation.Resource;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.ejb.EJB;
+import jakarta.ejb.SessionContext;
 import jakarta.ejb.Stateless;
 import jakarta.ejb.TransactionAttribute;
 import jakarta.ejb.TransactionAttributeType;
 
 @Stateless
+@Timed
 @RolesAllowed({"ROLE_ADMIN", "ROLE_TELLER"})
 @TransactionAttribute(TransactionAttributeType.REQUIRED)
-public class AccountServiceBean implements AccountServiceRemote {
+public class AccountServiceBean implements AccountServiceRemote, AccountServiceLocal {
+
+    // Matches hibernate.jdbc.batch_size so each flush maps to one JDBC batch
+    private static final int BATCH_FLUSH_INTERVAL = 25;
 
     @Resource(name = "dailyInterestRate")
     private double dailyInterestRate;
@@ -30,13 +56,76 @@ public class AccountServiceBean implements AccountServiceRemote {
     @EJB
     private AccountDAO accountDAO;
 
+    @EJB
+    private UserDAO userDAO;
+
+    @EJB
+    private TransactionDAO transactionDAO;
+
+    @EJB
+    private AccountActivityDAO accountActivityDAO;
+
+    @EJB
+    private BalanceSnapshotDAO balanceSnapshotDAO;
+
+    @EJB
+    private ReplicaRouter replicaRouter;
+
+    @Resource
+    private SessionContext sessionContext;
+
     @Override
     public AccountDTO createAccount(AccountDTO dto) {
         Account account = mapToEntity(dto);
         Account created = accountDAO.create(account);
+        replicaRouter.recordWrite(sessionContext.getCallerPrincipal().getName());
         return mapToDTO(created);
     }
 
+    @Override
+    public List<ImportRowErrorDTO> importAccounts(Map<Long, AccountDTO> rows) {
+        List<ImportRowErrorDTO> errors = new ArrayList<>();
+        if (rows.isEmpty()) {
+            return errors;
+        }
+
+        // Two set-based lookups per chunk instead of two queries per row
+        Set<String> accountNumbers = new HashSet<>();
+        Set<String> userIds = new HashSet<>();
+        for (AccountDTO dto : rows.values()) {
+            accountNumbers.add(dto.getAccountNumber());
+            userIds.add(dto.getUserId());
+        }
+        Set<String> taken = accountDAO.findExistingAccountNumbers(accountNumbers);
+        Set<String> knownUsers = userDAO.findExistingIds(userIds);
+
+        int pending = 0;
+        for (Map.Entry<Long, AccountDTO> row : rows.entrySet()) {
+            AccountDTO dto = row.getValue();
+            if (!knownUsers.contains(dto.getUserId())) {
+                errors.add(new ImportRowErrorDTO(row.getKey(), "USER_NOT_FOUND", "User not found: " + dto.getUserId()));
+                continue;
+            }
+            // add() also rejects duplicates within the same chunk
+            if (!taken.add(dto.getAccountNumber())) {
+                errors.add(new ImportRowErrorDTO(row.getKey(), "DUPLICATE_ACCOUNT_NUMBER",
+                        "Account number already exists: " + dto.getAccountNumber()));
+                continue;
+            }
+
+            Account account = mapToEntity(dto);
+            account.setUser(userDAO.getReference(dto.getUserId()));
+            accountDAO.create(account);
+
+            if (++pending % BATCH_FLUSH_INTERVAL == 0) {
+                accountDAO.flushBatch();
+            }
+        }
+        accountDAO.flushBatch();
+        replicaRouter.recordWrite(sessionContext.getCallerPrincipal().getName());
+        return errors;
+    }
+
     @Override
     public AccountDTO getAccountById(String id) throws AccountNotFoundException {
         Account account = accountDAO.findById(id);
@@ -46,7 +135,30 @@ public class AccountServiceBean implements AccountServiceRemote {
         return mapToDTO(account);
     }
 
+    // Served from the primary: a lagging replica could confirm a stale ETag
+    @Override
+    public Instant getAccountVersion(String id) throws AccountNotFoundException {
+        Instant version = accountDAO.findUpdatedAt(id);
+        if (version == null) {
+            throw new AccountNotFoundException(id);
+        }
+        return version;
+    }
+
+    // Served from the primary: ownership must not depend on replica lag
+    @Override
+    @RolesAllowed({"ROLE_USER", "ROLE_TELLER", "ROLE_ADMIN"})
+    @TransactionAttribute(TransactionAttributeType.SUPPORTS)
+    public String getOwnerId(String id) throws AccountNotFoundException {
+        String ownerId = accountDAO.findOwnerId(id);
+        if (ownerId == null) {
+            throw new AccountNotFoundException(id);
+        }
+        return ownerId;
+    }
+
     @Override
+    @ReadOnly
     @TransactionAttribute(TransactionAttributeType.SUPPORTS)
     public List<AccountDTO> listActiveByUser(String userId) {
         return accountDAO.findActiveByUserId(userId).stream()
@@ -54,6 +166,62 @@ public class AccountServiceBean implements AccountServiceRemote {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @RolesAllowed({"ROLE_USER", "ROLE_TELLER", "ROLE_ADMIN"})
+    @TransactionAttribute(TransactionAttributeType.SUPPORTS)
+    public BigDecimal getBalanceAsOf(String id, Instant at) throws AccountNotFoundException {
+        LocalDate lastClosedDay = LocalDate.ofInstant(at, ZoneOffset.UTC).minusDays(1);
+        BalanceSnapshot snapshot = balanceSnapshotDAO.findLatestOnOrBefore(id, lastClosedDay);
+
+        if (snapshot == null) {
+            // No checkpoint yet: reverse later movements out of the live balance
+            Account account = accountDAO.findById(id);
+            if (account == null) {
+                throw new AccountNotFoundException(id);
+            }
+            return account.getBalance()
+                    .subtract(transactionDAO.sumIncomingSince(id, at))
+                    .add(transactionDAO.sumOutgoingSince(id, at));
+        }
+
+        // Fold only the movements between the snapshot's end of day and the requested instant
+        Instant checkpoint = endOfDay(snapshot.getSnapshotDate());
+        return snapshot.getClosingBalance()
+                .add(transactionDAO.sumIncomingBetween(id, checkpoint, at))
+                .subtract(transactionDAO.sumOutgoingBetween(id, checkpoint, at));
+    }
+
+    @Override
+    @TransactionAttribute(TransactionAttributeType.REQUIRES_NEW)
+    public String snapshotClosingBalances(LocalDate date, String afterId, int limit) {
+        // Each balance and the movements booked after the close come from one statement, so they agree
+        List<Object[]> rows = accountDAO.findClosingPage(afterId != null ? afterId : "", endOfDay(date), limit);
+        if (rows.isEmpty()) {
+            return null;
+        }
+        List<String> accountIds = rows.stream().map(row -> (String) row[0]).collect(Collectors.toList());
+
+        // Re-running a day replaces its snapshots instead of tripping the unique constraint
+        balanceSnapshotDAO.deleteByDate(date, accountIds);
+
+        int written = 0;
+        for (Object[] row : rows) {
+            BigDecimal closing = ((BigDecimal) row[1])
+                    .subtract((BigDecimal) row[2])
+                    .add((BigDecimal) row[3]);
+            balanceSnapshotDAO.create(new BalanceSnapshot((String) row[0], date, closing));
+
+            if (++written % BATCH_FLUSH_INTERVAL == 0) {
+                balanceSnapshotDAO.flushBatch();
+            }
+        }
+        return rows.size() < limit ? null : accountIds.get(accountIds.size() - 1);
+    }
+
+    private static Instant endOfDay(LocalDate date) {
+        return date.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+
     @Override
     public void updateStatus(String id, AccountStatus status) throws AccountNotFoundException {
         Account account = accountDAO.findById(id);
@@ -62,6 +230,7 @@ public class AccountServiceBean implements AccountServiceRemote {
         }
         account.setStatus(status);
         accountDAO.update(account);
+        replicaRouter.recordWrite(sessionContext.getCallerPrincipal().getName());
     }
 
     private Account mapToEntity(AccountDTO dto) {
@@ -93,17 +262,44 @@ public class AccountServiceBean implements AccountServiceRemote {
         BigDecimal rate = BigDecimal.valueOf(dailyInterestRate);
 
         int count = 0;
+        InterestChunkEvent chunk = new InterestChunkEvent();
+        chunk.begin();
         for (Account acc : accounts) {
             BigDecimal interest = acc.getBalance().multiply(rate)
                     .setScale(2, RoundingMode.HALF_UP);
+            if (interest.signum() <= 0) {
+                continue;
+            }
             acc.setBalance(acc.getBalance().add(interest));
-
             accountDAO.update(acc);
-            if (++count % 25 == 0) {
+
+            // Booked as a completed credit so balance-as-of, snapshots and statements see the posting
+            Transaction posting = new Transaction(null, acc, interest,
+                    TransactionType.INTEREST, TransactionStatus.COMPLETED);
+            posting.setDescription("Daily interest");
+            transactionDAO.create(posting);
+            accountActivityDAO.recordTransaction(posting);
+
+            if (++count % BATCH_FLUSH_INTERVAL == 0) {
                 accountDAO.flushBatch();
+                commitChunk(chunk, count / BATCH_FLUSH_INTERVAL - 1, BATCH_FLUSH_INTERVAL);
+                chunk = new InterestChunkEvent();
+                chunk.begin();
             }
         }
         accountDAO.flushBatch();
+        if (count % BATCH_FLUSH_INTERVAL != 0) {
+            commitChunk(chunk, count / BATCH_FLUSH_INTERVAL, count % BATCH_FLUSH_INTERVAL);
+        }
+    }
+
+    private static void commitChunk(InterestChunkEvent chunk, int index, int accounts) {
+        chunk.end();
+        if (chunk.shouldCommit()) {
+            chunk.chunk = index;
+            chunk.accounts = accounts;
+            chunk.commit();
+        }
     }
 
 //    public void applyDailyInterestToAllActiveAccounts() {
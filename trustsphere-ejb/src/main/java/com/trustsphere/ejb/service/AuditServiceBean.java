@@ -2,11 +2,19 @@ package com.trustsphere.ejb.service;
 
 import com.trustsphere.core.entity.AuditLog;
 import com.trustsphere.core.enums.SeverityLevel;
+import com.trustsphere.ejb.jfr.AuditFlushEvent;
+import com.trustsphere.ejb.local.AuditServiceLocal;
 import com.trustsphere.ejb.remote.AuditServiceRemote;
 import com.trustsphere.ejb.dao.AuditLogDAO;
 import com.trustsphere.core.dto.AuditLogDTO;
+import com.trustsphere.core.dto.FieldSet;
+import com.trustsphere.ejb.interceptor.ReadOnly;
+import com.trustsphere.ejb.interceptor.Timed;
+import com.trustsphere.ejb.routing.ReplicaRouter;
 
+import jakarta.annotation.Resource;
 import jakarta.annotation.security.RolesAllowed;
+import jakarta.ejb.SessionContext;
 import jakarta.ejb.Stateless;
 import jakarta.ejb.TransactionAttribute;
 import jakarta.ejb.TransactionAttributeType;
@@ -15,24 +23,34 @@ import jakarta.inject.Inject;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Stateless
+@Timed
 @RolesAllowed({"ROLE_AUDITOR", "ROLE_ADMIN"})
 @TransactionAttribute(TransactionAttributeType.REQUIRED)
-public class AuditServiceBean implements AuditServiceRemote {
+public class AuditServiceBean implements AuditServiceRemote, AuditServiceLocal {
+
+    private static final int MAX_UNPAGED_RESULTS = 1000;
 
     @Inject
     private AuditLogDAO auditLogDAO;
 
+    @Inject
+    private ReplicaRouter replicaRouter;
+
+    @Resource
+    private SessionContext sessionContext;
+
     @Override
+    @ReadOnly
     @TransactionAttribute(TransactionAttributeType.SUPPORTS)
-    public List<AuditLogDTO> getRecentLogs(int limit) {
-        return auditLogDAO.findRecent(limit).stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+    public List<AuditLogDTO> getRecentLogs(int limit, FieldSet fields) {
+        return project(Map.of(), fields, limit);
     }
 
     @Override
@@ -43,9 +61,10 @@ public class AuditServiceBean implements AuditServiceRemote {
     }
 
     @Override
+    @ReadOnly
     @TransactionAttribute(TransactionAttributeType.SUPPORTS)
-    public List<AuditLogDTO> getLogsBySeverity(SeverityLevel level) {
-        return getLogsBySeverity(level, 0, 1000);
+    public List<AuditLogDTO> getLogsBySeverity(SeverityLevel level, FieldSet fields) {
+        return project(Map.of("severityLevel", level), fields, MAX_UNPAGED_RESULTS);
     }
 
     @Override
@@ -56,9 +75,10 @@ public class AuditServiceBean implements AuditServiceRemote {
     }
 
     @Override
+    @ReadOnly
     @TransactionAttribute(TransactionAttributeType.SUPPORTS)
-    public List<AuditLogDTO> getLogsByUser(String userId) {
-        return getLogsByUser(userId, 0, 1000);
+    public List<AuditLogDTO> getLogsByUser(String userId, FieldSet fields) {
+        return project(Map.of("actorUserId", userId), fields, MAX_UNPAGED_RESULTS);
     }
 
     @Override
@@ -69,9 +89,13 @@ public class AuditServiceBean implements AuditServiceRemote {
     }
 
     @Override
+    @ReadOnly
     @TransactionAttribute(TransactionAttributeType.SUPPORTS)
-    public List<AuditLogDTO> getLogsByResource(String resourceType, String resourceId) {
-        return getLogsByResource(resourceType, resourceId, 0, 1000);
+    public List<AuditLogDTO> getLogsByResource(String resourceType, String resourceId, FieldSet fields) {
+        Map<String, Object> equalTo = new LinkedHashMap<>();
+        equalTo.put("resourceType", resourceType);
+        equalTo.put("resourceId", resourceId);
+        return project(equalTo, fields, MAX_UNPAGED_RESULTS);
     }
 
     @Override
@@ -88,7 +112,27 @@ public class AuditServiceBean implements AuditServiceRemote {
         log.setIpAddress(dto.getIpAddress());
         log.setUserAgent(dto.getUserAgent());
         log.setTimestamp(dto.getTimestamp().atZone(ZoneId.systemDefault()).toInstant());
+
+        AuditFlushEvent event = new AuditFlushEvent();
+        event.begin();
         auditLogDAO.save(log);
+        // Runs in its own transaction, so flushing here only moves the INSERT inside the measured span
+        auditLogDAO.flush();
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = AuditFlushEvent.RECORD;
+            event.rows = 1;
+            event.commit();
+        }
+        replicaRouter.recordWrite(sessionContext.getCallerPrincipal().getName());
+    }
+
+    // Selects only the requested columns; a null fieldset selects them all
+    private List<AuditLogDTO> project(Map<String, Object> equalTo, FieldSet fields, int limit) {
+        FieldSet selected = FieldSet.orAll(fields);
+        return auditLogDAO.findProjected(equalTo, selected, 0, limit).stream()
+                .map(row -> AuditLogDAO.PROJECTION.map(row, selected))
+                .collect(Collectors.toList());
     }
 
     private AuditLogDTO mapToDTO(AuditLog log) {
@@ -109,7 +153,15 @@ public class AuditServiceBean implements AuditServiceRemote {
     @TransactionAttribute(TransactionAttributeType.REQUIRES_NEW)
     public void deleteOlderThan(int days) {
         Instant threshold = Instant.now().minus(days, ChronoUnit.DAYS);
-        auditLogDAO.deleteBefore(threshold);
+        AuditFlushEvent event = new AuditFlushEvent();
+        event.begin();
+        int deleted = auditLogDAO.deleteBefore(threshold);
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = AuditFlushEvent.PURGE;
+            event.rows = deleted;
+            event.commit();
+        }
     }
 
 }
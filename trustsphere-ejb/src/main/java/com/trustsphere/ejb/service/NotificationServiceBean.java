@@ -1,35 +1,46 @@
 package com.trustsphere.ejb.service;
 
+import com.trustsphere.ejb.local.NotificationServiceLocal;
 import com.trustsphere.ejb.remote.NotificationServiceRemote;
 import com.trustsphere.ejb.dao.NotificationDAO;
+import com.trustsphere.core.dto.CursorPageDTO;
+import com.trustsphere.core.dto.FieldSet;
 import com.trustsphere.core.dto.NotificationDTO;
 import com.trustsphere.core.entity.Notification;
 import com.trustsphere.core.enums.NotificationType;
+import com.trustsphere.core.util.PageCursor;
+import com.trustsphere.ejb.interceptor.ReadOnly;
+import com.trustsphere.ejb.interceptor.Timed;
 
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.ejb.EJB;
 import jakarta.ejb.Stateless;
 import jakarta.ejb.TransactionAttribute;
 import jakarta.ejb.TransactionAttributeType;
+import jakarta.persistence.Tuple;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Stateless
+@Timed
 @RolesAllowed({"ROLE_USER", "ROLE_ADMIN", "ROLE_TELLER"})
 @TransactionAttribute(TransactionAttributeType.REQUIRED)
-public class NotificationServiceBean implements NotificationServiceRemote {
+public class NotificationServiceBean implements NotificationServiceRemote, NotificationServiceLocal {
 
     @EJB
     private NotificationDAO notificationDAO;
 
     @Override
+    @ReadOnly
     @TransactionAttribute(TransactionAttributeType.SUPPORTS)
     public List<NotificationDTO> getNotificationsByUser(String userId) {
         return getNotificationsByUser(userId, 0, 1000);
     }
 
     @Override
+    @ReadOnly
     @TransactionAttribute(TransactionAttributeType.SUPPORTS)
     public List<NotificationDTO> getNotificationsByType(NotificationType type) {
         return getNotificationsByType(type, 0, 1000);
@@ -49,6 +60,40 @@ public class NotificationServiceBean implements NotificationServiceRemote {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @ReadOnly
+    @TransactionAttribute(TransactionAttributeType.SUPPORTS)
+    public CursorPageDTO<NotificationDTO> getNotificationPageByUser(String userId, String cursor, int limit,
+                                                                   FieldSet fields) {
+        FieldSet selected = FieldSet.orAll(fields);
+        // One extra row tells us whether a next page exists without a COUNT query
+        return toPage(notificationDAO.findByUserIdBefore(userId, PageCursor.decode(cursor), limit + 1, selected),
+                limit, selected);
+    }
+
+    @Override
+    @ReadOnly
+    @TransactionAttribute(TransactionAttributeType.SUPPORTS)
+    public CursorPageDTO<NotificationDTO> getNotificationPageByType(NotificationType type, String cursor, int limit,
+                                                                   FieldSet fields) {
+        FieldSet selected = FieldSet.orAll(fields);
+        return toPage(notificationDAO.findByTypeBefore(type, PageCursor.decode(cursor), limit + 1, selected),
+                limit, selected);
+    }
+
+    private CursorPageDTO<NotificationDTO> toPage(List<Tuple> rows, int limit, FieldSet fields) {
+        boolean hasNext = rows.size() > limit;
+        List<Tuple> page = hasNext ? rows.subList(0, limit) : rows;
+        String next = null;
+        if (hasNext) {
+            Tuple last = page.get(page.size() - 1);
+            next = PageCursor.encode(last.get("timestamp", Instant.class), last.get("id", String.class));
+        }
+        return new CursorPageDTO<>(page.stream()
+                .map(row -> NotificationDAO.PROJECTION.map(row, fields))
+                .collect(Collectors.toList()), next);
+    }
+
     private NotificationDTO mapToDTO(Notification entity) {
         NotificationDTO dto = new NotificationDTO();
         dto.setId(entity.getId());
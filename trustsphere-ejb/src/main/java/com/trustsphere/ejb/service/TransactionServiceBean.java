@@ -1,18 +1,31 @@
 package com.trustsphere.ejb.service;
 
 import com.trustsphere.core.entity.Account;
+import com.trustsphere.core.entity.AccountActivity;
 import com.trustsphere.core.entity.Transaction;
 import com.trustsphere.core.entity.AuditLog;
 import com.trustsphere.core.enums.TransactionType;
 import com.trustsphere.core.enums.TransactionStatus;
 import com.trustsphere.core.enums.SeverityLevel;
+import com.trustsphere.core.enums.ActivityDirection;
+import com.trustsphere.ejb.jfr.TransferEvent;
+import com.trustsphere.ejb.local.TransactionServiceLocal;
 import com.trustsphere.ejb.remote.TransactionServiceRemote;
 import com.trustsphere.ejb.dao.TransactionDAO;
 import com.trustsphere.ejb.dao.AccountDAO;
 import com.trustsphere.ejb.dao.AuditLogDAO;
+import com.trustsphere.ejb.dao.AccountActivityDAO;
+import com.trustsphere.core.dto.CursorPageDTO;
+import com.trustsphere.core.dto.FieldSet;
+import com.trustsphere.core.dto.StatementLineDTO;
 import com.trustsphere.core.dto.TransactionDTO;
+import com.trustsphere.core.dto.TransactionSearchCriteria;
 import com.trustsphere.ejb.exception.AccountNotFoundException;
 import com.trustsphere.ejb.exception.InsufficientFundsException;
+import com.trustsphere.core.util.PageCursor;
+import com.trustsphere.ejb.interceptor.ReadOnly;
+import com.trustsphere.ejb.interceptor.Timed;
+import com.trustsphere.ejb.routing.ReplicaRouter;
 
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -20,19 +33,31 @@ import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import jakarta.annotation.Resource;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.ejb.*;
+import jakarta.persistence.Tuple;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 
 @Stateless
+@Timed
 @RolesAllowed({"ROLE_USER", "ROLE_ADMIN", "ROLE_TELLER"})
 @TransactionAttribute(TransactionAttributeType.REQUIRED)
-public class TransactionServiceBean implements TransactionServiceRemote {
+public class TransactionServiceBean implements TransactionServiceRemote, TransactionServiceLocal {
 
     private static final Logger logger = LoggerFactory.getLogger(TransactionServiceBean.class);
 
+    // Upper bound for the legacy unpaged listings; callers needing more must page with a cursor
+    private static final int MAX_UNPAGED_RESULTS = 1000;
+
+    private static final int BATCH_FLUSH_INTERVAL = 25;
+
+    private static final int MAX_SEARCH_RESULTS = 200;
+
+    private static final long SLOW_SEARCH_THRESHOLD_MS = 500;
+
     @EJB
     private AuditLogDAO auditLogDAO;
 
@@ -42,12 +67,25 @@ public class TransactionServiceBean implements TransactionServiceRemote {
     @EJB
     private TransactionDAO transactionDAO;
 
+    @EJB
+    private AccountActivityDAO accountActivityDAO;
+
+    @EJB
+    private ReplicaRouter replicaRouter;
+
+    @Resource
+    private SessionContext sessionContext;
+
 
     @Override
     public TransactionDTO transfer(String srcId, String tgtId, BigDecimal amount) {
+        TransferEvent event = new TransferEvent();
+        event.begin();
         try {
+            long lookupStart = System.nanoTime();
             Account sourceAccount = accountDAO.findById(srcId);
             Account targetAccount = accountDAO.findById(tgtId);
+            long lookupNanos = System.nanoTime() - lookupStart;
 
             if (sourceAccount == null || targetAccount == null) {
                 throw new AccountNotFoundException(srcId + " or " + tgtId);
@@ -65,6 +103,14 @@ public class TransactionServiceBean implements TransactionServiceRemote {
             targetAccount.setBalance(targetAccount.getBalance().add(amount));
             accountDAO.update(targetAccount);
 
+            // The balance UPDATEs take the row locks, so flushing them on their own times the wait for them.
+            // Only while the event is recorded: otherwise the writes stay batched until commit.
+            if (event.isEnabled()) {
+                long lockStart = System.nanoTime();
+                accountDAO.flush();
+                event.lockWait = System.nanoTime() - lockStart;
+            }
+
             // Create transaction record
             Transaction transaction = new Transaction();
             transaction.setSourceAccount(sourceAccount);
@@ -76,6 +122,7 @@ public class TransactionServiceBean implements TransactionServiceRemote {
             transaction.setReferenceNumber(UUID.randomUUID().toString());
 
             Transaction created = transactionDAO.create(transaction);
+            accountActivityDAO.recordTransaction(created);
 
             // Create audit log
             AuditLog auditLog = new AuditLog();
@@ -89,17 +136,33 @@ public class TransactionServiceBean implements TransactionServiceRemote {
 
             auditLogDAO.create(auditLog);
 
+            if (event.isEnabled()) {
+                long writeStart = System.nanoTime();
+                accountDAO.flush();
+                event.dbTime = lookupNanos + event.lockWait + (System.nanoTime() - writeStart);
+            }
+            event.succeeded = true;
+
+            // The caller expects to see this transfer in their next listing
+            replicaRouter.recordWrite(sessionContext.getCallerPrincipal().getName());
+
             return mapToDTO(created);
 
         } catch (Exception e) {
             logger.error("Transfer failed :{}", e.getMessage(), e);
             throw new RuntimeException("Transfer failed", e);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.identify(srcId, tgtId, amount);
+                event.commit();
+            }
         }
     }
 
     @Override
     public List<TransactionDTO> getTransactionsByUser(String userId) {
-        return getTransactionsByUser(userId, 0, Integer.MAX_VALUE);
+        return getTransactionsByUser(userId, 0, MAX_UNPAGED_RESULTS);
     }
 
     @Override
@@ -110,9 +173,17 @@ public class TransactionServiceBean implements TransactionServiceRemote {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @ReadOnly
+    @TransactionAttribute(TransactionAttributeType.SUPPORTS)
+    public CursorPageDTO<TransactionDTO> getTransactionPageByUser(String userId, String cursor, int limit) {
+        // One extra row tells us whether a next page exists without a COUNT query
+        return toPage(accountActivityDAO.findTransactionsByUserBefore(userId, PageCursor.decode(cursor), limit + 1), limit);
+    }
+
     @Override
     public List<TransactionDTO> getTransactionsBySourceAccount(String accId) {
-        return getTransactionsBySourceAccount(accId, 0, Integer.MAX_VALUE);
+        return getTransactionsBySourceAccount(accId, 0, MAX_UNPAGED_RESULTS);
     }
 
     @Override
@@ -123,9 +194,19 @@ public class TransactionServiceBean implements TransactionServiceRemote {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @ReadOnly
+    @TransactionAttribute(TransactionAttributeType.SUPPORTS)
+    public CursorPageDTO<TransactionDTO> getTransactionPageBySourceAccount(String accId, String cursor, int limit,
+                                                                          FieldSet fields) {
+        FieldSet selected = FieldSet.orAll(fields);
+        return toProjectedPage(transactionDAO.findBySourceAccIdBefore(accId, PageCursor.decode(cursor), limit + 1, selected),
+                limit, selected);
+    }
+
     @Override
     public List<TransactionDTO> getTransactionsByTargetAccount(String accId) {
-        return getTransactionsByTargetAccount(accId, 0, Integer.MAX_VALUE);
+        return getTransactionsByTargetAccount(accId, 0, MAX_UNPAGED_RESULTS);
     }
 
     @Override
@@ -136,11 +217,89 @@ public class TransactionServiceBean implements TransactionServiceRemote {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @RolesAllowed({"ROLE_ADMIN", "ROLE_TELLER"})
+    @ReadOnly
+    @TransactionAttribute(TransactionAttributeType.SUPPORTS)
+    public CursorPageDTO<TransactionDTO> searchTransactions(TransactionSearchCriteria criteria, String cursor, int limit,
+                                                            FieldSet fields) {
+        int cappedLimit = Math.min(limit, MAX_SEARCH_RESULTS);
+        FieldSet selected = FieldSet.orAll(fields);
+        long started = System.nanoTime();
+        List<Tuple> rows = transactionDAO.search(criteria, PageCursor.decode(cursor), cappedLimit + 1, selected);
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+        if (elapsedMs > SLOW_SEARCH_THRESHOLD_MS) {
+            logger.warn("Slow transaction search: {} ms, {} rows, index {} for {}",
+                    elapsedMs, rows.size(), transactionDAO.searchIndexFor(criteria), criteria);
+        }
+        return toProjectedPage(rows, cappedLimit, selected);
+    }
+
+    @Override
+    @TransactionAttribute(TransactionAttributeType.SUPPORTS)
+    public List<StatementLineDTO> getStatementPage(String accId, Instant afterTimestamp, String afterId, Instant to, int limit) {
+        return transactionDAO.findStatementPage(accId, afterTimestamp, afterId, to, limit);
+    }
+
+    @Override
+    @RolesAllowed({"ROLE_ADMIN"})
+    @TransactionAttribute(TransactionAttributeType.REQUIRES_NEW)
+    public String backfillAccountActivity(String afterId, int limit) {
+        List<Object[]> rows = accountActivityDAO.findUnindexedTransactions(afterId != null ? afterId : "", limit);
+        String lastId = null;
+        int written = 0;
+        for (Object[] row : rows) {
+            String transactionId = (String) row[0];
+            Instant timestamp = (Instant) row[1];
+            Transaction reference = accountActivityDAO.getTransactionReference(transactionId);
+
+            if (row[2] != null) {
+                accountActivityDAO.create(new AccountActivity((String) row[3], (String) row[2],
+                        ActivityDirection.DEBIT, timestamp, reference));
+            }
+            if (row[4] != null) {
+                accountActivityDAO.create(new AccountActivity((String) row[5], (String) row[4],
+                        ActivityDirection.CREDIT, timestamp, reference));
+            }
+            lastId = transactionId;
+
+            if (++written % BATCH_FLUSH_INTERVAL == 0) {
+                accountActivityDAO.flushBatch();
+            }
+        }
+        return rows.size() < limit ? null : lastId;
+    }
+
+    private CursorPageDTO<TransactionDTO> toPage(List<Transaction> rows, int limit) {
+        boolean hasNext = rows.size() > limit;
+        List<Transaction> page = hasNext ? rows.subList(0, limit) : rows;
+        String next = null;
+        if (hasNext) {
+            Transaction last = page.get(page.size() - 1);
+            next = PageCursor.encode(last.getTimestamp(), last.getId());
+        }
+        return new CursorPageDTO<>(page.stream().map(this::mapToDTO).collect(Collectors.toList()), next);
+    }
+
+    // Rows carry the requested fields plus the timestamp and id the next cursor is built from
+    private CursorPageDTO<TransactionDTO> toProjectedPage(List<Tuple> rows, int limit, FieldSet fields) {
+        boolean hasNext = rows.size() > limit;
+        List<Tuple> page = hasNext ? rows.subList(0, limit) : rows;
+        String next = null;
+        if (hasNext) {
+            Tuple last = page.get(page.size() - 1);
+            next = PageCursor.encode(last.get("timestamp", Instant.class), last.get("id", String.class));
+        }
+        return new CursorPageDTO<>(page.stream()
+                .map(row -> TransactionDAO.PROJECTION.map(row, fields))
+                .collect(Collectors.toList()), next);
+    }
+
     private TransactionDTO mapToDTO(Transaction transaction) {
         TransactionDTO dto = new TransactionDTO();
         dto.setId(transaction.getId());
-        dto.setSourceAccountId(transaction.getSourceAccount().getId());
-        dto.setTargetAccountId(transaction.getTargetAccount().getId());
+        dto.setSourceAccountId(transaction.getSourceAccount() != null ? transaction.getSourceAccount().getId() : null);
+        dto.setTargetAccountId(transaction.getTargetAccount() != null ? transaction.getTargetAccount().getId() : null);
         dto.setAmount(transaction.getAmount());
         dto.setType(transaction.getType());
         dto.setStatus(transaction.getStatus());
@@ -3,31 +3,46 @@ package com.trustsphere.ejb.service;
 import com.trustsphere.core.entity.User;
 import com.trustsphere.core.entity.Role;
 import com.trustsphere.core.enums.UserStatus;
+import com.trustsphere.ejb.local.UserServiceLocal;
 import com.trustsphere.ejb.remote.UserServiceRemote;
 import com.trustsphere.ejb.dao.UserDAO;
 import com.trustsphere.core.dto.UserDTO;
 import com.trustsphere.ejb.exception.UserNotFoundException;
+import com.trustsphere.ejb.interceptor.ReadOnly;
+import com.trustsphere.ejb.interceptor.Timed;
+import com.trustsphere.ejb.routing.ReplicaRouter;
+import java.time.Instant;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import jakarta.annotation.Resource;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.ejb.EJB;
+import jakarta.ejb.SessionContext;
 import jakarta.ejb.Stateless;
 import jakarta.ejb.TransactionAttribute;
 import jakarta.ejb.TransactionAttributeType;
 
 @Stateless
+@Timed
 @RolesAllowed({"ROLE_ADMIN"})
 @TransactionAttribute(TransactionAttributeType.REQUIRED)
-public class UserServiceBean implements UserServiceRemote {
+public class UserServiceBean implements UserServiceRemote, UserServiceLocal {
 
     @EJB
     private UserDAO userDAO;
 
+    @EJB
+    private ReplicaRouter replicaRouter;
+
+    @Resource
+    private SessionContext sessionContext;
+
     @Override
     public UserDTO createUser(UserDTO dto) {
         User user = mapToEntity(dto);
         User created = userDAO.create(user);
+        replicaRouter.recordWrite(sessionContext.getCallerPrincipal().getName());
         return mapToDTO(created);
     }
 
@@ -40,7 +55,18 @@ public class UserServiceBean implements UserServiceRemote {
         return mapToDTO(user);
     }
 
+    // Served from the primary: a lagging replica could confirm a stale ETag
+    @Override
+    public Instant getUserVersion(String id) throws UserNotFoundException {
+        Instant version = userDAO.findUpdatedAt(id);
+        if (version == null) {
+            throw new UserNotFoundException(id);
+        }
+        return version;
+    }
+
     @Override
+    @ReadOnly
     @TransactionAttribute(TransactionAttributeType.SUPPORTS)
     public List<UserDTO> listActiveUsers() {
         return userDAO.findAll().stream()
@@ -58,6 +84,7 @@ public class UserServiceBean implements UserServiceRemote {
         user.setStatus(status);
         //User updated =
                 userDAO.update(user);
+        replicaRouter.recordWrite(sessionContext.getCallerPrincipal().getName());
         //return updated != null;
     }
 
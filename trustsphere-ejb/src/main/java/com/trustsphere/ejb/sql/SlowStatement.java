@@ -0,0 +1,67 @@
+package com.trustsphere.ejb.sql;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A query that took at least the slow threshold. Statements are kept as prepared, with {@code ?}
+ * for every bind, so no parameter values are retained.
+ */
+public final class SlowStatement implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final Instant timestamp;
+    private final String scope;
+    private final String source;
+    private final String query;
+    private final List<String> statements;
+    private final int rows;
+    private final long millis;
+
+    SlowStatement(Instant timestamp, String scope, String source, String query, List<String> statements,
+                  int rows, long millis) {
+        this.timestamp = timestamp;
+        this.scope = scope;
+        this.source = source;
+        this.query = query;
+        this.statements = statements;
+        this.rows = rows;
+        this.millis = millis;
+    }
+
+    public Instant getTimestamp() {
+        return timestamp;
+    }
+
+    // Request or EJB call that issued the query, null when outside any scope
+    public String getScope() {
+        return scope;
+    }
+
+    // Persistence unit source, primary or replica
+    public String getSource() {
+        return source;
+    }
+
+    // JPQL as written, or Hibernate's placeholder for criteria queries
+    public String getQuery() {
+        return query;
+    }
+
+    // SQL prepared since the previous query on the thread: this query plus any eager loads it triggered
+    public List<String> getStatements() {
+        return statements;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public long getMillis() {
+        return millis;
+    }
+}
@@ -0,0 +1,59 @@
+package com.trustsphere.ejb.sql;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SQL issued on behalf of one request or top-level EJB call. A scope may be handed to worker
+ * threads, so its counts are atomic.
+ */
+public final class SqlScope {
+
+    private final String name;
+    private final AtomicInteger statements = new AtomicInteger();
+    private final AtomicInteger queries = new AtomicInteger();
+    private final AtomicLong rows = new AtomicLong();
+    private final AtomicLong queryMillis = new AtomicLong();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    SqlScope(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    // Every JDBC statement prepared, including entity loads and DML
+    public int getStatements() {
+        return statements.get();
+    }
+
+    // JPQL, criteria and native queries, the ones Hibernate reports rows and time for
+    public int getQueries() {
+        return queries.get();
+    }
+
+    public long getRows() {
+        return rows.get();
+    }
+
+    public long getQueryMillis() {
+        return queryMillis.get();
+    }
+
+    void statementPrepared() {
+        statements.incrementAndGet();
+    }
+
+    void queryExecuted(int resultRows, long millis) {
+        queries.incrementAndGet();
+        rows.addAndGet(resultRows);
+        queryMillis.addAndGet(millis);
+    }
+
+    boolean markClosed() {
+        return closed.compareAndSet(false, true);
+    }
+}
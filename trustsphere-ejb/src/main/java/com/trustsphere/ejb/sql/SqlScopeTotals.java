@@ -0,0 +1,77 @@
+package com.trustsphere.ejb.sql;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Accumulated SQL counts for every closed scope of one name.
+ */
+public final class SqlScopeTotals implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final String name;
+    private long calls;
+    private long statements;
+    private long queries;
+    private long rows;
+    private long queryMillis;
+    private int maxStatements;
+
+    SqlScopeTotals(String name) {
+        this.name = name;
+    }
+
+    synchronized void add(SqlScope scope) {
+        calls++;
+        statements += scope.getStatements();
+        queries += scope.getQueries();
+        rows += scope.getRows();
+        queryMillis += scope.getQueryMillis();
+        maxStatements = Math.max(maxStatements, scope.getStatements());
+    }
+
+    synchronized SqlScopeTotals copy() {
+        SqlScopeTotals copy = new SqlScopeTotals(name);
+        copy.calls = calls;
+        copy.statements = statements;
+        copy.queries = queries;
+        copy.rows = rows;
+        copy.queryMillis = queryMillis;
+        copy.maxStatements = maxStatements;
+        return copy;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCalls() {
+        return calls;
+    }
+
+    public long getStatements() {
+        return statements;
+    }
+
+    public long getQueries() {
+        return queries;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getQueryMillis() {
+        return queryMillis;
+    }
+
+    public int getMaxStatements() {
+        return maxStatements;
+    }
+
+    public double getStatementsPerCall() {
+        return calls == 0 ? 0 : (double) statements / calls;
+    }
+}
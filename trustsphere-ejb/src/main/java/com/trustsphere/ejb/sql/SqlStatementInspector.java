@@ -0,0 +1,21 @@
+package com.trustsphere.ejb.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.io.Serial;
+
+/**
+ * Counts every statement Hibernate prepares against the current {@link SqlScope}. Registered
+ * through {@code hibernate.session_factory.statement_inspector}; the SQL is returned unchanged.
+ */
+public class SqlStatementInspector implements StatementInspector {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public String inspect(String sql) {
+        SqlStats.statementPrepared(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,55 @@
+package com.trustsphere.ejb.sql;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.internal.StatisticsImpl;
+import org.hibernate.stat.spi.StatisticsFactory;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import java.io.Serial;
+import java.util.Map;
+
+/**
+ * Hibernate statistics that also report each executed query's rows and time to
+ * {@link SqlStats}. Registered through {@code hibernate.stats.factory}; only called while
+ * {@code hibernate.generate_statistics} is on.
+ *
+ * Reads {@code trustsphere.sql.source} (primary or replica), {@code trustsphere.sql.slow.threshold.millis}
+ * and {@code trustsphere.sql.slow.capacity} from the persistence unit properties.
+ */
+public class SqlStatisticsFactory implements StatisticsFactory {
+
+    @Override
+    public StatisticsImplementor buildStatistics(SessionFactoryImplementor sessionFactory) {
+        Map<String, Object> properties = sessionFactory.getProperties();
+        SqlStats.configure(
+                Long.parseLong(property(properties, "trustsphere.sql.slow.threshold.millis",
+                        SqlStats.DEFAULT_SLOW_THRESHOLD_MILLIS)),
+                Integer.parseInt(property(properties, "trustsphere.sql.slow.capacity",
+                        SqlStats.DEFAULT_SLOW_CAPACITY)));
+        return new ScopedStatistics(sessionFactory, property(properties, "trustsphere.sql.source", "primary"));
+    }
+
+    private static String property(Map<String, Object> properties, String key, Object defaultValue) {
+        Object value = properties.get(key);
+        return String.valueOf(value != null ? value : defaultValue);
+    }
+
+    private static final class ScopedStatistics extends StatisticsImpl {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final String source;
+
+        ScopedStatistics(SessionFactoryImplementor sessionFactory, String source) {
+            super(sessionFactory);
+            this.source = source;
+        }
+
+        @Override
+        public void queryExecuted(String hql, int rows, long time) {
+            super.queryExecuted(hql, rows, time);
+            SqlStats.queryExecuted(source, hql, rows, time);
+        }
+    }
+}
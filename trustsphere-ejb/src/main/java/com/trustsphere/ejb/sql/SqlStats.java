@@ -0,0 +1,156 @@
+package com.trustsphere.ejb.sql;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Attributes SQL to the request or EJB call running on the current thread, and keeps the most
+ * recent slow queries in a fixed-size ring buffer.
+ *
+ * Fed by {@link SqlStatementInspector} for every prepared statement and by
+ * {@link SqlStatisticsFactory} for every executed query. Both are created by Hibernate rather
+ * than the container, so the state here is static, like
+ * {@link com.trustsphere.ejb.routing.ReadRouting}.
+ */
+public final class SqlStats {
+
+    static final long DEFAULT_SLOW_THRESHOLD_MILLIS = 200;
+    static final int DEFAULT_SLOW_CAPACITY = 100;
+
+    // Statements remembered per thread for the slow log; enough to show an N+1 without holding a flood
+    private static final int MAX_STATEMENTS_PER_QUERY = 8;
+
+    private static final ThreadLocal<SqlScope> CURRENT = new ThreadLocal<>();
+    private static final ThreadLocal<Deque<String>> PREPARED = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private static final ConcurrentMap<String, SqlScopeTotals> TOTALS = new ConcurrentHashMap<>();
+
+    private static volatile long slowThresholdMillis = DEFAULT_SLOW_THRESHOLD_MILLIS;
+    private static volatile AtomicReferenceArray<SlowStatement> slow = new AtomicReferenceArray<>(DEFAULT_SLOW_CAPACITY);
+    private static final AtomicLong SLOW_WRITTEN = new AtomicLong();
+
+    private SqlStats() {}
+
+    // Starts a scope on this thread, replacing any scope left behind by an earlier request
+    public static SqlScope open(String name) {
+        SqlScope scope = new SqlScope(name);
+        CURRENT.set(scope);
+        PREPARED.get().clear();
+        return scope;
+    }
+
+    /**
+     * Unbinds the scope if this thread still holds it and adds it to the totals. Safe to call
+     * from any thread, and more than once; only the first call counts.
+     */
+    public static void close(SqlScope scope) {
+        release(scope);
+        if (scope.markClosed()) {
+            TOTALS.computeIfAbsent(scope.getName(), SqlScopeTotals::new).add(scope);
+        }
+    }
+
+    public static SqlScope current() {
+        return CURRENT.get();
+    }
+
+    // Hands a scope to a worker thread; returns what the thread held so it can be restored
+    public static SqlScope bind(SqlScope scope) {
+        SqlScope previous = CURRENT.get();
+        set(scope);
+        return previous;
+    }
+
+    public static void restore(SqlScope previous) {
+        set(previous);
+    }
+
+    // Drops the scope from this thread without closing it, when another thread carries on with it
+    public static void release(SqlScope scope) {
+        if (CURRENT.get() == scope) {
+            CURRENT.remove();
+        }
+    }
+
+    public static List<SqlScopeTotals> totals() {
+        List<SqlScopeTotals> totals = new ArrayList<>();
+        for (SqlScopeTotals scopeTotals : TOTALS.values()) {
+            totals.add(scopeTotals.copy());
+        }
+        totals.sort(Comparator.comparingLong(SqlScopeTotals::getStatements).reversed());
+        return totals;
+    }
+
+    // Buffered slow queries, slowest first
+    public static List<SlowStatement> slowest() {
+        AtomicReferenceArray<SlowStatement> buffer = slow;
+        List<SlowStatement> statements = new ArrayList<>(buffer.length());
+        for (int i = 0; i < buffer.length(); i++) {
+            SlowStatement statement = buffer.get(i);
+            if (statement != null) {
+                statements.add(statement);
+            }
+        }
+        statements.sort(Comparator.comparingLong(SlowStatement::getMillis).reversed());
+        return statements;
+    }
+
+    public static long getSlowThresholdMillis() {
+        return slowThresholdMillis;
+    }
+
+    public static void reset() {
+        TOTALS.clear();
+        slow = new AtomicReferenceArray<>(slow.length());
+    }
+
+    static void configure(long thresholdMillis, int capacity) {
+        slowThresholdMillis = thresholdMillis;
+        if (capacity != slow.length()) {
+            slow = new AtomicReferenceArray<>(capacity);
+        }
+    }
+
+    static void statementPrepared(String sql) {
+        SqlScope scope = CURRENT.get();
+        if (scope != null) {
+            scope.statementPrepared();
+        }
+        Deque<String> prepared = PREPARED.get();
+        if (prepared.size() == MAX_STATEMENTS_PER_QUERY) {
+            prepared.removeFirst();
+        }
+        prepared.addLast(sql);
+    }
+
+    static void queryExecuted(String source, String query, int rows, long millis) {
+        SqlScope scope = CURRENT.get();
+        if (scope != null) {
+            scope.queryExecuted(rows, millis);
+        }
+        Deque<String> prepared = PREPARED.get();
+        if (millis >= slowThresholdMillis) {
+            AtomicReferenceArray<SlowStatement> buffer = slow;
+            int slot = (int) (SLOW_WRITTEN.getAndIncrement() % buffer.length());
+            buffer.set(slot, new SlowStatement(Instant.now(), scope != null ? scope.getName() : null, source,
+                    query, new ArrayList<>(prepared), rows, millis));
+        }
+        prepared.clear();
+    }
+
+    private static void set(SqlScope scope) {
+        if (scope != null) {
+            CURRENT.set(scope);
+        } else {
+            CURRENT.remove();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.trustsphere.ejb.timer;
+
+import com.trustsphere.ejb.local.TransactionServiceLocal;
+
+import jakarta.annotation.security.RunAs;
+import jakarta.ejb.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+
+// Timer callbacks have no caller; the backfill is admin-only, so the timer calls it as the system admin
+@Singleton
+@Startup
+@RunAs("ROLE_ADMIN")
+public class AccountActivityBackfillTimerBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccountActivityBackfillTimerBean.class);
+
+    private static final int BACKFILL_PAGE_SIZE = 500;
+
+    // Keeps each nightly run short; unfinished work resumes on the next run since indexed rows are skipped
+    private static final Duration MAX_RUN_TIME = Duration.ofMinutes(20);
+
+    @EJB
+    private TransactionServiceLocal transactionService;
+
+    // Each page commits in its own transaction, so this timer must not hold one open
+    @TransactionAttribute(TransactionAttributeType.NOT_SUPPORTED)
+    @Schedule(hour = "1", minute = "30", second = "0", persistent = false, info = "account-activity-backfill")
+    public void backfill() {
+        Instant deadline = Instant.now().plus(MAX_RUN_TIME);
+        String cursor = null;
+        int pages = 0;
+        try {
+            do {
+                cursor = transactionService.backfillAccountActivity(cursor, BACKFILL_PAGE_SIZE);
+                pages++;
+            } while (cursor != null && Instant.now().isBefore(deadline));
+        } catch (Exception e) {
+            logger.error("Account activity backfill failed after {} pages :{}", pages, e.getMessage(), e);
+            return;
+        }
+
+        if (cursor == null) {
+            logger.info("Account activity backfill complete after {} pages", pages);
+        } else {
+            logger.info("Account activity backfill paused at {} after {} pages", cursor, pages);
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package com.trustsphere.ejb.timer;
 
-import com.trustsphere.ejb.remote.AuditServiceRemote;
+import com.trustsphere.ejb.local.AuditServiceLocal;
 
 import jakarta.ejb.*;
 
@@ -10,9 +10,9 @@ import jakarta.ejb.*;
 public class AuditCleanupTimerBean {
 
     @EJB
-    private AuditServiceRemote auditService;
+    private AuditServiceLocal auditService;
 
-    @Schedule(dayOfWeek = "Sun", hour = "3", minute = "0", persistent = false)
+    @Schedule(dayOfWeek = "Sun", hour = "3", minute = "0", persistent = false, info = "audit-cleanup")
     public void cleanup() {
         auditService.deleteOlderThan(30); // Deletes logs older than 30 days
     }
@@ -1,24 +1,51 @@
 package com.trustsphere.ejb.timer;
 
-import com.trustsphere.ejb.remote.AccountServiceRemote;
+import com.trustsphere.ejb.local.AccountServiceLocal;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.security.RunAs;
 import jakarta.ejb.*;
 import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
 
 import static jakarta.ejb.TransactionAttributeType.REQUIRES_NEW;
 
+// Timer callbacks have no caller; snapshots and interest are staff-only, so the timer runs as the system admin
 @Singleton
 @Startup
+@RunAs("ROLE_ADMIN")
 public class InterestPostingTimerBean {
 
+    private static final Logger logger = LoggerFactory.getLogger(InterestPostingTimerBean.class);
+
+    private static final int SNAPSHOT_PAGE_SIZE = 500;
+
     @EJB
-    private AccountServiceRemote accountService;
+    private AccountServiceLocal accountService;
 
     //@Transactional
     @TransactionAttribute(REQUIRES_NEW)
-    @Schedule(hour = "2", minute = "0", second = "0", persistent = false)
+    @Schedule(hour = "2", minute = "0", second = "0", persistent = false, info = "interest-posting")
     public void postInterest() {
+        // Snapshot yesterday's close before interest changes balances; a failure here must not block interest
+        LocalDate businessDate = LocalDate.now(ZoneOffset.UTC).minusDays(1);
+        // Each page commits on its own; a re-run replaces the pages already written
+        String cursor = null;
+        int pages = 0;
+        try {
+            do {
+                cursor = accountService.snapshotClosingBalances(businessDate, cursor, SNAPSHOT_PAGE_SIZE);
+                pages++;
+            } while (cursor != null);
+            logger.info("Wrote balance snapshots for {} in {} pages", businessDate, pages);
+        } catch (Exception e) {
+            logger.error("Balance snapshot failed for {} after {} pages :{}", businessDate, pages, e.getMessage(), e);
+        }
+
         accountService.applyDailyInterestToAllActiveAccounts();
     }
 }
@@ -0,0 +1,34 @@
+package com.trustsphere.ejb.timer;
+
+import jakarta.annotation.Resource;
+import jakarta.ejb.*;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Reports when each scheduled job of this module is next due. A due time that has slipped into
+ * the past means the job is running long or the timer service has stopped delivering.
+ */
+@Singleton
+@ConcurrencyManagement(ConcurrencyManagementType.BEAN)
+public class TimerStatusBean {
+
+    @Resource
+    private TimerService timerService;
+
+    // Keyed by the timer's info, which every @Schedule in this module sets
+    @TransactionAttribute(TransactionAttributeType.NOT_SUPPORTED)
+    public Map<String, Instant> nextTimeouts() {
+        Map<String, Instant> next = new TreeMap<>();
+        for (Timer timer : timerService.getAllTimers()) {
+            try {
+                next.put(String.valueOf(timer.getInfo()), timer.getNextTimeout().toInstant());
+            } catch (NoMoreTimeoutsException | NoSuchObjectLocalException e) {
+                // Expired or cancelled while we were iterating; nothing left to be late for
+            }
+        }
+        return next;
+    }
+}
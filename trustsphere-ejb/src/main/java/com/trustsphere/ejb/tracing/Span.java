@@ -0,0 +1,124 @@
+package com.trustsphere.ejb.tracing;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * One timed unit of work within a trace. Spans of unsampled traces carry their ids, so the
+ * trace can still be correlated and propagated, but record nothing and are never exported.
+ */
+public final class Span {
+
+    private final String traceId;
+    private final String spanId;
+    private final String parentSpanId;
+    private final boolean sampled;
+    private final SpanKind kind;
+    private final Span parent;
+    private final Instant start;
+    private final long startNanos;
+
+    private volatile String name;
+    private Map<String, String> attributes;
+    private volatile long durationNanos = -1;
+    private volatile String error;
+
+    Span(String traceId, String parentSpanId, Span parent, boolean sampled, String name, SpanKind kind) {
+        this.traceId = traceId;
+        this.spanId = TraceIds.newSpanId();
+        this.parentSpanId = parentSpanId;
+        this.parent = parent;
+        this.sampled = sampled;
+        this.name = name;
+        this.kind = kind;
+        this.start = sampled ? Instant.now() : null;
+        this.startNanos = sampled ? System.nanoTime() : 0;
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    public String getSpanId() {
+        return spanId;
+    }
+
+    public String getParentSpanId() {
+        return parentSpanId;
+    }
+
+    public boolean isSampled() {
+        return sampled;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public SpanKind getKind() {
+        return kind;
+    }
+
+    public Instant getStart() {
+        return start;
+    }
+
+    public long getDurationMicros() {
+        return durationNanos < 0 ? -1 : durationNanos / 1_000;
+    }
+
+    public synchronized Map<String, String> getAttributes() {
+        return attributes == null ? Collections.emptyMap() : new LinkedHashMap<>(attributes);
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    // The route is only known once the request has been matched
+    public void rename(String name) {
+        this.name = name;
+    }
+
+    public synchronized void setAttribute(String key, Object value) {
+        if (!sampled) {
+            return;
+        }
+        if (attributes == null) {
+            attributes = new LinkedHashMap<>();
+        }
+        attributes.put(key, String.valueOf(value));
+    }
+
+    public void fail(Throwable failure) {
+        if (sampled) {
+            error = failure.getClass().getSimpleName()
+                    + (failure.getMessage() != null ? ": " + failure.getMessage() : "");
+        }
+    }
+
+    /**
+     * Ends the span, exports it if sampled and, when this thread still holds it as current,
+     * makes its parent current again. Only the first call counts.
+     */
+    public void end() {
+        synchronized (this) {
+            if (durationNanos >= 0) {
+                return;
+            }
+            durationNanos = sampled ? System.nanoTime() - startNanos : 0;
+        }
+        Tracing.ended(this);
+    }
+
+    // W3C trace context header value for this span
+    public String traceparent() {
+        return "00-" + traceId + "-" + spanId + (sampled ? "-01" : "-00");
+    }
+
+    Span parent() {
+        return parent;
+    }
+}
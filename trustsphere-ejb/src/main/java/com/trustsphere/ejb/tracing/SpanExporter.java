@@ -0,0 +1,10 @@
+package com.trustsphere.ejb.tracing;
+
+/**
+ * Receives every finished span of a sampled trace. Called on the thread that ended the span,
+ * usually a request thread, so implementations must not block.
+ */
+public interface SpanExporter {
+
+    void export(Span span);
+}
@@ -0,0 +1,8 @@
+package com.trustsphere.ejb.tracing;
+
+public enum SpanKind {
+    SERVER,
+    INTERNAL,
+    PRODUCER,
+    CONSUMER
+}
@@ -0,0 +1,38 @@
+package com.trustsphere.ejb.tracing;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+final class TraceIds {
+
+    private TraceIds() {}
+
+    static String newTraceId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return hex(random.nextLong()) + hex(random.nextLong());
+    }
+
+    static String newSpanId() {
+        return hex(ThreadLocalRandom.current().nextLong());
+    }
+
+    // Lowercase hex ids as the W3C format requires; all zeros is invalid
+    static boolean isValid(String id, int length) {
+        if (id.length() != length) {
+            return false;
+        }
+        boolean nonZero = false;
+        for (int i = 0; i < length; i++) {
+            char c = id.charAt(i);
+            if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+                return false;
+            }
+            nonZero |= c != '0';
+        }
+        return nonZero;
+    }
+
+    private static String hex(long value) {
+        String digits = Long.toHexString(value);
+        return "0000000000000000".substring(digits.length()) + digits;
+    }
+}
@@ -0,0 +1,125 @@
+package com.trustsphere.ejb.tracing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Starts spans and tracks the current one per thread. Traces begin at the REST edge, are
+ * sampled there by rate or by a trusted caller's {@code traceparent}, and continue through EJB and
+ * DAO calls on the same thread; work handed to another thread carries the span with
+ * {@link #bind(Span)}. Static, like {@link com.trustsphere.ejb.routing.ReadRouting}, because JMS
+ * publishers and interceptors outside CDI need it too.
+ */
+public final class Tracing {
+
+    // W3C trace context header, also used as the JMS message property name
+    public static final String TRACEPARENT = "traceparent";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(Tracing.class);
+
+    private static final ThreadLocal<Span> CURRENT = new ThreadLocal<>();
+
+    private static volatile double sampleRate;
+    private static volatile List<SpanExporter> exporters = List.of();
+
+    private Tracing() {}
+
+    public static void configure(double rate, List<SpanExporter> spanExporters) {
+        sampleRate = rate;
+        exporters = List.copyOf(spanExporters);
+    }
+
+    /**
+     * Starts a trace, continuing the caller's when {@code traceparent} is a valid W3C header and
+     * starting a new one otherwise, and makes its root span current on this thread. The caller's
+     * sampled flag is followed only when {@code trustSampling} is set; any other trace is sampled
+     * by rate, so clients cannot force every request of theirs to be recorded.
+     */
+    public static Span startTrace(String name, SpanKind kind, String traceparent, boolean trustSampling) {
+        Span span = null;
+        if (traceparent != null) {
+            // 00-<32 hex trace id>-<16 hex parent id>-<2 hex flags>
+            String[] parts = traceparent.trim().split("-");
+            if (parts.length == 4 && "00".equals(parts[0])
+                    && TraceIds.isValid(parts[1], 32) && TraceIds.isValid(parts[2], 16) && parts[3].length() == 2) {
+                boolean sampled = trustSampling
+                        ? (Character.digit(parts[3].charAt(1), 16) & 1) == 1
+                        : sample();
+                span = new Span(parts[1], parts[2], null, sampled, name, kind);
+            }
+        }
+        if (span == null) {
+            span = new Span(TraceIds.newTraceId(), null, null, sample(), name, kind);
+        }
+        CURRENT.set(span);
+        return span;
+    }
+
+    /**
+     * Starts a child of the current span and makes it current, or returns null when there is
+     * no current span or its trace is not sampled.
+     */
+    public static Span startSpan(String name, SpanKind kind) {
+        Span parent = CURRENT.get();
+        if (parent == null || !parent.isSampled()) {
+            return null;
+        }
+        Span span = new Span(parent.getTraceId(), parent.getSpanId(), parent, true, name, kind);
+        CURRENT.set(span);
+        return span;
+    }
+
+    public static Span current() {
+        return CURRENT.get();
+    }
+
+    // Hands a span to a worker thread; returns what the thread held so it can be restored
+    public static Span bind(Span span) {
+        Span previous = CURRENT.get();
+        set(span);
+        return previous;
+    }
+
+    public static void restore(Span previous) {
+        set(previous);
+    }
+
+    // Drops the span from this thread without ending it, when another thread carries on with it
+    public static void release(Span span) {
+        if (span != null && CURRENT.get() == span) {
+            CURRENT.remove();
+        }
+    }
+
+    static void ended(Span span) {
+        if (CURRENT.get() == span) {
+            set(span.parent());
+        }
+        if (span.isSampled()) {
+            for (SpanExporter exporter : exporters) {
+                try {
+                    exporter.export(span);
+                } catch (RuntimeException e) {
+                    // Tracing must never fail the traced call
+                    LOGGER.warn("Span exporter {} failed", exporter.getClass().getSimpleName(), e);
+                }
+            }
+        }
+    }
+
+    private static boolean sample() {
+        double rate = sampleRate;
+        return rate >= 1.0 || (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    private static void set(Span span) {
+        if (span != null) {
+            CURRENT.set(span);
+        } else {
+            CURRENT.remove();
+        }
+    }
+}
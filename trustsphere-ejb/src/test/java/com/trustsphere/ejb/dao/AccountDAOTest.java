@@ -0,0 +1,134 @@
+package com.trustsphere.ejb.dao;
+
+import com.trustsphere.core.entity.Account;
+import com.trustsphere.core.entity.Transaction;
+import com.trustsphere.core.entity.User;
+import com.trustsphere.core.enums.AccountStatus;
+import com.trustsphere.core.enums.TransactionStatus;
+import com.trustsphere.core.enums.TransactionType;
+import com.trustsphere.core.enums.UserStatus;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AccountDAOTest {
+
+    private static final Instant CLOSE = Instant.parse("2025-01-02T00:00:00Z");
+
+    private static EntityManagerFactory emf;
+
+    private EntityManager em;
+    private AccountDAO dao;
+
+    private Account a;
+    private Account b;
+    private Account c;
+
+    @BeforeAll
+    static void createFactory() {
+        emf = Persistence.createEntityManagerFactory("trustsphereTestPU");
+    }
+
+    @AfterAll
+    static void closeFactory() {
+        emf.close();
+    }
+
+    @BeforeEach
+    void setUp() throws ReflectiveOperationException {
+        em = emf.createEntityManager();
+        em.getTransaction().begin();
+        dao = new AccountDAO();
+        inject(dao, "em", em);
+        inject(dao, "readEm", em);
+
+        User owner = new User("owner@example.com", "Account Owner", "not-a-real-hash", UserStatus.ACTIVE);
+        em.persist(owner);
+        a = account("1000000001", owner, "100.00");
+        b = account("1000000002", owner, "50.00");
+        c = account("1000000003", owner, "10.00");
+
+        // Before the close, so already part of the closing balance
+        transaction(a, b, "5.00", TransactionStatus.COMPLETED, CLOSE.minusSeconds(60));
+        // After the close: reversed out of the live balance
+        transaction(a, b, "7.00", TransactionStatus.COMPLETED, CLOSE.plusSeconds(60));
+        transaction(null, a, "0.25", TransactionStatus.COMPLETED, CLOSE.plusSeconds(120));
+        // Never moved money
+        transaction(b, a, "3.00", TransactionStatus.FAILED, CLOSE.plusSeconds(180));
+        em.flush();
+        em.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        em.getTransaction().rollback();
+        em.close();
+    }
+
+    @Test
+    void closingPageCarriesCompletedMovementsSinceTheClose() {
+        List<Object[]> rows = dao.findClosingPage("", CLOSE, 10);
+
+        Map<Object, Object[]> byId = new HashMap<>();
+        for (Object[] row : rows) {
+            byId.put(row[0], row);
+        }
+        assertEquals(3, byId.size());
+        assertRow(byId.get(a.getId()), "100.00", "0.25", "7.00");
+        assertRow(byId.get(b.getId()), "50.00", "7.00", "0");
+        assertRow(byId.get(c.getId()), "10.00", "0", "0");
+    }
+
+    @Test
+    void closingPageResumesAfterTheGivenId() {
+        List<Object[]> first = dao.findClosingPage("", CLOSE, 2);
+        List<Object[]> rest = dao.findClosingPage((String) first.get(1)[0], CLOSE, 2);
+
+        List<String> ids = new ArrayList<>(List.of(a.getId(), b.getId(), c.getId()));
+        Collections.sort(ids);
+        assertEquals(ids.subList(0, 2), List.of(first.get(0)[0], first.get(1)[0]));
+        assertEquals(ids.subList(2, 3), List.of(rest.get(0)[0]));
+    }
+
+    private static void assertRow(Object[] row, String balance, String incoming, String outgoing) {
+        assertEquals(0, new BigDecimal(balance).compareTo((BigDecimal) row[1]));
+        assertEquals(0, new BigDecimal(incoming).compareTo((BigDecimal) row[2]));
+        assertEquals(0, new BigDecimal(outgoing).compareTo((BigDecimal) row[3]));
+    }
+
+    private Account account(String number, User owner, String balance) {
+        Account account = new Account(number, new BigDecimal(balance), AccountStatus.ACTIVE, owner);
+        em.persist(account);
+        return account;
+    }
+
+    private void transaction(Account source, Account target, String amount, TransactionStatus status, Instant at) {
+        Transaction transaction = new Transaction(source, target, new BigDecimal(amount),
+                source == null ? TransactionType.INTEREST : TransactionType.TRANSFER, status);
+        transaction.setTimestamp(at);
+        em.persist(transaction);
+    }
+
+    private static void inject(Object target, String fieldName, Object value) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
@@ -0,0 +1,196 @@
+package com.trustsphere.ejb.dao;
+
+import com.trustsphere.core.dto.FieldSet;
+import com.trustsphere.core.dto.TransactionSearchCriteria;
+import com.trustsphere.core.entity.Account;
+import com.trustsphere.core.entity.Transaction;
+import com.trustsphere.core.entity.User;
+import com.trustsphere.core.enums.AccountStatus;
+import com.trustsphere.core.enums.TransactionStatus;
+import com.trustsphere.core.enums.TransactionType;
+import com.trustsphere.core.enums.UserStatus;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import jakarta.persistence.Tuple;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TransactionDAOTest {
+
+    private static final Instant T0 = Instant.parse("2025-01-01T00:00:00Z");
+
+    private static EntityManagerFactory emf;
+
+    private EntityManager em;
+    private TransactionDAO dao;
+
+    private Account a;
+    private Account b;
+    private Account c;
+
+    // Named by direction; later transactions are newer
+    private String aToB;
+    private String bToA;
+    private String aToC;
+    private String cToB;
+    private String bToC;
+    private String interestToA;
+    private String aToA;
+
+    @BeforeAll
+    static void createFactory() {
+        emf = Persistence.createEntityManagerFactory("trustsphereTestPU");
+    }
+
+    @AfterAll
+    static void closeFactory() {
+        emf.close();
+    }
+
+    @BeforeEach
+    void setUp() throws ReflectiveOperationException {
+        em = emf.createEntityManager();
+        em.getTransaction().begin();
+        dao = new TransactionDAO();
+        inject(dao, "em", em);
+        inject(dao, "readEm", em);
+
+        User owner = new User("owner@example.com", "Account Owner", "not-a-real-hash", UserStatus.ACTIVE);
+        em.persist(owner);
+        a = account("1000000001", owner);
+        b = account("1000000002", owner);
+        c = account("1000000003", owner);
+
+        aToB = transaction(a, b, 1);
+        bToA = transaction(b, a, 2);
+        aToC = transaction(a, c, 3);
+        cToB = transaction(c, b, 4);
+        bToC = transaction(b, c, 5);
+        interestToA = transaction(null, a, 6);
+        aToA = transaction(a, a, 7);
+        em.flush();
+        em.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        em.getTransaction().rollback();
+        em.close();
+    }
+
+    @Test
+    void noFilters() {
+        assertEquals(List.of(aToA, interestToA, bToC, cToB, aToC, bToA, aToB), search(null, null, null));
+    }
+
+    @Test
+    void sourceOnly() {
+        assertEquals(List.of(aToA, aToC, aToB), search(null, a, null));
+    }
+
+    @Test
+    void targetOnly() {
+        assertEquals(List.of(cToB, aToB), search(null, null, b));
+    }
+
+    @Test
+    void sourceAndTarget() {
+        assertEquals(List.of(aToB), search(null, a, b));
+    }
+
+    @Test
+    void accountOnlyMatchesEitherSideOnce() {
+        assertEquals(List.of(aToA, interestToA, aToC, bToA, aToB), search(a, null, null));
+    }
+
+    @Test
+    void accountWithSameSource() {
+        assertEquals(List.of(aToA, aToC, aToB), search(a, a, null));
+    }
+
+    @Test
+    void accountWithSameTarget() {
+        assertEquals(List.of(aToA, interestToA, bToA), search(a, null, a));
+    }
+
+    @Test
+    void accountWithOtherSource() {
+        assertEquals(List.of(bToA), search(a, b, null));
+    }
+
+    @Test
+    void accountWithOtherTarget() {
+        assertEquals(List.of(aToC), search(a, null, c));
+    }
+
+    @Test
+    void accountWithSameSourceAndOtherTarget() {
+        assertEquals(List.of(aToB), search(a, a, b));
+    }
+
+    @Test
+    void accountWithOtherSourceAndSameTarget() {
+        assertEquals(List.of(bToA), search(a, b, a));
+    }
+
+    @Test
+    void accountContradictingSourceAndTargetMatchesNothing() {
+        // b -> c exists but does not involve a
+        assertEquals(List.of(), search(a, b, c));
+        assertEquals("none", dao.searchIndexFor(criteria(a, b, c)));
+    }
+
+    @Test
+    void mergedLegsAreCutToTheLimit() {
+        List<String> ids = dao.search(criteria(a, null, null), null, 3, FieldSet.all()).stream()
+                .map(row -> row.get("id", String.class))
+                .collect(Collectors.toList());
+        assertEquals(List.of(aToA, interestToA, aToC), ids);
+    }
+
+    private List<String> search(Account account, Account source, Account target) {
+        List<Tuple> rows = dao.search(criteria(account, source, target), null, 100, FieldSet.all());
+        return rows.stream().map(row -> row.get("id", String.class)).collect(Collectors.toList());
+    }
+
+    private static TransactionSearchCriteria criteria(Account account, Account source, Account target) {
+        TransactionSearchCriteria criteria = new TransactionSearchCriteria();
+        criteria.setAccountId(account != null ? account.getId() : null);
+        criteria.setSourceAccountId(source != null ? source.getId() : null);
+        criteria.setTargetAccountId(target != null ? target.getId() : null);
+        return criteria;
+    }
+
+    private Account account(String number, User owner) {
+        Account account = new Account(number, new BigDecimal("100.00"), AccountStatus.ACTIVE, owner);
+        em.persist(account);
+        return account;
+    }
+
+    private String transaction(Account source, Account target, int minute) {
+        Transaction transaction = new Transaction(source, target, new BigDecimal("1.00"),
+                source == null ? TransactionType.INTEREST : TransactionType.TRANSFER, TransactionStatus.COMPLETED);
+        transaction.setTimestamp(T0.plusSeconds(60L * minute));
+        em.persist(transaction);
+        return transaction.getId();
+    }
+
+    private static void inject(Object target, String fieldName, Object value) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
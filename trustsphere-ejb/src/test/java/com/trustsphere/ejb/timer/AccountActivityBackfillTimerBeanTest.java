@@ -0,0 +1,62 @@
+package com.trustsphere.ejb.timer;
+
+import com.trustsphere.ejb.local.TransactionServiceLocal;
+import com.trustsphere.ejb.service.TransactionServiceBean;
+
+import jakarta.ejb.EJBAccessException;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AccountActivityBackfillTimerBeanTest {
+
+    @Test
+    void backfillRunsToTheEndWithoutACaller() throws ReflectiveOperationException {
+        List<String> cursors = new ArrayList<>();
+        TransactionServiceLocal service = ContainerSecurity.secured(TransactionServiceLocal.class,
+                TransactionServiceBean.class, pages(cursors, "t500", "t1000", null),
+                ContainerSecurity.rolesOf(AccountActivityBackfillTimerBean.class));
+        AccountActivityBackfillTimerBean timer = new AccountActivityBackfillTimerBean();
+        inject(timer, "transactionService", service);
+
+        timer.backfill();
+
+        assertEquals(Arrays.asList(null, "t500", "t1000"), cursors);
+    }
+
+    @Test
+    void backfillIsDeniedToACallerWithoutTheAdminRole() {
+        TransactionServiceLocal service = ContainerSecurity.secured(TransactionServiceLocal.class,
+                TransactionServiceBean.class, pages(new ArrayList<>(), (String) null), Set.of());
+
+        assertThrows(EJBAccessException.class, () -> service.backfillAccountActivity(null, 500));
+    }
+
+    // Hands out the given next-page cursors in turn and records the cursor of every call
+    private static TransactionServiceLocal pages(List<String> cursors, String... next) {
+        Iterator<String> results = Arrays.asList(next).iterator();
+        return (TransactionServiceLocal) Proxy.newProxyInstance(TransactionServiceLocal.class.getClassLoader(),
+                new Class<?>[] {TransactionServiceLocal.class}, (instance, method, args) -> {
+                    if (!"backfillAccountActivity".equals(method.getName())) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    cursors.add((String) args[0]);
+                    return results.next();
+                });
+    }
+
+    private static void inject(Object target, String fieldName, Object value) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
@@ -0,0 +1,63 @@
+package com.trustsphere.ejb.timer;
+
+import jakarta.annotation.security.DenyAll;
+import jakarta.annotation.security.PermitAll;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.annotation.security.RunAs;
+import jakarta.ejb.EJBAccessException;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Stands in for the container's method permission check when a timer calls a service view: each
+ * call is allowed only if the caller's roles meet the bean method's {@code @RolesAllowed},
+ * {@code @PermitAll} or {@code @DenyAll}, read from the method first and the bean class otherwise.
+ */
+final class ContainerSecurity {
+
+    private ContainerSecurity() {}
+
+    // Roles a timer callback runs with: its @RunAs role, or none since it has no caller
+    static Set<String> rolesOf(Class<?> timerClass) {
+        RunAs runAs = timerClass.getAnnotation(RunAs.class);
+        return runAs != null ? Set.of(runAs.value()) : Set.of();
+    }
+
+    static <T> T secured(Class<T> view, Class<?> beanClass, T target, Set<String> callerRoles) {
+        Object proxy = Proxy.newProxyInstance(view.getClassLoader(), new Class<?>[] {view}, (instance, method, args) -> {
+            if (method.getDeclaringClass() != Object.class) {
+                check(beanClass.getMethod(method.getName(), method.getParameterTypes()), callerRoles);
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
+        return view.cast(proxy);
+    }
+
+    private static void check(Method beanMethod, Set<String> callerRoles) {
+        if (beanMethod.isAnnotationPresent(PermitAll.class)) {
+            return;
+        }
+        RolesAllowed allowed = beanMethod.getAnnotation(RolesAllowed.class);
+        if (allowed == null && !beanMethod.isAnnotationPresent(DenyAll.class)) {
+            Class<?> beanClass = beanMethod.getDeclaringClass();
+            if (beanClass.isAnnotationPresent(PermitAll.class)) {
+                return;
+            }
+            allowed = beanClass.getAnnotation(RolesAllowed.class);
+            if (allowed == null && !beanClass.isAnnotationPresent(DenyAll.class)) {
+                return;
+            }
+        }
+        if (allowed == null || Arrays.stream(allowed.value()).noneMatch(callerRoles::contains)) {
+            throw new EJBAccessException("Caller with roles " + callerRoles + " denied " + beanMethod.getName());
+        }
+    }
+}
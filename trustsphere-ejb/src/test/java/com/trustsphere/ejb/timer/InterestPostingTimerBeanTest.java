@@ -0,0 +1,47 @@
+package com.trustsphere.ejb.timer;
+
+import com.trustsphere.ejb.local.AccountServiceLocal;
+import com.trustsphere.ejb.service.AccountServiceBean;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class InterestPostingTimerBeanTest {
+
+    @Test
+    void snapshotsEveryPageThenPostsInterestWithoutACaller() throws ReflectiveOperationException {
+        List<String> calls = new ArrayList<>();
+        Iterator<String> cursors = Arrays.asList("a500", "a1000", null).iterator();
+        AccountServiceLocal target = (AccountServiceLocal) Proxy.newProxyInstance(
+                AccountServiceLocal.class.getClassLoader(), new Class<?>[] {AccountServiceLocal.class},
+                (instance, method, args) -> {
+                    switch (method.getName()) {
+                        case "snapshotClosingBalances":
+                            calls.add("snapshot after " + args[1]);
+                            return cursors.next();
+                        case "applyDailyInterestToAllActiveAccounts":
+                            calls.add("interest");
+                            return null;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+        InterestPostingTimerBean timer = new InterestPostingTimerBean();
+        Field field = InterestPostingTimerBean.class.getDeclaredField("accountService");
+        field.setAccessible(true);
+        field.set(timer, ContainerSecurity.secured(AccountServiceLocal.class, AccountServiceBean.class, target,
+                ContainerSecurity.rolesOf(InterestPostingTimerBean.class)));
+
+        timer.postInterest();
+
+        assertEquals(List.of("snapshot after null", "snapshot after a500", "snapshot after a1000", "interest"), calls);
+    }
+}
@@ -1,10 +1,19 @@
 package com.trustsphere.rest;
 
 import com.trustsphere.rest.mapper.SecurityExceptionMapper;
+import com.trustsphere.rest.metrics.RequestMetricsFilter;
+import com.trustsphere.rest.metrics.SqlScopeFilter;
 import com.trustsphere.rest.mapper.ValidationExceptionMapper;
 import com.trustsphere.rest.resource.*;
+import com.trustsphere.rest.security.ClientRateLimitFilter;
 import com.trustsphere.rest.security.JWTAuthenticationFilter;
+import com.trustsphere.rest.security.RateLimitFilter;
+import com.trustsphere.rest.provider.CborEntityProvider;
+import com.trustsphere.rest.provider.CompressionInterceptor;
 import com.trustsphere.rest.provider.CorsFilter;
+import com.trustsphere.rest.provider.JsonEntityWriter;
+import com.trustsphere.rest.provider.ProtobufEntityProvider;
+import com.trustsphere.rest.tracing.TracingFilter;
 import com.trustsphere.rest.mapper.RestExceptionMapper;
 import jakarta.ws.rs.ApplicationPath;
 import jakarta.ws.rs.core.Application;
@@ -17,17 +26,31 @@ public class ApplicationConfig extends Application {
     public Set<Class<?>> getClasses() {
         return Set.of(
                 // Security Infrastructure - Priority 1000
+                ClientRateLimitFilter.class,
                 JWTAuthenticationFilter.class,
+                RateLimitFilter.class,
 
                 // Business Domain Resources - Priority 500
                 AccountResource.class,
                 AuditResource.class,
+                BatchResource.class,
+                HealthResource.class,
+                MetricsResource.class,
+                SqlStatsResource.class,
+                TraceResource.class,
                 NotificationResource.class,
                 TransactionResource.class,
                 UserResource.class,
 
                 // Cross-Cutting Infrastructure - Priority 100
                 CorsFilter.class,
+                TracingFilter.class,
+                RequestMetricsFilter.class,
+                SqlScopeFilter.class,
+                CompressionInterceptor.class,
+                JsonEntityWriter.class,
+                CborEntityProvider.class,
+                ProtobufEntityProvider.class,
                 RestExceptionMapper.class,
                 ValidationExceptionMapper.class,
                 SecurityExceptionMapper.class
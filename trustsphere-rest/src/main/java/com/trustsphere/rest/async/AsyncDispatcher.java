@@ -0,0 +1,159 @@
+package com.trustsphere.rest.async;
+
+import com.trustsphere.ejb.sql.SqlScope;
+import com.trustsphere.ejb.sql.SqlStats;
+import com.trustsphere.ejb.tracing.Span;
+import com.trustsphere.ejb.tracing.Tracing;
+import com.trustsphere.rest.model.ErrorResponse;
+import com.trustsphere.rest.security.ConfigurationProvider;
+
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedExecutorService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs slow read endpoints on a dedicated managed executor so they release the container's
+ * request thread while waiting on EJB and JDBC calls. The executor is bounded: when its queue
+ * is full the request is shed with 503 instead of piling up, and every call gets a timeout
+ * from {@code async.<endpoint>.timeout.millis}. A timed-out task is cancelled: removed from the
+ * queue if it has not started, interrupted otherwise.
+ *
+ * The caller's security context is propagated by the executor, so {@code @RolesAllowed}
+ * checks on the EJBs still apply. JAX-RS {@code @Context} proxies are bound to the request
+ * thread and must be read before dispatching.
+ */
+@ApplicationScoped
+public class AsyncDispatcher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncDispatcher.class);
+
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    @Resource(lookup = "concurrent/trustsphere/slowReads")
+    private ManagedExecutorService executor;
+
+    @Inject
+    private ConfigurationProvider configProvider;
+
+    private final ConcurrentMap<String, Long> timeouts = new ConcurrentHashMap<>();
+    // Accepted by the executor but waiting for a thread, and running on one
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger running = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+
+    /**
+     * Runs {@code work} off the request thread, timing out after
+     * {@code async.<endpoint>.timeout.millis} or {@code defaultTimeoutMillis}. The work is
+     * expected to map its own failures to error responses; anything escaping it becomes a 500.
+     */
+    public CompletionStage<Response> supply(String endpoint, long defaultTimeoutMillis, Supplier<Response> work) {
+        long timeoutMillis = timeouts.computeIfAbsent(endpoint, name -> Long.parseLong(configProvider.getProperty(
+                "async." + name + ".timeout.millis", String.valueOf(defaultTimeoutMillis))));
+        // The request's SQL scope and span move with the work, so what it does is still attributed to it
+        SqlScope sqlScope = SqlStats.current();
+        Span span = Tracing.current();
+        CompletableFuture<Response> result = new CompletableFuture<>();
+        // Claimed by whichever comes first, the task starting or the timeout giving up on it
+        AtomicBoolean started = new AtomicBoolean();
+        Future<?> task;
+        queued.incrementAndGet();
+        try {
+            task = executor.submit(() -> {
+                if (!started.compareAndSet(false, true)) {
+                    return;
+                }
+                queued.decrementAndGet();
+                running.incrementAndGet();
+                SqlScope previous = SqlStats.bind(sqlScope);
+                Span previousSpan = Tracing.bind(span);
+                try {
+                    result.complete(work.get());
+                } catch (Throwable t) {
+                    result.completeExceptionally(t);
+                } finally {
+                    Tracing.restore(previousSpan);
+                    SqlStats.restore(previous);
+                    running.decrementAndGet();
+                }
+            });
+            SqlStats.release(sqlScope);
+            Tracing.release(span);
+        } catch (RejectedExecutionException e) {
+            queued.decrementAndGet();
+            rejected.increment();
+            LOGGER.warn("Async executor saturated, shedding {} request", endpoint);
+            return CompletableFuture.completedFuture(unavailable("SERVICE_BUSY", "Server is busy, retry later"));
+        }
+
+        return result
+                .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                .exceptionally(failure -> {
+                    Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                            ? failure.getCause()
+                            : failure;
+                    if (cause instanceof TimeoutException) {
+                        // Drop it from the queue, or interrupt it so it stops holding a thread and a connection
+                        if (started.compareAndSet(false, true)) {
+                            queued.decrementAndGet();
+                        }
+                        task.cancel(true);
+                        timedOut.increment();
+                        LOGGER.warn("{} request exceeded {} ms", endpoint, timeoutMillis);
+                        return unavailable("REQUEST_TIMEOUT", "Request timed out");
+                    }
+                    LOGGER.error("{} request failed", endpoint, cause);
+                    return Response
+                            .status(Response.Status.INTERNAL_SERVER_ERROR)
+                            .entity(new ErrorResponse("INTERNAL_ERROR", "Internal server error"))
+                            .build();
+                });
+    }
+
+    public int getInFlight() {
+        return queued.get() + running.get();
+    }
+
+    public int getQueued() {
+        return queued.get();
+    }
+
+    public int getRunning() {
+        return running.get();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    public long getTimedOut() {
+        return timedOut.sum();
+    }
+
+    private static Response unavailable(String code, String message) {
+        return Response
+                .status(Response.Status.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .entity(new ErrorResponse(code, message))
+                .build();
+    }
+}
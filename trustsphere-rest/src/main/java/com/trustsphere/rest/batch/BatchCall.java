@@ -0,0 +1,34 @@
+package com.trustsphere.rest.batch;
+
+import java.util.Map;
+
+// A batch operation resolved to its route, path parameters and query parameters
+final class BatchCall {
+
+    final BatchRoute route;
+    final String[] params;
+    final Map<String, String> query;
+
+    BatchCall(BatchRoute route, String[] params, Map<String, String> query) {
+        this.route = route;
+        this.params = params;
+        this.query = query;
+    }
+
+    /**
+     * Two calls must not run concurrently when either writes and they may touch the same
+     * entity. List reads have no single entity and conflict with every write.
+     */
+    boolean conflictsWith(BatchCall other) {
+        if (!route.isWrite() && !other.route.isWrite()) {
+            return false;
+        }
+        String key = entityKey();
+        String otherKey = other.entityKey();
+        return key == null || otherKey == null || key.equals(otherKey);
+    }
+
+    private String entityKey() {
+        return route.entityType() == null ? null : route.entityType() + ":" + params[0];
+    }
+}
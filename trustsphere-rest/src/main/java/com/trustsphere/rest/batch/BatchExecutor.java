@@ -0,0 +1,294 @@
+package com.trustsphere.rest.batch;
+
+import com.trustsphere.core.enums.AccountStatus;
+import com.trustsphere.core.enums.UserStatus;
+import com.trustsphere.ejb.exception.AccountNotFoundException;
+import com.trustsphere.ejb.exception.UserNotFoundException;
+import com.trustsphere.ejb.local.AccountServiceLocal;
+import com.trustsphere.ejb.local.UserServiceLocal;
+import com.trustsphere.ejb.tracing.Span;
+import com.trustsphere.ejb.tracing.Tracing;
+import com.trustsphere.rest.model.BatchOperation;
+import com.trustsphere.rest.model.BatchResult;
+import com.trustsphere.rest.model.ErrorResponse;
+import com.trustsphere.rest.security.ConfigurationProvider;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.Resource;
+import jakarta.ejb.EJB;
+import jakarta.ejb.EJBAccessException;
+import jakarta.enterprise.concurrent.ManagedExecutorService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Executes the operations of a batch against the local EJB views.
+ *
+ * Operations are grouped into stages in request order: a new stage starts whenever an operation
+ * conflicts with one already in the current stage (a write to the same entity, or any write next
+ * to a list read). Operations within a stage run in parallel; stages run one after another, so
+ * a read that follows a write to the same entity observes it. Every operation commits on its own,
+ * exactly as the standalone request would; a batch is not atomic.
+ */
+@ApplicationScoped
+public class BatchExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchExecutor.class);
+
+    @EJB
+    private AccountServiceLocal accountService;
+
+    @EJB
+    private UserServiceLocal userService;
+
+    @Resource
+    private ManagedExecutorService executor;
+
+    @Inject
+    private ConfigurationProvider configProvider;
+
+    private int maxOperations;
+    private long timeoutNanos;
+
+    @PostConstruct
+    public void init() {
+        this.maxOperations = Integer.parseInt(configProvider.getProperty("batch.max.operations", "50"));
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(
+                Long.parseLong(configProvider.getProperty("batch.timeout.millis", "15000")));
+    }
+
+    public int getMaxOperations() {
+        return maxOperations;
+    }
+
+    /**
+     * Runs the operations and returns one result per operation, in request order. The caller's
+     * identity is passed in because request-bound context is not available on worker threads.
+     */
+    public List<BatchResult> execute(List<BatchOperation> operations, String principal, Set<String> roles) {
+        int size = operations.size();
+        String[] ids = new String[size];
+        BatchCall[] calls = new BatchCall[size];
+        BatchResult[] results = new BatchResult[size];
+
+        for (int i = 0; i < size; i++) {
+            BatchOperation operation = operations.get(i);
+            ids[i] = operation != null && operation.id != null ? operation.id : String.valueOf(i);
+            try {
+                calls[i] = resolve(operation);
+            } catch (IllegalArgumentException e) {
+                results[i] = error(ids[i], Response.Status.BAD_REQUEST, "INVALID_OPERATION", "Malformed operation path");
+                continue;
+            }
+            if (calls[i] == null) {
+                results[i] = error(ids[i], Response.Status.NOT_FOUND, "UNSUPPORTED_OPERATION",
+                        "Operation is not supported in a batch");
+            } else if (!calls[i].route.permits(roles)) {
+                results[i] = error(ids[i], Response.Status.FORBIDDEN, "UNAUTHORIZED_ACCESS", "Access denied");
+                calls[i] = null;
+            }
+        }
+
+        long deadline = System.nanoTime() + timeoutNanos;
+        List<Integer> stage = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (calls[i] == null) {
+                continue;
+            }
+            for (int member : stage) {
+                if (calls[i].conflictsWith(calls[member])) {
+                    runStage(stage, ids, calls, results, principal, roles, deadline);
+                    stage.clear();
+                    break;
+                }
+            }
+            stage.add(i);
+        }
+        runStage(stage, ids, calls, results, principal, roles, deadline);
+
+        return List.of(results);
+    }
+
+    private void runStage(List<Integer> stage, String[] ids, BatchCall[] calls, BatchResult[] results,
+                          String principal, Set<String> roles, long deadline) {
+        if (stage.isEmpty()) {
+            return;
+        }
+        if (System.nanoTime() - deadline >= 0) {
+            for (int index : stage) {
+                results[index] = timedOut(ids[index]);
+            }
+            return;
+        }
+        // A lone operation runs on the request thread; handing it off would only add latency
+        if (stage.size() == 1) {
+            int index = stage.get(0);
+            results[index] = invoke(ids[index], calls[index], principal, roles);
+            return;
+        }
+
+        // Operations run in parallel still belong to the batch request's trace
+        Span span = Tracing.current();
+        List<Future<BatchResult>> futures = new ArrayList<>(stage.size());
+        for (int index : stage) {
+            try {
+                futures.add(executor.submit(() -> {
+                    Span previous = Tracing.bind(span);
+                    try {
+                        return invoke(ids[index], calls[index], principal, roles);
+                    } finally {
+                        Tracing.restore(previous);
+                    }
+                }));
+            } catch (RejectedExecutionException e) {
+                futures.add(null);
+            }
+        }
+        for (int n = 0; n < stage.size(); n++) {
+            int index = stage.get(n);
+            Future<BatchResult> future = futures.get(n);
+            if (future == null) {
+                results[index] = invoke(ids[index], calls[index], principal, roles);
+                continue;
+            }
+            try {
+                results[index] = future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                results[index] = timedOut(ids[index]);
+            } catch (ExecutionException e) {
+                LOGGER.error("Batch operation {} failed", ids[index], e.getCause());
+                results[index] = error(ids[index], Response.Status.INTERNAL_SERVER_ERROR,
+                        "OPERATION_FAILED", "Internal server error");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                results[index] = timedOut(ids[index]);
+            }
+        }
+    }
+
+    private BatchResult invoke(String id, BatchCall call, String principal, Set<String> roles) {
+        String target = call.params[0];
+        try {
+            switch (call.route) {
+                case GET_ACCOUNT:
+                    return ok(id, accountService.getAccountById(target));
+
+                case LIST_ACCOUNTS_BY_USER:
+                    // Enforce data isolation - users can only see their own accounts unless privileged
+                    if (!roles.contains("ROLE_TELLER") && !roles.contains("ROLE_ADMIN") && !principal.equals(target)) {
+                        return error(id, Response.Status.FORBIDDEN, "UNAUTHORIZED_ACCESS", "Access denied");
+                    }
+                    return ok(id, accountService.listActiveByUser(target));
+
+                case UPDATE_ACCOUNT_STATUS: {
+                    String status = call.query.get("status");
+                    if (status == null) {
+                        return error(id, Response.Status.BAD_REQUEST, "INVALID_STATUS", "Status parameter is required");
+                    }
+                    accountService.updateStatus(target, AccountStatus.valueOf(status.toUpperCase(Locale.ROOT)));
+                    return new BatchResult(id, Response.Status.NO_CONTENT.getStatusCode(), null);
+                }
+
+                case GET_USER:
+                    return ok(id, userService.getUserById(target));
+
+                case UPDATE_USER_STATUS: {
+                    String status = call.query.get("status");
+                    if (status == null) {
+                        return error(id, Response.Status.BAD_REQUEST, "INVALID_STATUS", "Status parameter is required");
+                    }
+                    userService.updateStatus(target, UserStatus.valueOf(status.toUpperCase(Locale.ROOT)));
+                    return new BatchResult(id, Response.Status.NO_CONTENT.getStatusCode(), null);
+                }
+
+                default:
+                    throw new IllegalStateException("Unhandled batch route " + call.route);
+            }
+
+        } catch (AccountNotFoundException e) {
+            return error(id, Response.Status.NOT_FOUND, "ACCOUNT_NOT_FOUND", "Account with ID " + target + " not found");
+
+        } catch (UserNotFoundException e) {
+            return error(id, Response.Status.NOT_FOUND, "USER_NOT_FOUND", "User with ID " + target + " not found");
+
+        } catch (EJBAccessException | SecurityException e) {
+            LOGGER.warn("Unauthorized batch operation {} on {}", call.route, target);
+            return error(id, Response.Status.FORBIDDEN, "UNAUTHORIZED_ACCESS", "Access denied");
+
+        } catch (IllegalArgumentException e) {
+            return error(id, Response.Status.BAD_REQUEST, "INVALID_REQUEST", e.getMessage());
+
+        } catch (IllegalStateException e) {
+            return error(id, Response.Status.CONFLICT, "INVALID_TRANSITION", e.getMessage());
+
+        } catch (Exception e) {
+            LOGGER.error("Batch operation {} failed: {} {}", id, call.route, target, e);
+            return error(id, Response.Status.INTERNAL_SERVER_ERROR, "OPERATION_FAILED", "Internal server error");
+        }
+    }
+
+    // Parses "/api/accounts/{id}/status?status=FROZEN" style paths; the /api prefix is optional.
+    // Malformed percent-encoding surfaces as IllegalArgumentException.
+    private static BatchCall resolve(BatchOperation operation) {
+        if (operation == null || operation.method == null || operation.path == null) {
+            return null;
+        }
+        String path = operation.path;
+        Map<String, String> query = new HashMap<>();
+        int queryStart = path.indexOf('?');
+        if (queryStart >= 0) {
+            for (String pair : path.substring(queryStart + 1).split("&")) {
+                int eq = pair.indexOf('=');
+                if (eq > 0) {
+                    query.put(decode(pair.substring(0, eq)), decode(pair.substring(eq + 1)));
+                }
+            }
+            path = path.substring(0, queryStart);
+        }
+
+        List<String> segments = new ArrayList<>();
+        for (String segment : path.split("/")) {
+            if (!segment.isEmpty()) {
+                segments.add(decode(segment));
+            }
+        }
+        if (!segments.isEmpty() && "api".equals(segments.get(0))) {
+            segments.remove(0);
+        }
+        return BatchRoute.match(operation.method.toUpperCase(Locale.ROOT), segments.toArray(new String[0]), query);
+    }
+
+    private static String decode(String value) {
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+
+    private static BatchResult ok(String id, Object body) {
+        return new BatchResult(id, Response.Status.OK.getStatusCode(), body);
+    }
+
+    private static BatchResult timedOut(String id) {
+        return error(id, Response.Status.GATEWAY_TIMEOUT, "BATCH_TIMEOUT",
+                "Batch deadline passed before the operation completed; its outcome is unknown");
+    }
+
+    private static BatchResult error(String id, Response.Status status, String code, String message) {
+        return new BatchResult(id, status.getStatusCode(), new ErrorResponse(code, message));
+    }
+}
@@ -0,0 +1,78 @@
+package com.trustsphere.rest.batch;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Endpoints that may appear inside a batch. Each mirrors a standalone resource method,
+ * including the roles it requires. Templates use {@code *} for a path parameter.
+ */
+enum BatchRoute {
+
+    GET_ACCOUNT("GET", "accounts/*", "account", false,
+            Set.of("ROLE_USER", "ROLE_TELLER", "ROLE_ADMIN")),
+    LIST_ACCOUNTS_BY_USER("GET", "accounts/user/*", null, false,
+            Set.of("ROLE_USER", "ROLE_TELLER", "ROLE_ADMIN")),
+    UPDATE_ACCOUNT_STATUS("PUT", "accounts/*/status", "account", true,
+            Set.of("ROLE_TELLER", "ROLE_ADMIN")),
+    GET_USER("GET", "users/*", "user", false,
+            Set.of("ROLE_ADMIN", "ROLE_USER")),
+    UPDATE_USER_STATUS("PUT", "users/*/status", "user", true,
+            Set.of("ROLE_ADMIN"));
+
+    private final String method;
+    private final String[] template;
+    private final String entityType;
+    private final boolean write;
+    private final Set<String> roles;
+
+    BatchRoute(String method, String template, String entityType, boolean write, Set<String> roles) {
+        this.method = method;
+        this.template = template.split("/");
+        this.entityType = entityType;
+        this.write = write;
+        this.roles = roles;
+    }
+
+    // Call for the first route matching method and segments, or null when none does
+    static BatchCall match(String method, String[] segments, Map<String, String> query) {
+        for (BatchRoute route : values()) {
+            if (!route.method.equals(method) || route.template.length != segments.length) {
+                continue;
+            }
+            String[] params = new String[segments.length];
+            int count = 0;
+            boolean matches = true;
+            for (int i = 0; i < segments.length && matches; i++) {
+                if ("*".equals(route.template[i])) {
+                    params[count++] = segments[i];
+                } else {
+                    matches = route.template[i].equals(segments[i]);
+                }
+            }
+            if (matches) {
+                return new BatchCall(route, Arrays.copyOf(params, count), query);
+            }
+        }
+        return null;
+    }
+
+    // Entity touched by the call, or null for list reads that span many entities
+    String entityType() {
+        return entityType;
+    }
+
+    boolean isWrite() {
+        return write;
+    }
+
+    boolean permits(Set<String> callerRoles) {
+        for (String role : callerRoles) {
+            if (roles.contains(role)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
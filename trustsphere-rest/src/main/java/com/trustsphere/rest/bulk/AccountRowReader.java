@@ -0,0 +1,285 @@
+package com.trustsphere.rest.bulk;
+
+import com.trustsphere.core.dto.AccountDTO;
+import com.trustsphere.core.enums.AccountStatus;
+import com.trustsphere.core.util.ValidationUtils;
+
+import jakarta.json.Json;
+import jakarta.json.JsonException;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonValue;
+import jakarta.ws.rs.core.MediaType;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Pull-based reader for account onboarding files.
+ * Reads one line at a time so memory use does not depend on the upload size.
+ * Supports CSV (header row required, RFC 4180 quoting) and NDJSON (one JSON object per line).
+ */
+public class AccountRowReader implements Closeable {
+
+    static final String[] COLUMNS = {"accountNumber", "balance", "status", "userId"};
+
+    public enum Format {
+        CSV, NDJSON;
+
+        public static Format fromMediaType(MediaType mediaType) {
+            if (mediaType != null && mediaType.getSubtype().toLowerCase(Locale.ROOT).contains("json")) {
+                return NDJSON;
+            }
+            return CSV;
+        }
+    }
+
+    private final BufferedReader reader;
+    private final Format format;
+    private Map<String, Integer> columnIndex;
+    private long lineNumber;
+    private long rowNumber;
+
+    public AccountRowReader(InputStream input, Format format) {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        this.format = format;
+    }
+
+    /**
+     * Returns the next non-blank row, or null at end of input. A row is numbered by the line it
+     * starts on, even when a quoted CSV field carries it over several lines.
+     * Throws IllegalArgumentException if a CSV upload is missing required header columns.
+     */
+    public Row next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            rowNumber = lineNumber;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (format == Format.CSV && columnIndex == null) {
+                columnIndex = parseHeader(line);
+                if (columnIndex == null) {
+                    throw new IllegalArgumentException("CSV header must contain: " + String.join(",", COLUMNS));
+                }
+                continue;
+            }
+            return format == Format.CSV ? parseCsv(line) : parseJson(line);
+        }
+        return null;
+    }
+
+    private Map<String, Integer> parseHeader(String line) throws IOException {
+        String[] names;
+        try {
+            names = readRecord(line);
+        } catch (MalformedCsvException e) {
+            throw new IllegalArgumentException("CSV header on line " + rowNumber + ": " + e.getMessage());
+        }
+        Map<String, Integer> index = new HashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            index.put(names[i].trim(), i);
+        }
+        for (String column : COLUMNS) {
+            if (!index.containsKey(column)) {
+                return null;
+            }
+        }
+        return index;
+    }
+
+    private Row parseCsv(String line) throws IOException {
+        String[] cells;
+        try {
+            cells = readRecord(line);
+        } catch (MalformedCsvException e) {
+            return Row.failed(rowNumber, "MALFORMED_ROW", e.getMessage());
+        }
+        if (cells.length < columnIndex.size()) {
+            return Row.failed(rowNumber, "MALFORMED_ROW", "Expected " + columnIndex.size() + " columns, got " + cells.length);
+        }
+        return validate(cell(cells, "accountNumber"), cell(cells, "balance"),
+                cell(cells, "status"), cell(cells, "userId"));
+    }
+
+    private String cell(String[] cells, String column) {
+        return cells[columnIndex.get(column)].trim();
+    }
+
+    /**
+     * Splits one CSV record per RFC 4180: a field wrapped in double quotes may contain commas,
+     * line breaks and doubled quotes ({@code ""}) standing for one quote. Reads further lines
+     * while a quoted field is open. A quote inside an unquoted field, text after a closing
+     * quote, or input ending inside quotes is rejected.
+     */
+    private String[] readRecord(String line) throws IOException {
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        boolean closed = false;
+        int i = 0;
+        while (true) {
+            if (i == line.length()) {
+                if (!quoted) {
+                    break;
+                }
+                line = reader.readLine();
+                if (line == null) {
+                    throw new MalformedCsvException("Unterminated quoted field");
+                }
+                lineNumber++;
+                cell.append('\n');
+                i = 0;
+                continue;
+            }
+            char c = line.charAt(i++);
+            if (quoted) {
+                if (c != '"') {
+                    cell.append(c);
+                } else if (i < line.length() && line.charAt(i) == '"') {
+                    cell.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                    closed = true;
+                }
+            } else if (c == ',') {
+                cells.add(cell.toString());
+                cell.setLength(0);
+                closed = false;
+            } else if (closed) {
+                if (!Character.isWhitespace(c)) {
+                    throw new MalformedCsvException("Unexpected text after closing quote in column " + (cells.size() + 1));
+                }
+            } else if (c == '"') {
+                if (!cell.toString().isBlank()) {
+                    throw new MalformedCsvException("Unexpected quote in column " + (cells.size() + 1));
+                }
+                cell.setLength(0);
+                quoted = true;
+            } else {
+                cell.append(c);
+            }
+        }
+        cells.add(cell.toString());
+        return cells.toArray(new String[0]);
+    }
+
+    private Row parseJson(String line) {
+        try (JsonReader json = Json.createReader(new StringReader(line))) {
+            JsonObject obj = json.readObject();
+            return validate(text(obj, "accountNumber"), text(obj, "balance"),
+                    text(obj, "status"), text(obj, "userId"));
+        } catch (JsonException | IllegalStateException e) {
+            return Row.failed(rowNumber, "MALFORMED_ROW", "Invalid JSON object");
+        }
+    }
+
+    private String text(JsonObject obj, String key) {
+        JsonValue value = obj.get(key);
+        if (value == null || value.getValueType() == JsonValue.ValueType.NULL) {
+            return null;
+        }
+        return value.getValueType() == JsonValue.ValueType.STRING
+                ? obj.getString(key).trim()
+                : value.toString();
+    }
+
+    private Row validate(String accountNumber, String balance, String status, String userId) {
+        if (!ValidationUtils.isValidAccountNumber(accountNumber)) {
+            return Row.failed(rowNumber, "INVALID_ACCOUNT_NUMBER", "Invalid account number: " + accountNumber);
+        }
+        if (!ValidationUtils.isValidUserId(userId)) {
+            return Row.failed(rowNumber, "INVALID_USER_ID", "Invalid user ID: " + userId);
+        }
+
+        BigDecimal amount;
+        try {
+            amount = balance == null || balance.isEmpty() ? BigDecimal.ZERO : new BigDecimal(balance);
+        } catch (NumberFormatException e) {
+            return Row.failed(rowNumber, "INVALID_BALANCE", "Invalid balance: " + balance);
+        }
+        if (!ValidationUtils.isValidAccountBalance(amount) || amount.scale() > 2) {
+            return Row.failed(rowNumber, "INVALID_BALANCE", "Invalid balance: " + balance);
+        }
+
+        AccountStatus accountStatus;
+        try {
+            accountStatus = status == null || status.isEmpty()
+                    ? AccountStatus.ACTIVE
+                    : AccountStatus.valueOf(status.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return Row.failed(rowNumber, "INVALID_STATUS", "Invalid status: " + status);
+        }
+
+        AccountDTO dto = new AccountDTO();
+        dto.setAccountNumber(accountNumber.trim());
+        dto.setBalance(amount);
+        dto.setStatus(accountStatus);
+        dto.setUserId(userId.trim());
+        return new Row(rowNumber, dto, null, null);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private static class MalformedCsvException extends IllegalArgumentException {
+        private static final long serialVersionUID = 1L;
+
+        MalformedCsvException(String message) {
+            super(message);
+        }
+    }
+
+    public static class Row {
+        private final long rowNumber;
+        private final AccountDTO account;
+        private final String errorCode;
+        private final String errorMessage;
+
+        private Row(long rowNumber, AccountDTO account, String errorCode, String errorMessage) {
+            this.rowNumber = rowNumber;
+            this.account = account;
+            this.errorCode = errorCode;
+            this.errorMessage = errorMessage;
+        }
+
+        static Row failed(long rowNumber, String errorCode, String errorMessage) {
+            return new Row(rowNumber, null, errorCode, errorMessage);
+        }
+
+        public boolean isValid() {
+            return account != null;
+        }
+
+        public long getRowNumber() {
+            return rowNumber;
+        }
+
+        public AccountDTO getAccount() {
+            return account;
+        }
+
+        public String getErrorCode() {
+            return errorCode;
+        }
+
+        public String getErrorMessage() {
+            return errorMessage;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.trustsphere.rest.bulk;
+
+// Line-oriented media types used by the import and statement endpoints
+public final class BulkMediaType {
+
+    public static final String TEXT_CSV = "text/csv";
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    private BulkMediaType() {}
+}
@@ -0,0 +1,170 @@
+package com.trustsphere.rest.bulk;
+
+import com.trustsphere.core.dto.StatementLineDTO;
+import com.trustsphere.ejb.local.TransactionServiceLocal;
+
+import jakarta.ws.rs.core.StreamingOutput;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Streams an account statement page by page straight to the response body.
+ * Only one page of lines is held at a time; the running balance is carried forward incrementally
+ * from the opening balance, so heap use is independent of the statement period.
+ */
+public class StatementWriter implements StreamingOutput {
+
+    public enum Format { CSV, NDJSON }
+
+    private static final int PAGE_SIZE = 500;
+    private static final String CSV_HEADER =
+            "timestamp,transactionId,type,direction,amount,counterpartyAccountId,referenceNumber,description,balance\n";
+
+    private final TransactionServiceLocal txnService;
+    private final String accountId;
+    private final Instant from;
+    private final Instant to;
+    private final BigDecimal openingBalance;
+    private final Format format;
+
+    public StatementWriter(TransactionServiceLocal txnService, String accountId, Instant from, Instant to,
+                           BigDecimal openingBalance, Format format) {
+        this.txnService = txnService;
+        this.accountId = accountId;
+        this.from = from;
+        this.to = to;
+        this.openingBalance = openingBalance;
+        this.format = format;
+    }
+
+    @Override
+    public void write(OutputStream output) throws IOException {
+        Writer out = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        if (format == Format.CSV) {
+            out.write(CSV_HEADER);
+        }
+        writeBalance(out, "OPENING_BALANCE", from, openingBalance);
+
+        BigDecimal balance = openingBalance;
+        // Empty id sorts before every UUID, so the first page starts at `from` inclusive
+        Instant afterTs = from;
+        String afterId = "";
+        List<StatementLineDTO> page;
+        do {
+            page = txnService.getStatementPage(accountId, afterTs, afterId, to, PAGE_SIZE);
+            for (StatementLineDTO line : page) {
+                boolean debit = accountId.equals(line.getSourceAccountId());
+                BigDecimal signed = debit ? line.getAmount().negate() : line.getAmount();
+                balance = balance.add(signed);
+                writeLine(out, line, debit, signed, balance);
+            }
+            if (!page.isEmpty()) {
+                StatementLineDTO last = page.get(page.size() - 1);
+                afterTs = last.getTimestamp();
+                afterId = last.getTransactionId();
+            }
+            out.flush();
+        } while (page.size() == PAGE_SIZE);
+
+        writeBalance(out, "CLOSING_BALANCE", to, balance);
+        out.flush();
+    }
+
+    private void writeLine(Writer out, StatementLineDTO line, boolean debit, BigDecimal signed, BigDecimal balance)
+            throws IOException {
+        String direction = debit ? "DEBIT" : "CREDIT";
+        String counterparty = debit ? line.getTargetAccountId() : line.getSourceAccountId();
+        if (format == Format.CSV) {
+            out.write(line.getTimestamp().toString());
+            out.write(',');
+            out.write(line.getTransactionId());
+            out.write(',');
+            out.write(String.valueOf(line.getType()));
+            out.write(',');
+            out.write(direction);
+            out.write(',');
+            out.write(signed.toPlainString());
+            out.write(',');
+            out.write(csv(counterparty));
+            out.write(',');
+            out.write(csv(line.getReferenceNumber()));
+            out.write(',');
+            out.write(csv(line.getDescription()));
+            out.write(',');
+            out.write(balance.toPlainString());
+            out.write('\n');
+        } else {
+            out.write("{\"record\":\"TRANSACTION\",\"timestamp\":\"");
+            out.write(line.getTimestamp().toString());
+            out.write("\",\"transactionId\":");
+            out.write(json(line.getTransactionId()));
+            out.write(",\"type\":");
+            out.write(json(String.valueOf(line.getType())));
+            out.write(",\"direction\":\"");
+            out.write(direction);
+            out.write("\",\"amount\":");
+            out.write(signed.toPlainString());
+            out.write(",\"counterpartyAccountId\":");
+            out.write(json(counterparty));
+            out.write(",\"referenceNumber\":");
+            out.write(json(line.getReferenceNumber()));
+            out.write(",\"description\":");
+            out.write(json(line.getDescription()));
+            out.write(",\"balance\":");
+            out.write(balance.toPlainString());
+            out.write("}\n");
+        }
+    }
+
+    private void writeBalance(Writer out, String record, Instant at, BigDecimal balance) throws IOException {
+        if (format == Format.CSV) {
+            out.write(at + ",," + record + ",,,,,," + balance.toPlainString() + "\n");
+        } else {
+            out.write("{\"record\":\"" + record + "\",\"timestamp\":\"" + at + "\",\"balance\":"
+                    + balance.toPlainString() + "}\n");
+        }
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static String json(String value) {
+        if (value == null) {
+            return "null";
+        }
+        StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        return sb.append('"').toString();
+    }
+}
@@ -0,0 +1,45 @@
+package com.trustsphere.rest.health;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Latest outcome of one health check. A critical check that is down makes the node unready.
+ */
+public final class CheckResult {
+
+    private final HealthStatus status;
+    private final boolean critical;
+    private final Instant checkedAt;
+    private final long durationMillis;
+    private final Map<String, Object> details;
+
+    CheckResult(HealthStatus status, boolean critical, Instant checkedAt, long durationMillis,
+                Map<String, Object> details) {
+        this.status = status;
+        this.critical = critical;
+        this.checkedAt = checkedAt;
+        this.durationMillis = durationMillis;
+        this.details = details;
+    }
+
+    public HealthStatus getStatus() {
+        return status;
+    }
+
+    public boolean isCritical() {
+        return critical;
+    }
+
+    public Instant getCheckedAt() {
+        return checkedAt;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public Map<String, Object> getDetails() {
+        return details;
+    }
+}
@@ -0,0 +1,81 @@
+package com.trustsphere.rest.health;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.ManagementFactory;
+import java.util.Set;
+
+/**
+ * Reads JDBC pool usage from GlassFish's monitoring MBeans. They only exist while
+ * jdbc-connection-pool monitoring is on:
+ * {@code asadmin set configs.config.server-config.monitoring-service.module-monitoring-levels.jdbc-connection-pool=HIGH}.
+ */
+class ConnectionPoolStats {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConnectionPoolStats.class);
+
+    private static final String POOL_MBEANS = "amx:type=jdbc-connection-pool-mon,*";
+    private static final String BOOT_AMX = "amx-support:type=boot-amx";
+
+    private final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    private volatile boolean amxBooted;
+
+    static final class Usage {
+
+        final long active;
+        final long waiting;
+
+        Usage(long active, long waiting) {
+            this.active = active;
+            this.waiting = waiting;
+        }
+    }
+
+    // Null when monitoring is off or the pool is unknown to the server
+    Usage read(String poolName) {
+        try {
+            ObjectName pool = find(poolName);
+            if (pool == null && !amxBooted) {
+                // The monitoring tree is created on demand; asking once is enough
+                amxBooted = true;
+                server.invoke(new ObjectName(BOOT_AMX), "bootAMX", null, null);
+                pool = find(poolName);
+            }
+            if (pool == null) {
+                return null;
+            }
+            return new Usage(
+                    value(server.getAttribute(pool, "numconnused")),
+                    value(server.getAttribute(pool, "waitqueuelength")));
+        } catch (JMException | RuntimeException e) {
+            LOGGER.debug("JDBC pool statistics unavailable for {} :{}", poolName, e.getMessage());
+            return null;
+        }
+    }
+
+    private ObjectName find(String poolName) throws JMException {
+        Set<ObjectName> names = server.queryNames(new ObjectName(POOL_MBEANS), null);
+        for (ObjectName name : names) {
+            String key = name.getKeyProperty("name");
+            if (key != null && (key.equals(poolName) || key.endsWith("/" + poolName))) {
+                return name;
+            }
+        }
+        return null;
+    }
+
+    // Range statistics report "current", count statistics "count"
+    private static long value(Object statistic) {
+        if (statistic instanceof Number) {
+            return ((Number) statistic).longValue();
+        }
+        CompositeData data = (CompositeData) statistic;
+        Object value = data.containsKey("current") ? data.get("current") : data.get("count");
+        return ((Number) value).longValue();
+    }
+}
@@ -0,0 +1,269 @@
+package com.trustsphere.rest.health;
+
+import com.trustsphere.ejb.jms.JmsPublishMetrics;
+import com.trustsphere.ejb.metrics.Timer;
+import com.trustsphere.ejb.routing.ReplicaRouter;
+import com.trustsphere.ejb.timer.TimerStatusBean;
+import com.trustsphere.rest.async.AsyncDispatcher;
+import com.trustsphere.rest.security.ConfigurationProvider;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Resource;
+import jakarta.ejb.EJB;
+import jakarta.enterprise.concurrent.ManagedScheduledExecutorService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the readiness checks in the background and keeps their latest results, so probes only
+ * read memory and cannot add load to a node that is already struggling.
+ *
+ * Each check is its own scheduled task: a database ping stuck waiting for a pooled connection
+ * does not hold up the pool statistics that explain why. A critical check whose result is older
+ * than {@code health.check.max.age.millis} counts as down, which is how a hung check surfaces.
+ */
+@ApplicationScoped
+public class HealthMonitor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HealthMonitor.class);
+
+    @Inject
+    private ConfigurationProvider configProvider;
+
+    @Resource
+    private ManagedScheduledExecutorService scheduler;
+
+    @Resource(lookup = "trust_sphere_jdbc")
+    private DataSource dataSource;
+
+    @Resource(lookup = "jms/ConnectionFactory")
+    private ConnectionFactory connectionFactory;
+
+    @EJB
+    private ReplicaRouter replicaRouter;
+
+    @EJB
+    private TimerStatusBean timerStatus;
+
+    @Inject
+    private JmsPublishMetrics jmsMetrics;
+
+    @Inject
+    private AsyncDispatcher dispatcher;
+
+    private final ConnectionPoolStats poolStats = new ConnectionPoolStats();
+    private final ConcurrentMap<String, CheckResult> results = new ConcurrentHashMap<>();
+    private final List<ScheduledFuture<?>> tasks = new ArrayList<>();
+
+    private long maxAgeMillis;
+    private long dbBudgetMillis;
+    private List<String> poolNames;
+    private int poolMaxSize;
+    private int poolMaxWaiting;
+    private long jmsBudgetMillis;
+    private Duration timerGrace;
+    private int asyncPoolSize;
+    private int asyncMaxQueued;
+
+    @PostConstruct
+    public void init() {
+        long intervalMillis = Long.parseLong(configProvider.getProperty("health.check.interval.millis", "5000"));
+        this.maxAgeMillis = Long.parseLong(configProvider.getProperty("health.check.max.age.millis", "15000"));
+        this.dbBudgetMillis = Long.parseLong(configProvider.getProperty("health.db.budget.millis", "500"));
+        this.poolNames = List.of(configProvider.getProperty("health.pool.names",
+                "TrustSphere_Connection_Pool,TrustSphere_Replica_Connection_Pool").split("\\s*,\\s*"));
+        this.poolMaxSize = Integer.parseInt(configProvider.getProperty("health.pool.max.size", "32"));
+        this.poolMaxWaiting = Integer.parseInt(configProvider.getProperty("health.pool.max.waiting", "8"));
+        this.jmsBudgetMillis = Long.parseLong(configProvider.getProperty("health.jms.budget.millis", "500"));
+        this.timerGrace = Duration.ofSeconds(Long.parseLong(configProvider.getProperty("health.timer.grace.seconds", "1800")));
+        this.asyncPoolSize = Integer.parseInt(configProvider.getProperty("health.async.pool.size", "16"));
+        this.asyncMaxQueued = Integer.parseInt(configProvider.getProperty("health.async.max.queued", "64"));
+
+        schedule("database", true, intervalMillis, this::checkDatabase);
+        schedule("connectionPools", true, intervalMillis, this::checkConnectionPools);
+        schedule("jms", false, intervalMillis, this::checkJms);
+        schedule("replica", false, intervalMillis, this::checkReplica);
+        schedule("timers", false, intervalMillis * 12, this::checkTimers);
+        LOGGER.info("Health checks scheduled every {} ms", intervalMillis);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ScheduledFuture<?> task : tasks) {
+            task.cancel(false);
+        }
+    }
+
+    /**
+     * Current state of every check. Down when a critical check is down, stale or has not run
+     * yet; degraded when any other check reports a problem.
+     */
+    public HealthReport readiness() {
+        Instant now = Instant.now();
+        Map<String, CheckResult> checks = new TreeMap<>(results);
+        checks.put("async", run(true, this::checkAsync));
+
+        HealthStatus overall = HealthStatus.UP;
+        for (Map.Entry<String, CheckResult> entry : checks.entrySet()) {
+            CheckResult result = entry.getValue();
+            if (result.isCritical() && result.getCheckedAt().isBefore(now.minusMillis(maxAgeMillis))) {
+                Map<String, Object> details = new LinkedHashMap<>(result.getDetails());
+                details.put("stale", true);
+                result = new CheckResult(HealthStatus.DOWN, true, result.getCheckedAt(), result.getDurationMillis(), details);
+                entry.setValue(result);
+            }
+            if (result.getStatus() == HealthStatus.DOWN && result.isCritical()) {
+                overall = HealthStatus.DOWN;
+            } else if ((result.getStatus() == HealthStatus.DOWN || result.getStatus() == HealthStatus.DEGRADED)
+                    && overall == HealthStatus.UP) {
+                overall = HealthStatus.DEGRADED;
+            }
+        }
+        // Until every scheduled check has reported once, the node has not proven it can serve
+        if (results.size() < tasks.size()) {
+            overall = HealthStatus.DOWN;
+        }
+        return new HealthReport(overall, checks);
+    }
+
+    private HealthStatus checkDatabase(Map<String, Object> details) throws Exception {
+        long start = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            long acquired = System.nanoTime();
+            try (Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(dbBudgetMillis)));
+                statement.execute("SELECT 1");
+            }
+            long acquireMillis = TimeUnit.NANOSECONDS.toMillis(acquired - start);
+            long queryMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - acquired);
+            details.put("acquireMillis", acquireMillis);
+            details.put("queryMillis", queryMillis);
+            details.put("budgetMillis", dbBudgetMillis);
+            // A slow acquire means the pool is exhausted; shed before requests start timing out
+            return acquireMillis + queryMillis > dbBudgetMillis ? HealthStatus.DOWN : HealthStatus.UP;
+        }
+    }
+
+    private HealthStatus checkConnectionPools(Map<String, Object> details) {
+        HealthStatus status = HealthStatus.UNKNOWN;
+        for (String poolName : poolNames) {
+            ConnectionPoolStats.Usage usage = poolStats.read(poolName);
+            if (usage == null) {
+                details.put(poolName, "monitoring disabled");
+                continue;
+            }
+            Map<String, Object> pool = new LinkedHashMap<>();
+            pool.put("active", usage.active);
+            pool.put("waiting", usage.waiting);
+            pool.put("max", poolMaxSize);
+            details.put(poolName, pool);
+            if (usage.waiting > poolMaxWaiting) {
+                status = HealthStatus.DOWN;
+            } else if (usage.active >= poolMaxSize && status != HealthStatus.DOWN) {
+                status = HealthStatus.DEGRADED;
+            } else if (status == HealthStatus.UNKNOWN) {
+                status = HealthStatus.UP;
+            }
+        }
+        return status;
+    }
+
+    private HealthStatus checkJms(Map<String, Object> details) {
+        long start = System.nanoTime();
+        try (JMSContext context = connectionFactory.createContext()) {
+            context.createProducer();
+        }
+        details.put("connectMillis", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+        // Sends are synchronous, so a backed-up broker shows as slow publishes
+        HealthStatus status = HealthStatus.UP;
+        for (Map.Entry<String, Timer> entry : jmsMetrics.timers().entrySet()) {
+            long p99Millis = TimeUnit.NANOSECONDS.toMillis(entry.getValue().quantiles(0.99)[0]);
+            details.put(entry.getKey() + ".publishP99Millis", p99Millis);
+            if (p99Millis > jmsBudgetMillis) {
+                status = HealthStatus.DEGRADED;
+            }
+        }
+        return status;
+    }
+
+    // Reads fall back to the primary while the replica lags, so this never sheds traffic
+    private HealthStatus checkReplica(Map<String, Object> details) {
+        Duration lag = replicaRouter.getReplicaLag();
+        details.put("lagSeconds", lag != null ? lag.getSeconds() : null);
+        details.put("lagCheckedAt", replicaRouter.getLagCheckedAt());
+        return replicaRouter.canRead(null) ? HealthStatus.UP : HealthStatus.DEGRADED;
+    }
+
+    private HealthStatus checkTimers(Map<String, Object> details) {
+        Instant overdueBefore = Instant.now().minus(timerGrace);
+        HealthStatus status = HealthStatus.UP;
+        for (Map.Entry<String, Instant> timer : timerStatus.nextTimeouts().entrySet()) {
+            details.put(timer.getKey(), timer.getValue());
+            if (timer.getValue().isBefore(overdueBefore)) {
+                status = HealthStatus.DEGRADED;
+            }
+        }
+        return status;
+    }
+
+    // Tasks only queue once every pool thread is busy, so queue depth is what measures overload
+    private HealthStatus checkAsync(Map<String, Object> details) {
+        int running = dispatcher.getRunning();
+        int queued = dispatcher.getQueued();
+        details.put("running", running);
+        details.put("poolSize", asyncPoolSize);
+        details.put("queued", queued);
+        details.put("maxQueued", asyncMaxQueued);
+        if (queued >= asyncMaxQueued) {
+            return HealthStatus.DOWN;
+        }
+        return running >= asyncPoolSize ? HealthStatus.DEGRADED : HealthStatus.UP;
+    }
+
+    private void schedule(String name, boolean critical, long intervalMillis, Check check) {
+        tasks.add(scheduler.scheduleWithFixedDelay(() -> results.put(name, run(critical, check)),
+                0, intervalMillis, TimeUnit.MILLISECONDS));
+    }
+
+    private static CheckResult run(boolean critical, Check check) {
+        Instant checkedAt = Instant.now();
+        long start = System.nanoTime();
+        Map<String, Object> details = new LinkedHashMap<>();
+        HealthStatus status;
+        try {
+            status = check.run(details);
+        } catch (Exception e) {
+            details.put("error", e.getClass().getSimpleName() + ": " + e.getMessage());
+            status = HealthStatus.DOWN;
+        }
+        return new CheckResult(status, critical, checkedAt,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), details);
+    }
+
+    @FunctionalInterface
+    private interface Check {
+
+        HealthStatus run(Map<String, Object> details) throws Exception;
+    }
+}
@@ -0,0 +1,27 @@
+package com.trustsphere.rest.health;
+
+import java.util.Map;
+
+public final class HealthReport {
+
+    private final HealthStatus status;
+    private final Map<String, CheckResult> checks;
+
+    HealthReport(HealthStatus status, Map<String, CheckResult> checks) {
+        this.status = status;
+        this.checks = checks;
+    }
+
+    public HealthStatus getStatus() {
+        return status;
+    }
+
+    public Map<String, CheckResult> getChecks() {
+        return checks;
+    }
+
+    // Degraded nodes keep serving; only a critical check going down sheds traffic
+    public boolean isReady() {
+        return status != HealthStatus.DOWN;
+    }
+}
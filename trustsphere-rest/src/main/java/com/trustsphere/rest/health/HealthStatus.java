@@ -0,0 +1,10 @@
+package com.trustsphere.rest.health;
+
+public enum HealthStatus {
+    UP,
+    // Working, but something needs attention; does not take the node out of rotation
+    DEGRADED,
+    DOWN,
+    // The check could not measure anything, e.g. server monitoring is switched off
+    UNKNOWN
+}
@@ -0,0 +1,26 @@
+package com.trustsphere.rest.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Authentication of one request's bearer token, from the cache lookup to the security context
+ * being set or the request being rejected.
+ */
+@Name("com.trustsphere.JwtValidation")
+@Label("JWT Validation")
+@Category({"TrustSphere", "Security"})
+@StackTrace(false)
+public class JwtValidationEvent extends jdk.jfr.Event {
+
+    @Label("Cache Hit")
+    @Description("The token had already been verified, so parsing and the signature check were skipped")
+    public boolean cacheHit;
+
+    @Label("Outcome")
+    @Description("valid, or the reason the token was rejected")
+    public String outcome;
+}
@@ -0,0 +1,30 @@
+package com.trustsphere.rest.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One rate-limit decision. Fires for every limited request, so recordings normally set a
+ * threshold and keep only the slow ones; rejections are also recorded as
+ * {@link RateLimitRejectedEvent}, which has no threshold.
+ */
+@Name("com.trustsphere.RateLimitDecision")
+@Label("Rate Limit Decision")
+@Category({"TrustSphere", "Security"})
+@StackTrace(false)
+public class RateLimitDecisionEvent extends jdk.jfr.Event {
+
+    @Label("Backend")
+    @Description("local or shared")
+    public String backend;
+
+    @Label("Stage")
+    @Description("client (per IP, before authentication) or caller (per subject and route, after it)")
+    public String stage;
+
+    @Label("Allowed")
+    public boolean allowed;
+}
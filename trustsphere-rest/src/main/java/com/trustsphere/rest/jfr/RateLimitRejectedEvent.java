@@ -0,0 +1,26 @@
+package com.trustsphere.rest.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.trustsphere.RateLimitRejected")
+@Label("Rate Limit Rejected")
+@Category({"TrustSphere", "Security"})
+@StackTrace(false)
+public class RateLimitRejectedEvent extends jdk.jfr.Event {
+
+    @Label("Backend")
+    @Description("local or shared")
+    public String backend;
+
+    @Label("Stage")
+    @Description("client (per IP, before authentication) or caller (per subject and route, after it)")
+    public String stage;
+
+    @Label("Request Key")
+    @Description("Hash of the client, or of the caller and normalized route, the limit applies to")
+    public long key;
+}
@@ -6,6 +6,8 @@ import com.trustsphere.ejb.exception.UserNotFoundException;
 import com.trustsphere.ejb.exception.BusinessException;
 import com.trustsphere.ejb.exception.DataAccessException;
 import com.trustsphere.ejb.exception.ValidationException;
+import com.trustsphere.ejb.tracing.Span;
+import com.trustsphere.ejb.tracing.Tracing;
 
 import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.container.ResourceInfo;
@@ -35,8 +37,12 @@ public class RestExceptionMapper implements ExceptionMapper<Throwable> {
 
     @Override
     public Response toResponse(Throwable exception) {
-        // Generate correlation ID for error tracking
-        String correlationId = UUID.randomUUID().toString().substring(0, 8);
+        // Correlate with the request's trace when there is one, so the error can be looked up under /admin/traces
+        Span span = Tracing.current();
+        String correlationId = span != null ? span.getTraceId() : UUID.randomUUID().toString().substring(0, 8);
+        if (span != null) {
+            span.fail(exception);
+        }
 
         // Log exception with context
         logException(exception, correlationId);
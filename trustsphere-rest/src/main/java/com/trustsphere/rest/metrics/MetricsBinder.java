@@ -0,0 +1,65 @@
+package com.trustsphere.rest.metrics;
+
+import com.trustsphere.ejb.metrics.MetricsRegistry;
+import com.trustsphere.rest.async.AsyncDispatcher;
+import com.trustsphere.rest.provider.CompressionMetrics;
+import com.trustsphere.rest.security.VerifiedTokenCache;
+import com.trustsphere.rest.tracing.FileSpanExporter;
+import com.trustsphere.rest.tracing.InMemorySpanStore;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+/**
+ * Publishes the statistics that other components already keep, so they are scraped along with
+ * the request and EJB timings instead of each needing its own endpoint.
+ */
+@ApplicationScoped
+public class MetricsBinder {
+
+    @Inject
+    private MetricsRegistry registry;
+
+    @Inject
+    private VerifiedTokenCache tokenCache;
+
+    @Inject
+    private CompressionMetrics compression;
+
+    @Inject
+    private AsyncDispatcher dispatcher;
+
+    @Inject
+    private InMemorySpanStore spanStore;
+
+    @Inject
+    private FileSpanExporter fileExporter;
+
+    void bind(@Observes @Initialized(ApplicationScoped.class) Object init) {
+        registry.counter("trustsphere_token_cache_hits_total", "Verified JWT cache hits", tokenCache::getHits);
+        registry.counter("trustsphere_token_cache_misses_total", "Verified JWT cache misses", tokenCache::getMisses);
+        registry.counter("trustsphere_token_cache_evictions_total", "Verified JWT cache evictions", tokenCache::getEvictions);
+        registry.gauge("trustsphere_token_cache_size", "Verified JWTs currently cached", tokenCache::getSize);
+
+        registry.counter("trustsphere_compression_responses_total", "Responses by content coding",
+                compression::getCompressedResponses, "coding", "compressed");
+        registry.counter("trustsphere_compression_responses_total", "Responses by content coding",
+                compression::getUncompressedResponses, "coding", "identity");
+        registry.counter("trustsphere_compression_bytes_in_total", "Response bytes before compression", compression::getBytesIn);
+        registry.counter("trustsphere_compression_bytes_out_total", "Response bytes after compression", compression::getBytesOut);
+        registry.counter("trustsphere_compression_cpu_seconds_total", "CPU time spent compressing",
+                () -> compression.getCpuNanos() / 1e9);
+
+        registry.gauge("trustsphere_async_in_flight", "Slow reads running or queued", dispatcher::getInFlight);
+        registry.gauge("trustsphere_async_queued", "Slow reads waiting for an executor thread", dispatcher::getQueued);
+        registry.counter("trustsphere_async_rejected_total", "Slow reads rejected because the pool was full", dispatcher::getRejected);
+        registry.counter("trustsphere_async_timed_out_total", "Slow reads that exceeded their timeout", dispatcher::getTimedOut);
+
+        registry.counter("trustsphere_tracing_spans_dropped_total", "Sampled spans not kept by an exporter",
+                spanStore::getDropped, "exporter", "memory");
+        registry.counter("trustsphere_tracing_spans_dropped_total", "Sampled spans not kept by an exporter",
+                fileExporter::getDropped, "exporter", "file");
+    }
+}
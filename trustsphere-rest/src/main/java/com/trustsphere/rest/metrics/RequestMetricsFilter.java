@@ -0,0 +1,121 @@
+package com.trustsphere.rest.metrics;
+
+import com.trustsphere.ejb.metrics.Counter;
+import com.trustsphere.ejb.metrics.MetricsRegistry;
+import com.trustsphere.ejb.metrics.Timer;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.ext.Provider;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Latency and response counts per resource method.
+ *
+ * The clock starts in the first post-matching request filter, after authentication and rate
+ * limiting. A response with an entity is recorded once the entity has been written, so
+ * serialization and compression are part of the measured time; asynchronous methods are
+ * recorded when they resume.
+ */
+@Provider
+@Priority(Priorities.AUTHENTICATION - 100)
+@ApplicationScoped
+public class RequestMetricsFilter implements ContainerRequestFilter, ContainerResponseFilter, WriterInterceptor {
+
+    private static final String STARTED = RequestMetricsFilter.class.getName() + ".started";
+    private static final String ROUTE = RequestMetricsFilter.class.getName() + ".route";
+
+    private final ConcurrentMap<Method, Route> routes = new ConcurrentHashMap<>();
+
+    @Inject
+    private MetricsRegistry registry;
+
+    @Context
+    private ResourceInfo resourceInfo;
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        Method method = resourceInfo.getResourceMethod();
+        if (method != null) {
+            requestContext.setProperty(ROUTE, routes.computeIfAbsent(method, this::routeFor));
+            requestContext.setProperty(STARTED, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        Route route = (Route) requestContext.getProperty(ROUTE);
+        if (route == null) {
+            return;
+        }
+        route.count(responseContext.getStatus());
+        if (!responseContext.hasEntity()) {
+            route.timer.recordSince((Long) requestContext.getProperty(STARTED));
+            requestContext.removeProperty(ROUTE);
+        }
+    }
+
+    @Override
+    public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+        try {
+            context.proceed();
+        } finally {
+            Route route = (Route) context.getProperty(ROUTE);
+            if (route != null) {
+                route.timer.recordSince((Long) context.getProperty(STARTED));
+                context.removeProperty(ROUTE);
+            }
+        }
+    }
+
+    private Route routeFor(Method method) {
+        return new Route(registry, method.getDeclaringClass().getSimpleName(), method.getName());
+    }
+
+    private static final class Route {
+
+        private final MetricsRegistry registry;
+        private final String resource;
+        private final String method;
+        private final Timer timer;
+        // Indexed by status class, 1xx to 5xx; created on first use
+        private final Counter[] responses = new Counter[6];
+
+        Route(MetricsRegistry registry, String resource, String method) {
+            this.registry = registry;
+            this.resource = resource;
+            this.method = method;
+            this.timer = registry.timer("trustsphere_http_request_seconds", "Resource method latency",
+                    "resource", resource, "method", method);
+        }
+
+        void count(int status) {
+            int statusClass = status / 100;
+            if (statusClass < 1 || statusClass > 5) {
+                return;
+            }
+            Counter counter = responses[statusClass];
+            if (counter == null) {
+                // Racing threads get the same registry instance, so the unsynchronized store is harmless
+                counter = registry.counter("trustsphere_http_responses_total", "Responses by status class",
+                        "resource", resource, "method", method, "status", statusClass + "xx");
+                responses[statusClass] = counter;
+            }
+            counter.increment();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.trustsphere.rest.metrics;
+
+import com.trustsphere.ejb.sql.SqlScope;
+import com.trustsphere.ejb.sql.SqlStats;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.ext.Provider;
+
+import java.lang.reflect.Method;
+
+/**
+ * Opens an SQL scope for each matched request so statements issued by the EJBs it calls are
+ * attributed to the resource method, and outside production reports the statement count in
+ * {@code X-Query-Count}.
+ *
+ * The scope is closed when the response filters run, so SQL issued while a streamed entity is
+ * being written is not included.
+ */
+@Provider
+@Priority(Priorities.AUTHENTICATION - 100)
+public class SqlScopeFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+    static final String QUERY_COUNT_HEADER = "X-Query-Count";
+
+    private static final String SCOPE = SqlScopeFilter.class.getName() + ".scope";
+
+    private final boolean reportCount =
+            !"production".equalsIgnoreCase(System.getProperty("trustsphere.environment", "development"));
+
+    @Context
+    private ResourceInfo resourceInfo;
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        Method method = resourceInfo.getResourceMethod();
+        if (method != null) {
+            requestContext.setProperty(SCOPE,
+                    SqlStats.open(method.getDeclaringClass().getSimpleName() + "." + method.getName()));
+        }
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        SqlScope scope = (SqlScope) requestContext.getProperty(SCOPE);
+        if (scope == null) {
+            return;
+        }
+        SqlStats.close(scope);
+        if (reportCount) {
+            responseContext.getHeaders().putSingle(QUERY_COUNT_HEADER, scope.getStatements());
+        }
+    }
+}
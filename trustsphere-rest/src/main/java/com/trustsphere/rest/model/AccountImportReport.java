@@ -0,0 +1,41 @@
+package com.trustsphere.rest.model;
+
+import com.trustsphere.core.dto.ImportRowErrorDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Per-upload summary; row errors are capped so the report stays bounded on very large files
+public class AccountImportReport {
+
+    private final int maxReportedErrors;
+    private final List<ImportRowErrorDTO> errors = new ArrayList<>();
+    private long totalRows;
+    private long imported;
+    private long failed;
+
+    public AccountImportReport(int maxReportedErrors) {
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public void recordRow() {
+        totalRows++;
+    }
+
+    public void recordImported(long count) {
+        imported += count;
+    }
+
+    public void recordError(ImportRowErrorDTO error) {
+        failed++;
+        if (errors.size() < maxReportedErrors) {
+            errors.add(error);
+        }
+    }
+
+    public long getTotalRows() { return totalRows; }
+    public long getImported() { return imported; }
+    public long getFailed() { return failed; }
+    public List<ImportRowErrorDTO> getErrors() { return errors; }
+    public boolean isErrorsTruncated() { return failed > errors.size(); }
+}
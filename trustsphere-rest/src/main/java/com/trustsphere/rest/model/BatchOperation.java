@@ -0,0 +1,8 @@
+package com.trustsphere.rest.model;
+
+// One sub-request of a batch; path is relative to /api and may carry a query string
+public class BatchOperation {
+    public String id;
+    public String method;
+    public String path;
+}
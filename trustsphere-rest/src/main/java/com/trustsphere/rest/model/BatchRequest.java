@@ -0,0 +1,7 @@
+package com.trustsphere.rest.model;
+
+import java.util.List;
+
+public class BatchRequest {
+    public List<BatchOperation> operations;
+}
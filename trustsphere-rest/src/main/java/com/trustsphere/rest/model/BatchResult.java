@@ -0,0 +1,19 @@
+package com.trustsphere.rest.model;
+
+// Outcome of one batch operation: the status and entity the standalone request would have returned
+public class BatchResult {
+
+    private final String id;
+    private final int status;
+    private final Object body;
+
+    public BatchResult(String id, int status, Object body) {
+        this.id = id;
+        this.status = status;
+        this.body = body;
+    }
+
+    public String getId() { return id; }
+    public int getStatus() { return status; }
+    public Object getBody() { return body; }
+}
@@ -0,0 +1,38 @@
+package com.trustsphere.rest.model;
+
+import com.trustsphere.core.dto.AccountDTO;
+import com.trustsphere.core.dto.NotificationDTO;
+import com.trustsphere.core.dto.TransactionDTO;
+import com.trustsphere.core.dto.UserDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Home-screen aggregate; parts that failed or timed out are null and named in `unavailable`
+public class CustomerOverview {
+
+    private UserDTO user;
+    private List<AccountDTO> accounts;
+    private List<TransactionDTO> recentTransactions;
+    private List<NotificationDTO> notifications;
+    private final List<String> unavailable = new ArrayList<>();
+
+    public UserDTO getUser() { return user; }
+    public void setUser(UserDTO user) { this.user = user; }
+
+    public List<AccountDTO> getAccounts() { return accounts; }
+    public void setAccounts(List<AccountDTO> accounts) { this.accounts = accounts; }
+
+    public List<TransactionDTO> getRecentTransactions() { return recentTransactions; }
+    public void setRecentTransactions(List<TransactionDTO> recentTransactions) { this.recentTransactions = recentTransactions; }
+
+    public List<NotificationDTO> getNotifications() { return notifications; }
+    public void setNotifications(List<NotificationDTO> notifications) { this.notifications = notifications; }
+
+    public List<String> getUnavailable() { return unavailable; }
+    public boolean isPartial() { return !unavailable.isEmpty(); }
+
+    public void markUnavailable(String part) {
+        unavailable.add(part);
+    }
+}
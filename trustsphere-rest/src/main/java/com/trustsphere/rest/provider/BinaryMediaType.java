@@ -0,0 +1,10 @@
+package com.trustsphere.rest.provider;
+
+// Compact representations for high-volume API clients; JSON stays the default
+public final class BinaryMediaType {
+
+    public static final String APPLICATION_PROTOBUF = "application/x-protobuf";
+    public static final String APPLICATION_CBOR = "application/cbor";
+
+    private BinaryMediaType() {}
+}
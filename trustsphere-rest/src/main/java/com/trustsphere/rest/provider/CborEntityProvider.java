@@ -0,0 +1,41 @@
+package com.trustsphere.rest.provider;
+
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import jakarta.ws.rs.ext.Provider;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+/**
+ * Reads and writes {@code application/cbor} with the same property names and shapes as the
+ * JSON representation, so clients can switch by changing only the Accept header.
+ */
+@Provider
+@Produces(BinaryMediaType.APPLICATION_CBOR)
+@Consumes(BinaryMediaType.APPLICATION_CBOR)
+public class CborEntityProvider extends JacksonEntityWriter implements MessageBodyReader<Object> {
+
+    public CborEntityProvider() {
+        super(configure(CBORMapper.builder()));
+    }
+
+    @Override
+    public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return handles(type);
+    }
+
+    @Override
+    public Object readFrom(Class<Object> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                           MultivaluedMap<String, String> httpHeaders, InputStream entityStream) throws IOException {
+        return mapper.readerFor(mapper.constructType(genericType != null ? genericType : type))
+                .readValue(entityStream);
+    }
+}
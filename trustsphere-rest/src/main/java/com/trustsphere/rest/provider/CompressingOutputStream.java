@@ -0,0 +1,153 @@
+package com.trustsphere.rest.provider;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Deflates into gzip or zlib ("deflate") framing using a {@link Deflater} borrowed from a per-thread
+ * pool, so each response does not allocate and free native zlib state. {@code GZIPOutputStream}
+ * cannot be used here because it always creates its own Deflater.
+ */
+class CompressingOutputStream extends OutputStream {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private static final byte[] GZIP_HEADER = {
+            0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff
+    };
+
+    // One Deflater per thread and framing; nowrap (raw deflate) for gzip, zlib-wrapped for deflate
+    private static final ThreadLocal<Deflater> RAW_DEFLATERS = new ThreadLocal<>();
+    private static final ThreadLocal<Deflater> ZLIB_DEFLATERS = new ThreadLocal<>();
+
+    private final OutputStream out;
+    private final boolean gzip;
+    private final Deflater deflater;
+    private final CRC32 crc;
+    private final CompressionMetrics metrics;
+    private final byte[] buffer = new byte[8192];
+    private final byte[] single = new byte[1];
+
+    private long bytesIn;
+    private long bytesOut;
+    private long cpuNanos;
+    private boolean closed;
+
+    CompressingOutputStream(OutputStream out, boolean gzip, int level, CompressionMetrics metrics) throws IOException {
+        this.out = out;
+        this.gzip = gzip;
+        this.metrics = metrics;
+        this.crc = gzip ? new CRC32() : null;
+
+        ThreadLocal<Deflater> pool = gzip ? RAW_DEFLATERS : ZLIB_DEFLATERS;
+        Deflater cached = pool.get();
+        if (cached != null) {
+            // Take it out of the pool while in use, in case this thread nests another response
+            pool.remove();
+            cached.setLevel(level);
+            this.deflater = cached;
+        } else {
+            this.deflater = new Deflater(level, gzip);
+        }
+
+        if (gzip) {
+            out.write(GZIP_HEADER);
+            bytesOut += GZIP_HEADER.length;
+        }
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        single[0] = (byte) b;
+        write(single, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return;
+        }
+        if (crc != null) {
+            crc.update(b, off, len);
+        }
+        bytesIn += len;
+        deflater.setInput(b, off, len);
+        long started = cpuTime();
+        while (!deflater.needsInput()) {
+            drain(Deflater.NO_FLUSH);
+        }
+        cpuNanos += cpuTime() - started;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        // Sync flush so streamed responses reach the client incrementally
+        long started = cpuTime();
+        int produced;
+        do {
+            produced = drain(Deflater.SYNC_FLUSH);
+        } while (produced == buffer.length);
+        cpuNanos += cpuTime() - started;
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            long started = cpuTime();
+            deflater.finish();
+            while (!deflater.finished()) {
+                drain(Deflater.NO_FLUSH);
+            }
+            cpuNanos += cpuTime() - started;
+
+            if (gzip) {
+                writeIntLE((int) crc.getValue());
+                writeIntLE((int) bytesIn);
+            }
+            metrics.recordCompressed(bytesIn, bytesOut, cpuNanos);
+            out.close();
+        } finally {
+            release();
+        }
+    }
+
+    private int drain(int flushMode) throws IOException {
+        int produced = deflater.deflate(buffer, 0, buffer.length, flushMode);
+        if (produced > 0) {
+            out.write(buffer, 0, produced);
+            bytesOut += produced;
+        }
+        return produced;
+    }
+
+    private void writeIntLE(int value) throws IOException {
+        out.write(value & 0xff);
+        out.write((value >> 8) & 0xff);
+        out.write((value >> 16) & 0xff);
+        out.write((value >> 24) & 0xff);
+        bytesOut += 4;
+    }
+
+    private void release() {
+        ThreadLocal<Deflater> pool = gzip ? RAW_DEFLATERS : ZLIB_DEFLATERS;
+        if (pool.get() == null) {
+            deflater.reset();
+            pool.set(deflater);
+        } else {
+            deflater.end();
+        }
+    }
+
+    private static long cpuTime() {
+        return THREADS.isCurrentThreadCpuTimeSupported() ? THREADS.getCurrentThreadCpuTime() : System.nanoTime();
+    }
+}
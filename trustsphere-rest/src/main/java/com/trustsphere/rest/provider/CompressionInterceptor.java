@@ -0,0 +1,185 @@
+package com.trustsphere.rest.provider;
+
+import com.trustsphere.rest.security.ConfigurationProvider;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.Provider;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.zip.Deflater;
+
+/**
+ * Compresses response entities with gzip or deflate when the client accepts it. The first
+ * {@code compression.min.bytes} of the entity are buffered, so small payloads go out unchanged
+ * and only larger ones pay for compression.
+ */
+@Provider
+@Priority(Priorities.ENTITY_CODER)
+public class CompressionInterceptor implements WriterInterceptor {
+
+    private static final String GZIP = "gzip";
+    private static final String DEFLATE = "deflate";
+
+    @Context
+    private HttpHeaders requestHeaders;
+
+    @Inject
+    private ConfigurationProvider configProvider;
+
+    @Inject
+    private CompressionMetrics metrics;
+
+    private boolean enabled;
+    private int minBytes;
+    private int level;
+
+    @PostConstruct
+    public void init() {
+        this.enabled = Boolean.parseBoolean(configProvider.getProperty("compression.enabled", "true"));
+        this.minBytes = Integer.parseInt(configProvider.getProperty("compression.min.bytes", "1024"));
+        this.level = Integer.parseInt(configProvider.getProperty("compression.level",
+                String.valueOf(Deflater.DEFAULT_COMPRESSION)));
+    }
+
+    @Override
+    public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+        MultivaluedMap<String, Object> headers = context.getHeaders();
+        String encoding = enabled && !headers.containsKey(HttpHeaders.CONTENT_ENCODING)
+                ? negotiate(requestHeaders.getHeaderString(HttpHeaders.ACCEPT_ENCODING))
+                : null;
+        if (encoding == null) {
+            context.proceed();
+            return;
+        }
+
+        headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        OutputStream original = context.getOutputStream();
+        ThresholdOutputStream threshold = new ThresholdOutputStream(original, headers, encoding);
+        context.setOutputStream(threshold);
+        try {
+            context.proceed();
+        } finally {
+            threshold.close();
+            context.setOutputStream(original);
+        }
+    }
+
+    // Picks gzip over deflate; an explicit q=0 rules an encoding out
+    private static String negotiate(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return null;
+        }
+        boolean deflate = false;
+        for (String part : acceptEncoding.split(",")) {
+            String[] params = part.split(";");
+            String coding = params[0].trim().toLowerCase(Locale.ROOT);
+            if (isRejected(params)) {
+                continue;
+            }
+            if (GZIP.equals(coding) || "*".equals(coding)) {
+                return GZIP;
+            }
+            deflate |= DEFLATE.equals(coding);
+        }
+        return deflate ? DEFLATE : null;
+    }
+
+    private static boolean isRejected(String[] params) {
+        for (int i = 1; i < params.length; i++) {
+            String param = params[i].trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2)) <= 0;
+                } catch (NumberFormatException e) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Holds back output until it exceeds the size threshold, then switches to compressing. Headers
+     * are only committed on the first write to the underlying stream, so Content-Encoding can still
+     * be set at the switch.
+     */
+    private class ThresholdOutputStream extends OutputStream {
+
+        private final OutputStream original;
+        private final MultivaluedMap<String, Object> headers;
+        private final String encoding;
+        private byte[] pending = new byte[minBytes];
+        private int pendingCount;
+        private OutputStream target;
+        private boolean closed;
+
+        private ThresholdOutputStream(OutputStream original, MultivaluedMap<String, Object> headers, String encoding) {
+            this.original = original;
+            this.headers = headers;
+            this.encoding = encoding;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (target == null && pendingCount < pending.length) {
+                pending[pendingCount++] = (byte) b;
+                return;
+            }
+            startCompressing().write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (target == null && pendingCount + len <= pending.length) {
+                System.arraycopy(b, off, pending, pendingCount, len);
+                pendingCount += len;
+                return;
+            }
+            startCompressing().write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            // Small buffered output is not worth flushing early; it goes out on close
+            if (target != null) {
+                target.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (target == null) {
+                metrics.recordUncompressed();
+                original.write(pending, 0, pendingCount);
+                original.flush();
+            } else {
+                target.close();
+            }
+        }
+
+        private OutputStream startCompressing() throws IOException {
+            if (target == null) {
+                headers.putSingle(HttpHeaders.CONTENT_ENCODING, encoding);
+                headers.remove(HttpHeaders.CONTENT_LENGTH);
+                target = new CompressingOutputStream(original, GZIP.equals(encoding), level, metrics);
+                target.write(pending, 0, pendingCount);
+                pending = null;
+            }
+            return target;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.trustsphere.rest.provider;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Running totals for response compression
+ */
+@ApplicationScoped
+public class CompressionMetrics {
+
+    private final LongAdder compressedResponses = new LongAdder();
+    private final LongAdder uncompressedResponses = new LongAdder();
+    private final LongAdder bytesIn = new LongAdder();
+    private final LongAdder bytesOut = new LongAdder();
+    private final LongAdder cpuNanos = new LongAdder();
+
+    void recordCompressed(long originalBytes, long compressedBytes, long compressionCpuNanos) {
+        compressedResponses.increment();
+        bytesIn.add(originalBytes);
+        bytesOut.add(compressedBytes);
+        cpuNanos.add(compressionCpuNanos);
+    }
+
+    void recordUncompressed() {
+        uncompressedResponses.increment();
+    }
+
+    public long getCompressedResponses() {
+        return compressedResponses.sum();
+    }
+
+    public long getUncompressedResponses() {
+        return uncompressedResponses.sum();
+    }
+
+    public long getBytesIn() {
+        return bytesIn.sum();
+    }
+
+    public long getBytesOut() {
+        return bytesOut.sum();
+    }
+
+    public long getBytesSaved() {
+        return bytesIn.sum() - bytesOut.sum();
+    }
+
+    public long getCpuNanos() {
+        return cpuNanos.sum();
+    }
+}
@@ -0,0 +1,134 @@
+package com.trustsphere.rest.provider;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.cfg.MapperBuilder;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.trustsphere.core.dto.AccountDTO;
+import com.trustsphere.core.dto.AuditLogDTO;
+import com.trustsphere.core.dto.CursorPageDTO;
+import com.trustsphere.core.dto.ImportRowErrorDTO;
+import com.trustsphere.core.dto.NotificationDTO;
+import com.trustsphere.core.dto.TransactionDTO;
+import com.trustsphere.core.dto.UserDTO;
+import com.trustsphere.rest.model.BatchResult;
+import com.trustsphere.rest.model.CustomerOverview;
+import com.trustsphere.rest.model.ErrorResponse;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Jackson-backed entity writer shared by the JSON and CBOR providers.
+ *
+ * Serializers are resolved once per entity class and reused through cached {@link ObjectWriter}s,
+ * with the DTOs returned by the resources built at startup. Blackbird replaces reflective getter
+ * calls with generated lambdas. Collections are written element by element straight into the
+ * response stream rather than serialized as one value, so the generator's buffer is the only
+ * copy of the output held in memory.
+ */
+abstract class JacksonEntityWriter implements MessageBodyWriter<Object> {
+
+    private static final List<Class<?>> PREBUILT = List.of(
+            AccountDTO.class,
+            AuditLogDTO.class,
+            CursorPageDTO.class,
+            ImportRowErrorDTO.class,
+            NotificationDTO.class,
+            TransactionDTO.class,
+            UserDTO.class,
+            BatchResult.class,
+            CustomerOverview.class,
+            ErrorResponse.class);
+
+    protected final ObjectMapper mapper;
+    private final ConcurrentMap<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    protected JacksonEntityWriter(ObjectMapper mapper) {
+        this.mapper = mapper;
+        for (Class<?> type : PREBUILT) {
+            writerFor(type);
+        }
+    }
+
+    /**
+     * Applies the settings every representation shares. They match the JSON-B output clients
+     * already see: ISO-8601 dates, null properties omitted and properties in alphabetical order.
+     */
+    static <M extends ObjectMapper, B extends MapperBuilder<M, B>> M configure(B builder) {
+        return builder
+                .addModule(new JavaTimeModule())
+                .addModule(new BlackbirdModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+                // Flushing per value would force a compressor sync flush for every list element
+                .disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                // Derived getters such as CursorPageDTO.hasNext come back on read
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .disable(JsonParser.Feature.AUTO_CLOSE_SOURCE)
+                .build();
+    }
+
+    // The application's own types plus collections and maps; everything else stays with the defaults
+    static boolean handles(Class<?> type) {
+        return Collection.class.isAssignableFrom(type)
+                || Map.class.isAssignableFrom(type)
+                || type.getName().startsWith("com.trustsphere.");
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return handles(type);
+    }
+
+    @Override
+    public void writeTo(Object entity, Class<?> type, Type genericType, Annotation[] annotations,
+                        MediaType mediaType, MultivaluedMap<String, Object> httpHeaders,
+                        OutputStream entityStream) throws IOException {
+        try (JsonGenerator generator = mapper.getFactory().createGenerator(entityStream)) {
+            if (entity instanceof Collection) {
+                // The generator hands its buffer to the stream whenever it fills, so large lists go out as they are written
+                generator.writeStartArray();
+                for (Object element : (Collection<?>) entity) {
+                    if (element == null) {
+                        generator.writeNull();
+                    } else {
+                        writerFor(element.getClass()).writeValue(generator, element);
+                    }
+                }
+                generator.writeEndArray();
+            } else {
+                writerFor(entity.getClass()).writeValue(generator, entity);
+            }
+        }
+    }
+
+    private ObjectWriter writerFor(Class<?> type) {
+        ObjectWriter writer = writers.get(type);
+        if (writer == null) {
+            writer = writers.computeIfAbsent(type, mapper::writerFor);
+        }
+        return writer;
+    }
+}
@@ -0,0 +1,20 @@
+package com.trustsphere.rest.provider;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.ext.Provider;
+
+/**
+ * Serializes JSON responses with Jackson instead of the container's default JSON-B binding.
+ * Plain String entities are pre-rendered JSON (or messages) and stay with the default providers.
+ */
+@Provider
+@Produces({MediaType.APPLICATION_JSON, "application/*+json"})
+public class JsonEntityWriter extends JacksonEntityWriter {
+
+    public JsonEntityWriter() {
+        super(configure(JsonMapper.builder()));
+    }
+}
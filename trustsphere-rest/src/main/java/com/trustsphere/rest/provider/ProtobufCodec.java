@@ -0,0 +1,18 @@
+package com.trustsphere.rest.provider;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+
+/**
+ * Wire encoding of one DTO as a protobuf message. Field numbers are fixed in
+ * {@code proto/trustsphere.proto}; never renumber a field, only add new ones.
+ */
+interface ProtobufCodec<T> {
+
+    void write(T value, CodedOutputStream out) throws IOException;
+
+    // Reads fields until the end of input or the current limit
+    T read(CodedInputStream in) throws IOException;
+}
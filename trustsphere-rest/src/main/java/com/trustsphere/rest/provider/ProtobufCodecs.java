@@ -0,0 +1,323 @@
+package com.trustsphere.rest.provider;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import com.trustsphere.core.dto.AccountDTO;
+import com.trustsphere.core.dto.AuditLogDTO;
+import com.trustsphere.core.dto.ImportRowErrorDTO;
+import com.trustsphere.core.dto.NotificationDTO;
+import com.trustsphere.core.dto.TransactionDTO;
+import com.trustsphere.core.dto.UserDTO;
+import com.trustsphere.core.enums.AccountStatus;
+import com.trustsphere.core.enums.NotificationType;
+import com.trustsphere.core.enums.SeverityLevel;
+import com.trustsphere.core.enums.TransactionStatus;
+import com.trustsphere.core.enums.TransactionType;
+import com.trustsphere.core.enums.UserStatus;
+import com.trustsphere.rest.model.ErrorResponse;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hand-written protobuf codecs for the DTOs, following {@code proto/trustsphere.proto}.
+ *
+ * Amounts travel as decimal strings so no precision is lost, enums by name so new constants
+ * don't shift existing values, and instants as {@code google.protobuf.Timestamp}. Null fields
+ * are omitted, as proto3 does for defaults.
+ */
+final class ProtobufCodecs {
+
+    static final ProtobufCodec<AccountDTO> ACCOUNT = new ProtobufCodec<>() {
+        @Override
+        public void write(AccountDTO value, CodedOutputStream out) throws IOException {
+            writeString(out, 1, value.getId());
+            writeString(out, 2, value.getAccountNumber());
+            writeDecimal(out, 3, value.getBalance());
+            writeEnum(out, 4, value.getStatus());
+            writeString(out, 5, value.getUserId());
+            writeInstant(out, 6, value.getCreatedAt());
+            writeInstant(out, 7, value.getUpdatedAt());
+        }
+
+        @Override
+        public AccountDTO read(CodedInputStream in) throws IOException {
+            AccountDTO value = new AccountDTO();
+            int tag;
+            while ((tag = in.readTag()) != 0) {
+                switch (WireFormat.getTagFieldNumber(tag)) {
+                    case 1: value.setId(in.readStringRequireUtf8()); break;
+                    case 2: value.setAccountNumber(in.readStringRequireUtf8()); break;
+                    case 3: value.setBalance(new BigDecimal(in.readStringRequireUtf8())); break;
+                    case 4: value.setStatus(AccountStatus.valueOf(in.readStringRequireUtf8())); break;
+                    case 5: value.setUserId(in.readStringRequireUtf8()); break;
+                    case 6: value.setCreatedAt(readInstant(in)); break;
+                    case 7: value.setUpdatedAt(readInstant(in)); break;
+                    default: in.skipField(tag);
+                }
+            }
+            return value;
+        }
+    };
+
+    static final ProtobufCodec<TransactionDTO> TRANSACTION = new ProtobufCodec<>() {
+        @Override
+        public void write(TransactionDTO value, CodedOutputStream out) throws IOException {
+            writeString(out, 1, value.getId());
+            writeString(out, 2, value.getSourceAccountId());
+            writeString(out, 3, value.getTargetAccountId());
+            writeDecimal(out, 4, value.getAmount());
+            writeEnum(out, 5, value.getType());
+            writeEnum(out, 6, value.getStatus());
+            writeInstant(out, 7, value.getTimestamp());
+        }
+
+        @Override
+        public TransactionDTO read(CodedInputStream in) throws IOException {
+            TransactionDTO value = new TransactionDTO();
+            int tag;
+            while ((tag = in.readTag()) != 0) {
+                switch (WireFormat.getTagFieldNumber(tag)) {
+                    case 1: value.setId(in.readStringRequireUtf8()); break;
+                    case 2: value.setSourceAccountId(in.readStringRequireUtf8()); break;
+                    case 3: value.setTargetAccountId(in.readStringRequireUtf8()); break;
+                    case 4: value.setAmount(new BigDecimal(in.readStringRequireUtf8())); break;
+                    case 5: value.setType(TransactionType.valueOf(in.readStringRequireUtf8())); break;
+                    case 6: value.setStatus(TransactionStatus.valueOf(in.readStringRequireUtf8())); break;
+                    case 7: value.setTimestamp(readInstant(in)); break;
+                    default: in.skipField(tag);
+                }
+            }
+            return value;
+        }
+    };
+
+    static final ProtobufCodec<AuditLogDTO> AUDIT_LOG = new ProtobufCodec<>() {
+        @Override
+        public void write(AuditLogDTO value, CodedOutputStream out) throws IOException {
+            writeString(out, 1, value.getId());
+            writeString(out, 2, value.getActorUserId());
+            writeString(out, 3, value.getAction());
+            writeString(out, 4, value.getResourceType());
+            writeString(out, 5, value.getResourceId());
+            writeEnum(out, 6, value.getSeverityLevel());
+            writeString(out, 7, value.getDetails());
+            writeString(out, 8, value.getIpAddress());
+            writeString(out, 9, value.getUserAgent());
+            writeInstant(out, 10, value.getTimestamp());
+        }
+
+        @Override
+        public AuditLogDTO read(CodedInputStream in) throws IOException {
+            AuditLogDTO value = new AuditLogDTO();
+            int tag;
+            while ((tag = in.readTag()) != 0) {
+                switch (WireFormat.getTagFieldNumber(tag)) {
+                    case 1: value.setId(in.readStringRequireUtf8()); break;
+                    case 2: value.setActorUserId(in.readStringRequireUtf8()); break;
+                    case 3: value.setAction(in.readStringRequireUtf8()); break;
+                    case 4: value.setResourceType(in.readStringRequireUtf8()); break;
+                    case 5: value.setResourceId(in.readStringRequireUtf8()); break;
+                    case 6: value.setSeverityLevel(SeverityLevel.valueOf(in.readStringRequireUtf8())); break;
+                    case 7: value.setDetails(in.readStringRequireUtf8()); break;
+                    case 8: value.setIpAddress(in.readStringRequireUtf8()); break;
+                    case 9: value.setUserAgent(in.readStringRequireUtf8()); break;
+                    case 10: value.setTimestamp(readInstant(in)); break;
+                    default: in.skipField(tag);
+                }
+            }
+            return value;
+        }
+    };
+
+    static final ProtobufCodec<UserDTO> USER = new ProtobufCodec<>() {
+        @Override
+        public void write(UserDTO value, CodedOutputStream out) throws IOException {
+            writeString(out, 1, value.getId());
+            writeString(out, 2, value.getEmail());
+            writeString(out, 3, value.getFullName());
+            writeEnum(out, 4, value.getStatus());
+            writeInstant(out, 5, value.getCreatedAt());
+            writeInstant(out, 6, value.getUpdatedAt());
+            if (value.getRoleNames() != null) {
+                for (String role : value.getRoleNames()) {
+                    writeString(out, 7, role);
+                }
+            }
+        }
+
+        @Override
+        public UserDTO read(CodedInputStream in) throws IOException {
+            UserDTO value = new UserDTO();
+            Set<String> roles = null;
+            int tag;
+            while ((tag = in.readTag()) != 0) {
+                switch (WireFormat.getTagFieldNumber(tag)) {
+                    case 1: value.setId(in.readStringRequireUtf8()); break;
+                    case 2: value.setEmail(in.readStringRequireUtf8()); break;
+                    case 3: value.setFullName(in.readStringRequireUtf8()); break;
+                    case 4: value.setStatus(UserStatus.valueOf(in.readStringRequireUtf8())); break;
+                    case 5: value.setCreatedAt(readInstant(in)); break;
+                    case 6: value.setUpdatedAt(readInstant(in)); break;
+                    case 7:
+                        if (roles == null) {
+                            roles = new LinkedHashSet<>();
+                        }
+                        roles.add(in.readStringRequireUtf8());
+                        break;
+                    default: in.skipField(tag);
+                }
+            }
+            value.setRoleNames(roles);
+            return value;
+        }
+    };
+
+    static final ProtobufCodec<NotificationDTO> NOTIFICATION = new ProtobufCodec<>() {
+        @Override
+        public void write(NotificationDTO value, CodedOutputStream out) throws IOException {
+            writeString(out, 1, value.getId());
+            writeString(out, 2, value.getUserId());
+            writeEnum(out, 3, value.getType());
+            writeString(out, 4, value.getMessage());
+            writeInstant(out, 5, value.getTimestamp());
+        }
+
+        @Override
+        public NotificationDTO read(CodedInputStream in) throws IOException {
+            NotificationDTO value = new NotificationDTO();
+            int tag;
+            while ((tag = in.readTag()) != 0) {
+                switch (WireFormat.getTagFieldNumber(tag)) {
+                    case 1: value.setId(in.readStringRequireUtf8()); break;
+                    case 2: value.setUserId(in.readStringRequireUtf8()); break;
+                    case 3: value.setType(NotificationType.valueOf(in.readStringRequireUtf8())); break;
+                    case 4: value.setMessage(in.readStringRequireUtf8()); break;
+                    case 5: value.setTimestamp(readInstant(in)); break;
+                    default: in.skipField(tag);
+                }
+            }
+            return value;
+        }
+    };
+
+    static final ProtobufCodec<ImportRowErrorDTO> IMPORT_ROW_ERROR = new ProtobufCodec<>() {
+        @Override
+        public void write(ImportRowErrorDTO value, CodedOutputStream out) throws IOException {
+            if (value.getRowNumber() != 0) {
+                out.writeInt64(1, value.getRowNumber());
+            }
+            writeString(out, 2, value.getCode());
+            writeString(out, 3, value.getMessage());
+        }
+
+        @Override
+        public ImportRowErrorDTO read(CodedInputStream in) throws IOException {
+            ImportRowErrorDTO value = new ImportRowErrorDTO();
+            int tag;
+            while ((tag = in.readTag()) != 0) {
+                switch (WireFormat.getTagFieldNumber(tag)) {
+                    case 1: value.setRowNumber(in.readInt64()); break;
+                    case 2: value.setCode(in.readStringRequireUtf8()); break;
+                    case 3: value.setMessage(in.readStringRequireUtf8()); break;
+                    default: in.skipField(tag);
+                }
+            }
+            return value;
+        }
+    };
+
+    // Error bodies are only ever written; clients decode them, the API never accepts them
+    static final ProtobufCodec<ErrorResponse> ERROR = new ProtobufCodec<>() {
+        @Override
+        public void write(ErrorResponse value, CodedOutputStream out) throws IOException {
+            writeString(out, 1, value.getCode());
+            writeString(out, 2, value.getMessage());
+            out.writeInt64(3, value.getTimestamp());
+        }
+
+        @Override
+        public ErrorResponse read(CodedInputStream in) {
+            throw new UnsupportedOperationException("ErrorResponse is write-only");
+        }
+    };
+
+    private static final Map<Class<?>, ProtobufCodec<?>> CODECS = Map.of(
+            AccountDTO.class, ACCOUNT,
+            TransactionDTO.class, TRANSACTION,
+            AuditLogDTO.class, AUDIT_LOG,
+            UserDTO.class, USER,
+            NotificationDTO.class, NOTIFICATION,
+            ImportRowErrorDTO.class, IMPORT_ROW_ERROR,
+            ErrorResponse.class, ERROR);
+
+    private ProtobufCodecs() {}
+
+    // Codec for exactly this class, or null when it has no protobuf representation
+    @SuppressWarnings("unchecked")
+    static ProtobufCodec<Object> forType(Class<?> type) {
+        return (ProtobufCodec<Object>) CODECS.get(type);
+    }
+
+    static boolean isReadable(Class<?> type) {
+        return CODECS.containsKey(type) && type != ErrorResponse.class;
+    }
+
+    static void writeString(CodedOutputStream out, int field, String value) throws IOException {
+        if (value != null) {
+            out.writeString(field, value);
+        }
+    }
+
+    private static void writeEnum(CodedOutputStream out, int field, Enum<?> value) throws IOException {
+        if (value != null) {
+            out.writeString(field, value.name());
+        }
+    }
+
+    private static void writeDecimal(CodedOutputStream out, int field, BigDecimal value) throws IOException {
+        if (value != null) {
+            out.writeString(field, value.toPlainString());
+        }
+    }
+
+    // google.protobuf.Timestamp { int64 seconds = 1; int32 nanos = 2; }, sized up front to avoid a temporary message
+    private static void writeInstant(CodedOutputStream out, int field, Instant value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        long seconds = value.getEpochSecond();
+        int nanos = value.getNano();
+        int size = (seconds != 0 ? CodedOutputStream.computeInt64Size(1, seconds) : 0)
+                + (nanos != 0 ? CodedOutputStream.computeInt32Size(2, nanos) : 0);
+        out.writeTag(field, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        out.writeUInt32NoTag(size);
+        if (seconds != 0) {
+            out.writeInt64(1, seconds);
+        }
+        if (nanos != 0) {
+            out.writeInt32(2, nanos);
+        }
+    }
+
+    private static Instant readInstant(CodedInputStream in) throws IOException {
+        int limit = in.pushLimit(in.readRawVarint32());
+        long seconds = 0;
+        int nanos = 0;
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case 1: seconds = in.readInt64(); break;
+                case 2: nanos = in.readInt32(); break;
+                default: in.skipField(tag);
+            }
+        }
+        in.popLimit(limit);
+        return Instant.ofEpochSecond(seconds, nanos);
+    }
+}
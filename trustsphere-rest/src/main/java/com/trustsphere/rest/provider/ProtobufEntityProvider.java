@@ -0,0 +1,165 @@
+package com.trustsphere.rest.provider;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import com.trustsphere.core.dto.CursorPageDTO;
+
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Reads and writes {@code application/x-protobuf} for the DTOs that have a codec, plus lists
+ * and cursor pages of them.
+ *
+ * A list is encoded as a message with the elements in repeated field 1 and a page adds
+ * {@code next = 2} and {@code has_next = 3}, as declared in {@code proto/trustsphere.proto}.
+ * Elements are encoded one at a time into a reused scratch buffer and copied out, so a large
+ * list streams to the client instead of being built as one message.
+ */
+@Provider
+@Produces(BinaryMediaType.APPLICATION_PROTOBUF)
+@Consumes(BinaryMediaType.APPLICATION_PROTOBUF)
+public class ProtobufEntityProvider implements MessageBodyWriter<Object>, MessageBodyReader<Object> {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        if (Collection.class.isAssignableFrom(type) || CursorPageDTO.class.isAssignableFrom(type)) {
+            // Element types are erased for Response.ok(list); they are checked per element on write
+            Class<?> element = elementType(genericType);
+            return element == null || ProtobufCodecs.forType(element) != null;
+        }
+        return ProtobufCodecs.forType(type) != null;
+    }
+
+    @Override
+    public void writeTo(Object entity, Class<?> type, Type genericType, Annotation[] annotations,
+                        MediaType mediaType, MultivaluedMap<String, Object> httpHeaders,
+                        OutputStream entityStream) throws IOException {
+        CodedOutputStream out = CodedOutputStream.newInstance(entityStream, BUFFER_SIZE);
+        if (entity instanceof Collection) {
+            writeRepeated(out, (Collection<?>) entity);
+        } else if (entity instanceof CursorPageDTO) {
+            CursorPageDTO<?> page = (CursorPageDTO<?>) entity;
+            if (page.getItems() != null) {
+                writeRepeated(out, page.getItems());
+            }
+            ProtobufCodecs.writeString(out, 2, page.getNext());
+            if (page.isHasNext()) {
+                out.writeBool(3, true);
+            }
+        } else {
+            codecFor(entity.getClass()).write(entity, out);
+        }
+        out.flush();
+    }
+
+    @Override
+    public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        if (Collection.class.isAssignableFrom(type) || CursorPageDTO.class.isAssignableFrom(type)) {
+            Class<?> element = elementType(genericType);
+            return element != null && ProtobufCodecs.isReadable(element);
+        }
+        return ProtobufCodecs.isReadable(type);
+    }
+
+    @Override
+    public Object readFrom(Class<Object> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                           MultivaluedMap<String, String> httpHeaders, InputStream entityStream) throws IOException {
+        CodedInputStream in = CodedInputStream.newInstance(entityStream, BUFFER_SIZE);
+        try {
+            if (Collection.class.isAssignableFrom(type) || CursorPageDTO.class.isAssignableFrom(type)) {
+                ProtobufCodec<Object> codec = ProtobufCodecs.forType(elementType(genericType));
+                List<Object> items = new ArrayList<>();
+                String next = null;
+                int tag;
+                while ((tag = in.readTag()) != 0) {
+                    switch (WireFormat.getTagFieldNumber(tag)) {
+                        case 1:
+                            int limit = in.pushLimit(in.readRawVarint32());
+                            items.add(codec.read(in));
+                            in.popLimit(limit);
+                            break;
+                        case 2:
+                            next = in.readStringRequireUtf8();
+                            break;
+                        default:
+                            in.skipField(tag);
+                    }
+                }
+                return Collection.class.isAssignableFrom(type) ? items : new CursorPageDTO<>(items, next);
+            }
+            return ProtobufCodecs.forType(type).read(in);
+
+        } catch (IllegalArgumentException e) {
+            // Unknown enum names and malformed decimals
+            throw new BadRequestException("Invalid protobuf entity: " + e.getMessage(), e);
+        }
+    }
+
+    private static void writeRepeated(CodedOutputStream out, Collection<?> items) throws IOException {
+        ScratchBuffer scratch = new ScratchBuffer();
+        CodedOutputStream element = CodedOutputStream.newInstance(scratch, BUFFER_SIZE);
+        for (Object item : items) {
+            if (item == null) {
+                continue;
+            }
+            scratch.reset();
+            codecFor(item.getClass()).write(item, element);
+            element.flush();
+            out.writeTag(1, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            out.writeUInt32NoTag(scratch.size());
+            out.writeRawBytes(scratch.buffer(), 0, scratch.size());
+        }
+    }
+
+    private static ProtobufCodec<Object> codecFor(Class<?> type) {
+        ProtobufCodec<Object> codec = ProtobufCodecs.forType(type);
+        if (codec == null) {
+            throw new IllegalStateException("No protobuf representation for " + type.getName());
+        }
+        return codec;
+    }
+
+    // First type argument of List<X> or CursorPageDTO<X>, or null when erased
+    private static Class<?> elementType(Type genericType) {
+        if (genericType instanceof ParameterizedType) {
+            Type[] arguments = ((ParameterizedType) genericType).getActualTypeArguments();
+            if (arguments.length == 1 && arguments[0] instanceof Class) {
+                return (Class<?>) arguments[0];
+            }
+        }
+        return null;
+    }
+
+    // Exposes the backing array so encoded elements are copied out without another allocation
+    private static final class ScratchBuffer extends ByteArrayOutputStream {
+
+        ScratchBuffer() {
+            super(512);
+        }
+
+        byte[] buffer() {
+            return buf;
+        }
+    }
+}
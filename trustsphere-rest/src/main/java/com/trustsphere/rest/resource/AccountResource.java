@@ -1,11 +1,18 @@
 package com.trustsphere.rest.resource;
 
 import com.trustsphere.core.enums.AccountStatus;
-import com.trustsphere.ejb.remote.AccountServiceRemote;
+import com.trustsphere.ejb.local.AccountServiceLocal;
+import com.trustsphere.ejb.local.TransactionServiceLocal;
 import com.trustsphere.core.dto.AccountDTO;
 
+import com.trustsphere.core.dto.ImportRowErrorDTO;
 import com.trustsphere.ejb.exception.AccountNotFoundException;
+import com.trustsphere.rest.bulk.AccountRowReader;
+import com.trustsphere.rest.bulk.BulkMediaType;
+import com.trustsphere.rest.bulk.StatementWriter;
+import com.trustsphere.rest.model.AccountImportReport;
 import com.trustsphere.rest.model.ErrorResponse;
+import com.trustsphere.rest.provider.BinaryMediaType;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.ejb.EJB;
 import jakarta.ejb.TransactionAttribute;
@@ -14,14 +21,23 @@ import jakarta.enterprise.context.RequestScoped;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.SecurityContext;
 import jakarta.ws.rs.core.Context;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Path("/accounts")
 @Produces(MediaType.APPLICATION_JSON)
@@ -31,14 +47,25 @@ public class AccountResource {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AccountResource.class);
 
+    // Rows handed to the EJB per transaction; bounds heap and lock duration for large imports
+    private static final int IMPORT_CHUNK_SIZE = 500;
+    private static final int MAX_REPORTED_IMPORT_ERRORS = 1000;
+
+    @EJB
+    private AccountServiceLocal accountService;
+
     @EJB
-    private AccountServiceRemote accountService;
+    private TransactionServiceLocal txnService;
 
     @Context
     private SecurityContext securityContext;
 
+    @Context
+    private Request request;
+
     @POST
     @RolesAllowed({"ROLE_TELLER", "ROLE_ADMIN"})
+    @Consumes({MediaType.APPLICATION_JSON, BinaryMediaType.APPLICATION_PROTOBUF, BinaryMediaType.APPLICATION_CBOR})
     public Response createAccount(@Valid @NotNull AccountDTO dto) {
         try {
             String currentUser = securityContext.getUserPrincipal().getName();
@@ -82,10 +109,77 @@ public class AccountResource {
         }
     }
 
+    @POST
+    @Path("import")
+    @Consumes({BulkMediaType.TEXT_CSV, BulkMediaType.APPLICATION_NDJSON})
+    @RolesAllowed({"ROLE_TELLER", "ROLE_ADMIN"})
+    public Response importAccounts(InputStream body, @Context HttpHeaders headers) {
+        AccountRowReader.Format format = AccountRowReader.Format.fromMediaType(headers.getMediaType());
+        AccountImportReport report = new AccountImportReport(MAX_REPORTED_IMPORT_ERRORS);
+        Map<Long, AccountDTO> chunk = new LinkedHashMap<>();
+
+        try (AccountRowReader reader = new AccountRowReader(body, format)) {
+            String currentUser = securityContext.getUserPrincipal().getName();
+            LOGGER.info("Starting {} account import by: {}", format, currentUser);
+
+            AccountRowReader.Row row;
+            while ((row = reader.next()) != null) {
+                report.recordRow();
+                if (!row.isValid()) {
+                    report.recordError(new ImportRowErrorDTO(row.getRowNumber(), row.getErrorCode(), row.getErrorMessage()));
+                    continue;
+                }
+                chunk.put(row.getRowNumber(), row.getAccount());
+                if (chunk.size() == IMPORT_CHUNK_SIZE) {
+                    importChunk(chunk, report);
+                }
+            }
+            importChunk(chunk, report);
+
+            LOGGER.info("Account import finished: {} rows, {} imported, {} failed",
+                    report.getTotalRows(), report.getImported(), report.getFailed());
+            return Response
+                    .ok(report)
+                    .build();
+
+        } catch (IllegalArgumentException e) {
+            LOGGER.warn("Invalid import file: {}", e.getMessage(), e);
+            return Response
+                    .status(Response.Status.BAD_REQUEST)
+                    .entity(new ErrorResponse("INVALID_IMPORT_FILE", e.getMessage()))
+                    .build();
+
+        } catch (Exception e) {
+            LOGGER.error("Account import aborted after {} rows: {}", report.getTotalRows(), e.getMessage(), e);
+            return Response
+                    .status(Response.Status.INTERNAL_SERVER_ERROR)
+                    .entity(new ErrorResponse("IMPORT_FAILED", "Internal server error"))
+                    .build();
+        }
+    }
+
+    private void importChunk(Map<Long, AccountDTO> chunk, AccountImportReport report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            List<ImportRowErrorDTO> errors = accountService.importAccounts(chunk);
+            report.recordImported(chunk.size() - errors.size());
+            errors.forEach(report::recordError);
+        } catch (Exception e) {
+            // The chunk's transaction rolled back; report every row in it and carry on with the next chunk
+            LOGGER.warn("Import chunk of {} rows failed: {}", chunk.size(), e.getMessage(), e);
+            chunk.keySet().forEach(rowNumber ->
+                    report.recordError(new ImportRowErrorDTO(rowNumber, "IMPORT_FAILED", "Chunk rolled back")));
+        }
+        chunk.clear();
+    }
+
     @GET
     @Path("{id}")
     @RolesAllowed({"ROLE_USER", "ROLE_TELLER", "ROLE_ADMIN"})
     @TransactionAttribute(TransactionAttributeType.SUPPORTS)
+    @Produces({MediaType.APPLICATION_JSON, BinaryMediaType.APPLICATION_PROTOBUF, BinaryMediaType.APPLICATION_CBOR})
     public Response getAccountById(
             @PathParam("id") String id) {
 
@@ -101,6 +195,15 @@ public class AccountResource {
             //boolean isPrivilegedUser = securityContext.isUserInRole("ROLE_TELLER") ||
             //        securityContext.isUserInRole("ROLE_ADMIN");
 
+            // Revalidation only needs the version; the account is loaded and mapped on a miss
+            EntityTag etag = EntityTags.of(id, accountService.getAccountVersion(id));
+            Response.ResponseBuilder notModified = request.evaluatePreconditions(etag);
+            if (notModified != null) {
+                return notModified
+                        .cacheControl(EntityTags.REVALIDATE)
+                        .build();
+            }
+
             AccountDTO account = accountService.getAccountById(id);
             //AccountDTO account = accountService.getAccountById(id, currentUser, isPrivilegedUser);
 
@@ -113,6 +216,8 @@ public class AccountResource {
 
             return Response
                     .ok(account)
+                    .tag(etag)
+                    .cacheControl(EntityTags.REVALIDATE)
                     .build();
 
         } catch (AccountNotFoundException e) {
@@ -142,6 +247,7 @@ public class AccountResource {
     @Path("user/{userId}")
     @RolesAllowed({"ROLE_USER", "ROLE_TELLER", "ROLE_ADMIN"})
     @TransactionAttribute(TransactionAttributeType.SUPPORTS)
+    @Produces({MediaType.APPLICATION_JSON, BinaryMediaType.APPLICATION_PROTOBUF, BinaryMediaType.APPLICATION_CBOR})
     public Response listActiveByUser(
             @PathParam("userId") String userId) {
 
@@ -195,6 +301,95 @@ public class AccountResource {
         }
     }
 
+    @GET
+    @Path("{id}/statement")
+    @Produces({BulkMediaType.TEXT_CSV, BulkMediaType.APPLICATION_NDJSON, MediaType.APPLICATION_JSON})
+    @RolesAllowed({"ROLE_USER", "ROLE_TELLER", "ROLE_ADMIN"})
+    public Response getStatement(
+            @PathParam("id") String id,
+            @QueryParam("from") String from,
+            @QueryParam("to") String to,
+            @QueryParam("format") @DefaultValue("csv") String format) {
+
+        try {
+            if (from == null || from.trim().isEmpty()) {
+                return Response
+                        .status(Response.Status.BAD_REQUEST)
+                        .entity(new ErrorResponse("INVALID_PERIOD", "'from' parameter is required"))
+                        .type(MediaType.APPLICATION_JSON)
+                        .build();
+            }
+
+            StatementWriter.Format statementFormat = StatementWriter.Format.valueOf(format.trim().toUpperCase());
+            Instant start = TimeBounds.parse(from, false);
+            Instant end = to == null || to.trim().isEmpty() ? Instant.now() : TimeBounds.parse(to, true);
+            if (!start.isBefore(end)) {
+                return Response
+                        .status(Response.Status.BAD_REQUEST)
+                        .entity(new ErrorResponse("INVALID_PERIOD", "'from' must be before 'to'"))
+                        .type(MediaType.APPLICATION_JSON)
+                        .build();
+            }
+
+            String currentUser = securityContext.getUserPrincipal().getName();
+            boolean isPrivilegedUser = securityContext.isUserInRole("ROLE_TELLER") ||
+                    securityContext.isUserInRole("ROLE_ADMIN");
+
+            // Enforce data isolation - users can only see statements of their own accounts unless privileged
+            if (!isPrivilegedUser && !currentUser.equals(accountService.getOwnerId(id))) {
+                return Response
+                        .status(Response.Status.FORBIDDEN)
+                        .entity(new ErrorResponse("UNAUTHORIZED_ACCESS", "Access denied"))
+                        .type(MediaType.APPLICATION_JSON)
+                        .build();
+            }
+
+            // Resolved before streaming starts so a missing account still maps to 404
+            BigDecimal openingBalance = accountService.getBalanceAsOf(id, start);
+
+            String mediaType = statementFormat == StatementWriter.Format.CSV
+                    ? BulkMediaType.TEXT_CSV : BulkMediaType.APPLICATION_NDJSON;
+            String fileName = "statement-" + id + "." + statementFormat.name().toLowerCase();
+            return Response
+                    .ok(new StatementWriter(txnService, id, start, end, openingBalance, statementFormat))
+                    .type(mediaType)
+                    .header("Content-Disposition", "attachment; filename=\"" + fileName + "\"")
+                    .build();
+
+        } catch (AccountNotFoundException e) {
+            LOGGER.warn("Account not found: {} : {}", id, e.getMessage(), e);
+            return Response
+                    .status(Response.Status.NOT_FOUND)
+                    .entity(new ErrorResponse("ACCOUNT_NOT_FOUND", "Account with ID " + id + " not found"))
+                    .type(MediaType.APPLICATION_JSON)
+                    .build();
+
+        } catch (DateTimeParseException e) {
+            LOGGER.warn("Invalid statement period: {}", e.getMessage());
+            return Response
+                    .status(Response.Status.BAD_REQUEST)
+                    .entity(new ErrorResponse("INVALID_PERIOD", TimeBounds.INVALID_BOUND_MESSAGE))
+                    .type(MediaType.APPLICATION_JSON)
+                    .build();
+
+        } catch (IllegalArgumentException e) {
+            LOGGER.warn("Invalid statement request: {}", e.getMessage(), e);
+            return Response
+                    .status(Response.Status.BAD_REQUEST)
+                    .entity(new ErrorResponse("INVALID_STATEMENT_REQUEST", "Use format=csv or format=ndjson"))
+                    .type(MediaType.APPLICATION_JSON)
+                    .build();
+
+        } catch (Exception e) {
+            LOGGER.warn("Failed to build statement: {}", id, e);
+            return Response
+                    .status(Response.Status.INTERNAL_SERVER_ERROR)
+                    .entity(new ErrorResponse("RETRIEVAL_FAILED", "Internal server error"))
+                    .type(MediaType.APPLICATION_JSON)
+                    .build();
+        }
+    }
+
     @PUT
     @Path("{id}/status")
     @RolesAllowed({"ROLE_TELLER", "ROLE_ADMIN"})
@@ -1,14 +1,19 @@
 package com.trustsphere.rest.resource;
 
 import com.trustsphere.core.enums.SeverityLevel;
-import com.trustsphere.ejb.remote.AuditServiceRemote;
+import com.trustsphere.ejb.local.AuditServiceLocal;
 import com.trustsphere.core.dto.AuditLogDTO;
+import com.trustsphere.core.dto.FieldSet;
+import com.trustsphere.rest.provider.BinaryMediaType;
+import com.trustsphere.rest.async.AsyncDispatcher;
+import com.trustsphere.rest.health.HealthMonitor;
 
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.ejb.EJB;
 import jakarta.ejb.TransactionAttribute;
 import jakarta.ejb.TransactionAttributeType;
 import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
@@ -21,6 +26,7 @@ import org.slf4j.LoggerFactory;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 
 @Path("/audit")
 @RequestScoped
@@ -30,34 +36,56 @@ public class AuditResource {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AuditResource.class);
 
+    // Audit scans can be slow; they run on the async executor so they cannot starve transfers of request threads
+    private static final long AUDIT_TIMEOUT_MS = 10_000;
+
     @EJB
-    private AuditServiceRemote auditService;
+    private AuditServiceLocal auditService;
+
+    @Inject
+    private AsyncDispatcher dispatcher;
+
+    @Inject
+    private HealthMonitor healthMonitor;
 
     @GET
     @Path("recent")
     @RolesAllowed("ROLE_AUDITOR")
     @TransactionAttribute(TransactionAttributeType.SUPPORTS)
-    public Response getRecentLogs(
+    @Produces({MediaType.APPLICATION_JSON, BinaryMediaType.APPLICATION_PROTOBUF, BinaryMediaType.APPLICATION_CBOR})
+    public CompletionStage<Response> getRecentLogs(
             @QueryParam("limit")
             @DefaultValue("50")
             @Min(value = 1, message = "Limit must be at least 1")
-            int limit) {
+            int limit,
 
-        try {
-            List<AuditLogDTO> logs = auditService.getRecentLogs(limit);
-            return Response.ok(logs).build();
-        } catch (Exception e) {
-            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
-                    .entity("Failed to retrieve recent logs: " + e.getMessage())
-                    .build();
-        }
+            @QueryParam("fields")
+            String fields) {
+
+        return dispatcher.supply("audit", AUDIT_TIMEOUT_MS, () -> {
+            FieldSet selected;
+            try {
+                selected = FieldSet.parse(fields, AuditLogDTO.class);
+            } catch (IllegalArgumentException e) {
+                return SparseFields.invalid(e);
+            }
+            try {
+                List<AuditLogDTO> logs = auditService.getRecentLogs(limit, selected);
+                return Response.ok(logs).build();
+            } catch (Exception e) {
+                return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                        .entity("Failed to retrieve recent logs: " + e.getMessage())
+                        .build();
+            }
+        });
     }
 
     @GET
     @Path("severity/{level}")
     @RolesAllowed({"ROLE_AUDITOR", "ROLE_ADMIN"})
     @TransactionAttribute(TransactionAttributeType.SUPPORTS)
-    public Response getLogsBySeverity(
+    @Produces({MediaType.APPLICATION_JSON, BinaryMediaType.APPLICATION_PROTOBUF, BinaryMediaType.APPLICATION_CBOR})
+    public CompletionStage<Response> getLogsBySeverity(
             @PathParam("level")
             @NotNull
             @Pattern(regexp = "INFO|WARN|ERROR|CRITICAL", message = "Invalid severity level")
@@ -66,24 +94,36 @@ public class AuditResource {
             @QueryParam("limit")
             @DefaultValue("100")
             @Min(value = 1, message = "Limit must be at least 1")
-            int limit) {
+            int limit,
 
-        try {
-            //List<AuditLogDTO> logs = auditService.getLogsBySeverity(level, limit);
-            List<AuditLogDTO> logs = auditService.getLogsBySeverity(level);
-            return Response.ok(logs).build();
-        } catch (Exception e) {
-            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
-                    .entity("Failed to retrieve logs by severity: " + e.getMessage())
-                    .build();
-        }
+            @QueryParam("fields")
+            String fields) {
+
+        return dispatcher.supply("audit", AUDIT_TIMEOUT_MS, () -> {
+            FieldSet selected;
+            try {
+                selected = FieldSet.parse(fields, AuditLogDTO.class);
+            } catch (IllegalArgumentException e) {
+                return SparseFields.invalid(e);
+            }
+            try {
+                //List<AuditLogDTO> logs = auditService.getLogsBySeverity(level, limit);
+                List<AuditLogDTO> logs = auditService.getLogsBySeverity(level, selected);
+                return Response.ok(logs).build();
+            } catch (Exception e) {
+                return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                        .entity("Failed to retrieve logs by severity: " + e.getMessage())
+                        .build();
+            }
+        });
     }
 
     @GET
     @Path("user/{userId}")
     @RolesAllowed({"ROLE_AUDITOR", "ROLE_ADMIN"})
     @TransactionAttribute(TransactionAttributeType.SUPPORTS)
-    public Response getLogsByUser(
+    @Produces({MediaType.APPLICATION_JSON, BinaryMediaType.APPLICATION_PROTOBUF, BinaryMediaType.APPLICATION_CBOR})
+    public CompletionStage<Response> getLogsByUser(
             @PathParam("userId")
             @NotNull
             String userId,
@@ -97,29 +137,41 @@ public class AuditResource {
             String startDate,
 
             @QueryParam("endDate")
-            String endDate) {
-
-        try {
-            LocalDateTime start = startDate != null ?
-                    LocalDateTime.parse(startDate, DateTimeFormatter.ISO_LOCAL_DATE_TIME) : null;
-            LocalDateTime end = endDate != null ?
-                    LocalDateTime.parse(endDate, DateTimeFormatter.ISO_LOCAL_DATE_TIME) : null;
-
-            //List<AuditLogDTO> logs = auditService.getLogsByUser(userId, start, end, limit);
-            List<AuditLogDTO> logs = auditService.getLogsByUser(userId);
-            return Response.ok(logs).build();
-        } catch (Exception e) {
-            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
-                    .entity("Failed to retrieve logs by user: " + e.getMessage())
-                    .build();
-        }
+            String endDate,
+
+            @QueryParam("fields")
+            String fields) {
+
+        return dispatcher.supply("audit", AUDIT_TIMEOUT_MS, () -> {
+            FieldSet selected;
+            try {
+                selected = FieldSet.parse(fields, AuditLogDTO.class);
+            } catch (IllegalArgumentException e) {
+                return SparseFields.invalid(e);
+            }
+            try {
+                LocalDateTime start = startDate != null ?
+                        LocalDateTime.parse(startDate, DateTimeFormatter.ISO_LOCAL_DATE_TIME) : null;
+                LocalDateTime end = endDate != null ?
+                        LocalDateTime.parse(endDate, DateTimeFormatter.ISO_LOCAL_DATE_TIME) : null;
+
+                //List<AuditLogDTO> logs = auditService.getLogsByUser(userId, start, end, limit);
+                List<AuditLogDTO> logs = auditService.getLogsByUser(userId, selected);
+                return Response.ok(logs).build();
+            } catch (Exception e) {
+                return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                        .entity("Failed to retrieve logs by user: " + e.getMessage())
+                        .build();
+            }
+        });
     }
 
     @GET
     @Path("resource")
     @RolesAllowed("ROLE_AUDITOR")
     @TransactionAttribute(TransactionAttributeType.SUPPORTS)
-    public Response getLogsByResource(
+    @Produces({MediaType.APPLICATION_JSON, BinaryMediaType.APPLICATION_PROTOBUF, BinaryMediaType.APPLICATION_CBOR})
+    public CompletionStage<Response> getLogsByResource(
             @QueryParam("resourceType")
             @NotNull
             String resourceType,
@@ -139,32 +191,43 @@ public class AuditResource {
             String startDate,
 
             @QueryParam("endDate")
-            String endDate) {
-
-        try {
-            LocalDateTime start = startDate != null ?
-                    LocalDateTime.parse(startDate, DateTimeFormatter.ISO_LOCAL_DATE_TIME) : null;
-            LocalDateTime end = endDate != null ?
-                    LocalDateTime.parse(endDate, DateTimeFormatter.ISO_LOCAL_DATE_TIME) : null;
-
-            //List<AuditLogDTO> logs = auditService.getLogsByResource(
-            //        resourceType, resourceId, action, start, end, limit);
-            List<AuditLogDTO> logs = auditService.getLogsByResource(resourceType, resourceId);
-            return Response.ok(logs).build();
-        } catch (Exception e) {
-            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
-                    .entity("Failed to retrieve logs by resource: " + e.getMessage())
-                    .build();
-        }
+            String endDate,
+
+            @QueryParam("fields")
+            String fields) {
+
+        return dispatcher.supply("audit", AUDIT_TIMEOUT_MS, () -> {
+            FieldSet selected;
+            try {
+                selected = FieldSet.parse(fields, AuditLogDTO.class);
+            } catch (IllegalArgumentException e) {
+                return SparseFields.invalid(e);
+            }
+            try {
+                LocalDateTime start = startDate != null ?
+                        LocalDateTime.parse(startDate, DateTimeFormatter.ISO_LOCAL_DATE_TIME) : null;
+                LocalDateTime end = endDate != null ?
+                        LocalDateTime.parse(endDate, DateTimeFormatter.ISO_LOCAL_DATE_TIME) : null;
+
+                //List<AuditLogDTO> logs = auditService.getLogsByResource(
+                //        resourceType, resourceId, action, start, end, limit);
+                List<AuditLogDTO> logs = auditService.getLogsByResource(resourceType, resourceId, selected);
+                return Response.ok(logs).build();
+            } catch (Exception e) {
+                return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                        .entity("Failed to retrieve logs by resource: " + e.getMessage())
+                        .build();
+            }
+        });
     }
 
+    // Kept for existing monitors; new probes should use /health/ready
     @GET
     @Path("health")
     @TransactionAttribute(TransactionAttributeType.SUPPORTS)
     public Response healthCheck() {
         try {
-            //boolean healthy = auditService.isHealthy();
-            boolean healthy = true;
+            boolean healthy = healthMonitor.readiness().isReady();
             return healthy ?
                     Response.ok().entity("{\"status\":\"healthy\"}").build() :
                     Response.status(Response.Status.SERVICE_UNAVAILABLE)
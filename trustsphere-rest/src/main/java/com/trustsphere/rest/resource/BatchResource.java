@@ -0,0 +1,87 @@
+package com.trustsphere.rest.resource;
+
+import com.trustsphere.rest.batch.BatchExecutor;
+import com.trustsphere.rest.model.BatchRequest;
+import com.trustsphere.rest.model.BatchResult;
+import com.trustsphere.rest.model.ErrorResponse;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.SecurityContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Runs several account and user operations in one request, so back-office tools pay for
+ * authentication, rate limiting and the round trip once per batch instead of once per call.
+ */
+@Path("/batch")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+@RequestScoped
+public class BatchResource {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchResource.class);
+
+    private static final String[] KNOWN_ROLES = {"ROLE_USER", "ROLE_TELLER", "ROLE_ADMIN", "ROLE_AUDITOR"};
+
+    @Inject
+    private BatchExecutor batchExecutor;
+
+    @Context
+    private SecurityContext securityContext;
+
+    // Back-office only: a batch counts once against the rate limit, so it stays behind staff roles
+    @POST
+    @RolesAllowed({"ROLE_TELLER", "ROLE_ADMIN"})
+    public Response execute(BatchRequest request) {
+        try {
+            if (request == null || request.operations == null || request.operations.isEmpty()) {
+                return Response
+                        .status(Response.Status.BAD_REQUEST)
+                        .entity(new ErrorResponse("EMPTY_BATCH", "Batch must contain at least one operation"))
+                        .build();
+            }
+
+            int maxOperations = batchExecutor.getMaxOperations();
+            if (request.operations.size() > maxOperations) {
+                return Response
+                        .status(Response.Status.REQUEST_ENTITY_TOO_LARGE)
+                        .entity(new ErrorResponse("BATCH_TOO_LARGE", "Batch cannot exceed " + maxOperations + " operations"))
+                        .build();
+            }
+
+            // Request-bound security context does not follow operations onto worker threads
+            String currentUser = securityContext.getUserPrincipal().getName();
+            Set<String> roles = new HashSet<>();
+            for (String role : KNOWN_ROLES) {
+                if (securityContext.isUserInRole(role)) {
+                    roles.add(role);
+                }
+            }
+
+            List<BatchResult> results = batchExecutor.execute(request.operations, currentUser, roles);
+
+            LOGGER.info("Executed batch of {} operations for: {}", results.size(), currentUser);
+            return Response
+                    .ok(Map.of("results", results))
+                    .build();
+
+        } catch (Exception e) {
+            LOGGER.error("Batch execution failed", e);
+            return Response
+                    .status(Response.Status.INTERNAL_SERVER_ERROR)
+                    .entity(new ErrorResponse("BATCH_FAILED", "Internal server error"))
+                    .build();
+        }
+    }
+}
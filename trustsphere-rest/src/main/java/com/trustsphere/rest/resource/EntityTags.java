@@ -0,0 +1,35 @@
+package com.trustsphere.rest.resource;
+
+import jakarta.ws.rs.core.CacheControl;
+import jakarta.ws.rs.core.EntityTag;
+
+import java.time.Instant;
+
+/**
+ * Validators for conditional reads of single entities.
+ *
+ * Tags are derived from the entity id and its last modification time, so they can be
+ * computed from a one-column lookup without loading or mapping the entity. They are weak
+ * because the representation bytes vary with content coding.
+ */
+final class EntityTags {
+
+    // Clients may keep a copy but must revalidate it; shared caches must not hold account data
+    static final CacheControl REVALIDATE = revalidate();
+
+    private EntityTags() {
+    }
+
+    static EntityTag of(String id, Instant version) {
+        long micros = Math.addExact(Math.multiplyExact(version.getEpochSecond(), 1_000_000L),
+                version.getNano() / 1_000);
+        return new EntityTag(id + "-" + Long.toString(micros, 36), true);
+    }
+
+    private static CacheControl revalidate() {
+        CacheControl cacheControl = new CacheControl();
+        cacheControl.setPrivate(true);
+        cacheControl.setNoCache(true);
+        return cacheControl;
+    }
+}
@@ -0,0 +1,55 @@
+package com.trustsphere.rest.resource;
+
+import com.trustsphere.rest.health.HealthMonitor;
+import com.trustsphere.rest.health.HealthReport;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.CacheControl;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import java.util.Map;
+
+/**
+ * Load balancer and orchestrator probes. Exempt from authentication and rate limiting, so a
+ * saturated node can still answer them.
+ */
+@Path("/health")
+@Produces(MediaType.APPLICATION_JSON)
+@RequestScoped
+public class HealthResource {
+
+    private static final CacheControl NO_STORE = noStore();
+
+    @Inject
+    private HealthMonitor monitor;
+
+    // The process is up and serving HTTP; dependencies are deliberately not consulted
+    @GET
+    @Path("live")
+    public Response live() {
+        return Response.ok(Map.of("status", "UP")).cacheControl(NO_STORE).build();
+    }
+
+    private static CacheControl noStore() {
+        CacheControl cacheControl = new CacheControl();
+        // no-transform is on by default
+        cacheControl.setNoTransform(false);
+        cacheControl.setNoStore(true);
+        return cacheControl;
+    }
+
+    // 503 while a critical dependency is down or the node is saturated, so traffic moves elsewhere
+    @GET
+    @Path("ready")
+    public Response ready() {
+        HealthReport report = monitor.readiness();
+        return Response.status(report.isReady() ? Response.Status.OK : Response.Status.SERVICE_UNAVAILABLE)
+                .entity(report)
+                .cacheControl(NO_STORE)
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.trustsphere.rest.resource;
+
+import com.trustsphere.ejb.metrics.MetricsRegistry;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Prometheus scrape endpoint. Exempt from authentication and rate limiting like the health
+ * checks, so it should only be reachable from the monitoring network.
+ */
+@Path("/metrics")
+@RequestScoped
+public class MetricsResource {
+
+    @Inject
+    private MetricsRegistry registry;
+
+    @GET
+    @Produces(MetricsRegistry.CONTENT_TYPE)
+    public Response scrape() {
+        StreamingOutput body = output -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+            registry.writeTo(writer);
+            writer.flush();
+        };
+        return Response.ok(body).build();
+    }
+}
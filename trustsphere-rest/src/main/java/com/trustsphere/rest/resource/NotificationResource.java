@@ -1,8 +1,11 @@
 package com.trustsphere.rest.resource;
 
-import com.trustsphere.ejb.remote.NotificationServiceRemote;
+import com.trustsphere.ejb.local.NotificationServiceLocal;
+import com.trustsphere.core.dto.CursorPageDTO;
+import com.trustsphere.core.dto.FieldSet;
 import com.trustsphere.core.dto.NotificationDTO;
 import com.trustsphere.core.enums.NotificationType;
+import com.trustsphere.core.util.PageCursor;
 
 import com.trustsphere.rest.model.ErrorResponse;
 import jakarta.annotation.security.RolesAllowed;
@@ -33,7 +36,7 @@ public class NotificationResource {
     private static final int MAX_PAGE_SIZE = 200;
 
     @EJB
-    private NotificationServiceRemote notifService;
+    private NotificationServiceLocal notifService;
 
     @Context
     private SecurityContext securityContext;
@@ -45,16 +48,25 @@ public class NotificationResource {
     public Response getNotificationsByUser(
             @PathParam("userId") String userId,
 
-            @QueryParam("page") @DefaultValue("1") int page,
+            @QueryParam("cursor") String cursor,
 
             @QueryParam("size") @DefaultValue("50") int size,
 
-            @QueryParam("includeRead") @DefaultValue("true") boolean includeRead
+            @QueryParam("includeRead") @DefaultValue("true") boolean includeRead,
+
+            @QueryParam("fields") String fields
     ) {
 
+        FieldSet selected;
+        try {
+            selected = FieldSet.parse(fields, NotificationDTO.class);
+        } catch (IllegalArgumentException e) {
+            return SparseFields.invalid(e);
+        }
+
         try {
             // Input validation
-            ValidationResult validationResult = validateUserNotificationRequest(userId, page, size);
+            ValidationResult validationResult = validateUserNotificationRequest(userId, cursor, size);
             if (!validationResult.isValid()) {
                 return Response
                         .status(Response.Status.BAD_REQUEST)
@@ -74,23 +86,17 @@ public class NotificationResource {
                         .build();
             }
 
-            LOGGER.info("Retrieving notifications for user: {} page: {} size: {} includeRead: {}", userId, page, size, includeRead);
+            LOGGER.info("Retrieving notifications for user: {} size: {} includeRead: {}", userId, size, includeRead);
 
             //List<NotificationDTO> notifications = notifService.getNotificationsByUser(
             //        userId, page, size, includeRead);
             //List<NotificationDTO> notifications = notifService.getNotificationsByUser(userId);
 
-            int offset = (page - 1) * size;
-            List<NotificationDTO> notifications = notifService.getNotificationsByUser(userId, offset, size);
-
-            // Get total count for pagination metadata
-            //long totalCount = notifService.getNotificationCountByUser(userId, includeRead);
-            long totalCount = notifications.size();
+            CursorPageDTO<NotificationDTO> notifications = notifService.getNotificationPageByUser(userId, cursor, size, selected);
 
-            NotificationPageResponse response = new NotificationPageResponse(
-                    notifications, page, size, totalCount);
+            NotificationPageResponse response = new NotificationPageResponse(notifications, size);
 
-            LOGGER.info("Retrieved {} notifications for user: {}", notifications.size(), userId);
+            LOGGER.info("Retrieved {} notifications for user: {}", notifications.getItems().size(), userId);
             return Response
                     .ok(response)
                     .build();
@@ -125,15 +131,24 @@ public class NotificationResource {
     public Response getNotificationsByType(
             @PathParam("type") String type,
 
-            @QueryParam("page") @DefaultValue("1") int page,
+            @QueryParam("cursor") String cursor,
 
             @QueryParam("size") @DefaultValue("50") int size,
 
-            @QueryParam("includeRead") @DefaultValue("true") boolean includeRead) {
+            @QueryParam("includeRead") @DefaultValue("true") boolean includeRead,
+
+            @QueryParam("fields") String fields) {
+
+        FieldSet selected;
+        try {
+            selected = FieldSet.parse(fields, NotificationDTO.class);
+        } catch (IllegalArgumentException e) {
+            return SparseFields.invalid(e);
+        }
 
         try {
             // Input validation
-            ValidationResult validationResult = validateTypeNotificationRequest(type, page, size);
+            ValidationResult validationResult = validateTypeNotificationRequest(type, cursor, size);
             if (!validationResult.isValid()) {
                 return Response
                         .status(Response.Status.BAD_REQUEST)
@@ -155,23 +170,17 @@ public class NotificationResource {
                         .build();
             }
 
-            LOGGER.info("Retrieving notifications by type: {} for user: {} page: {} size: {}", notificationType, currentUser, page, size);
+            LOGGER.info("Retrieving notifications by type: {} for user: {} size: {}", notificationType, currentUser, size);
 
             //List<NotificationDTO> notifications = notifService.getNotificationsByType(
             //        currentUser, notificationType, page, size, includeRead, isAdmin);
             //List<NotificationDTO> notifications = notifService.getNotificationsByType(notificationType);
-            int offset = (page - 1) * size;
-            List<NotificationDTO> notifications = notifService.getNotificationsByType(notificationType,  offset, size);
-
-            // Get total count for pagination metadata
-            //long totalCount = notifService.getNotificationCountByType(
-            //        currentUser, notificationType, includeRead, isAdmin);
-            long totalCount = notifications.size();
+            CursorPageDTO<NotificationDTO> notifications =
+                    notifService.getNotificationPageByType(notificationType, cursor, size, selected);
 
-            NotificationPageResponse response = new NotificationPageResponse(
-                    notifications, page, size, totalCount);
+            NotificationPageResponse response = new NotificationPageResponse(notifications, size);
 
-            LOGGER.info("Retrieved " + notifications.size() + " notifications of type: " +
+            LOGGER.info("Retrieved " + notifications.getItems().size() + " notifications of type: " +
                     notificationType + " for user: " + currentUser);
             return Response
                     .ok(response)
@@ -194,13 +203,13 @@ public class NotificationResource {
     }
 
     // Validates user notification request parameters
-    private ValidationResult validateUserNotificationRequest(String userId, int page, int size) {
+    private ValidationResult validateUserNotificationRequest(String userId, String cursor, int size) {
         if (userId == null || userId.trim().isEmpty()) {
             return new ValidationResult(false, "User ID cannot be null or empty");
         }
 
-        if (page < 0) {
-            return new ValidationResult(false, "Page number must be non-negative");
+        if (!isValidCursor(cursor)) {
+            return new ValidationResult(false, "Cursor is malformed");
         }
 
         if (size < 1 || size > MAX_PAGE_SIZE) {
@@ -211,13 +220,13 @@ public class NotificationResource {
     }
 
     // Validates type notification request parameters
-    private ValidationResult validateTypeNotificationRequest(String type, int page, int size) {
+    private ValidationResult validateTypeNotificationRequest(String type, String cursor, int size) {
         if (type == null || type.trim().isEmpty()) {
             return new ValidationResult(false, "Notification type cannot be null or empty");
         }
 
-        if (page < 0) {
-            return new ValidationResult(false, "Page number must be non-negative");
+        if (!isValidCursor(cursor)) {
+            return new ValidationResult(false, "Cursor is malformed");
         }
 
         if (size < 1 || size > MAX_PAGE_SIZE) {
@@ -227,6 +236,16 @@ public class NotificationResource {
         return new ValidationResult(true, null);
     }
 
+    // Decoded here so a bad token is a 400 rather than an EJBException from the service
+    private boolean isValidCursor(String cursor) {
+        try {
+            PageCursor.decode(cursor);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
     // Validation result container
     private static class ValidationResult {
         private final boolean valid;
@@ -246,52 +265,34 @@ public class NotificationResource {
         }
     }
 
-    // Paginated notification response
+    // Cursor-paginated notification response
     public static class NotificationPageResponse {
         private List<NotificationDTO> notifications;
-        private int page;
         private int size;
-        private long totalElements;
-        private int totalPages;
+        private String next;
         private boolean hasNext;
-        private boolean hasPrevious;
 
-        public NotificationPageResponse(List<NotificationDTO> notifications, int page, int size, long totalElements) {
-            this.notifications = notifications;
-            this.page = page;
+        public NotificationPageResponse(CursorPageDTO<NotificationDTO> page, int size) {
+            this.notifications = page.getItems();
             this.size = size;
-            this.totalElements = totalElements;
-            this.totalPages = (int) Math.ceil((double) totalElements / size);
-            this.hasNext = page < totalPages - 1;
-            this.hasPrevious = page > 0;
+            this.next = page.getNext();
+            this.hasNext = page.isHasNext();
         }
 
         public List<NotificationDTO> getNotifications() {
             return notifications;
         }
 
-        public int getPage() {
-            return page;
-        }
-
         public int getSize() {
             return size;
         }
 
-        public long getTotalElements() {
-            return totalElements;
-        }
-
-        public int getTotalPages() {
-            return totalPages;
+        public String getNext() {
+            return next;
         }
 
         public boolean isHasNext() {
             return hasNext;
         }
-
-        public boolean isHasPrevious() {
-            return hasPrevious;
-        }
     }
-}
\ No newline at end of file
+}
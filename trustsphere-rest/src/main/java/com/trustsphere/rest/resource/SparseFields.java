@@ -0,0 +1,24 @@
+package com.trustsphere.rest.resource;
+
+import com.trustsphere.rest.model.ErrorResponse;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Rejection of a {@code ?fields=} selection naming a property the listed DTO does not have.
+ *
+ * Parsed separately from the other parameters because those share IllegalArgumentException
+ * with {@link com.trustsphere.core.dto.FieldSet#parse}, and a bad field list should not be
+ * reported as a malformed cursor or search.
+ */
+final class SparseFields {
+
+    private SparseFields() {
+    }
+
+    static Response invalid(IllegalArgumentException e) {
+        return Response
+                .status(Response.Status.BAD_REQUEST)
+                .entity(new ErrorResponse("INVALID_FIELDS", e.getMessage()))
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.trustsphere.rest.resource;
+
+import com.trustsphere.ejb.sql.SqlStats;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * SQL counts per resource method and EJB call, and the slow-query ring buffer, for this node.
+ */
+@Path("/admin/sql")
+@Produces(MediaType.APPLICATION_JSON)
+@RequestScoped
+@RolesAllowed("ROLE_ADMIN")
+public class SqlStatsResource {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SqlStatsResource.class);
+
+    @GET
+    public Response getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("slowThresholdMillis", SqlStats.getSlowThresholdMillis());
+        stats.put("scopes", SqlStats.totals());
+        stats.put("slowest", SqlStats.slowest());
+        return Response.ok(stats).build();
+    }
+
+    @DELETE
+    public Response reset() {
+        SqlStats.reset();
+        LOGGER.info("SQL statistics reset");
+        return Response.noContent().build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.trustsphere.rest.resource;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+/**
+ * Parses the {@code from}/{@code to} query parameters shared by the transaction search and the
+ * account statement endpoints.
+ */
+final class TimeBounds {
+
+    static final String INVALID_BOUND_MESSAGE =
+            "'from' and 'to' take an ISO-8601 instant (2024-01-31T00:00:00Z) or date (2024-01-31)";
+
+    private TimeBounds() {
+    }
+
+    /**
+     * Accepts an ISO instant or a plain date; a plain date as an upper bound covers that whole
+     * day (UTC). Returns {@code null} for a missing or blank value.
+     *
+     * @throws java.time.format.DateTimeParseException if the value is neither
+     */
+    static Instant parse(String value, boolean upperBound) {
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        String trimmed = value.trim();
+        if (trimmed.length() == 10) {
+            LocalDate date = LocalDate.parse(trimmed);
+            return (upperBound ? date.plusDays(1) : date).atStartOfDay(ZoneOffset.UTC).toInstant();
+        }
+        return Instant.parse(trimmed);
+    }
+}
@@ -0,0 +1,70 @@
+package com.trustsphere.rest.resource;
+
+import com.trustsphere.ejb.tracing.Span;
+import com.trustsphere.rest.model.ErrorResponse;
+import com.trustsphere.rest.tracing.InMemorySpanStore;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * Recent sampled traces held in memory on this node.
+ */
+@Path("/admin/traces")
+@Produces(MediaType.APPLICATION_JSON)
+@RequestScoped
+@RolesAllowed("ROLE_ADMIN")
+public class TraceResource {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TraceResource.class);
+
+    private static final int MAX_LIMIT = 200;
+
+    @Inject
+    private InMemorySpanStore store;
+
+    // Server spans of recent traces, newest first; minMillis keeps only the slow ones
+    @GET
+    public Response getRecent(@QueryParam("limit") @DefaultValue("50") int limit,
+                              @QueryParam("minMillis") @DefaultValue("0") long minMillis) {
+        if (limit < 1 || limit > MAX_LIMIT || minMillis < 0) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(new ErrorResponse("INVALID_PARAMETERS",
+                            "limit must be between 1 and " + MAX_LIMIT + " and minMillis must not be negative"))
+                    .build();
+        }
+        return Response.ok(store.recent(limit, minMillis)).build();
+    }
+
+    @GET
+    @Path("/{traceId}")
+    public Response getTrace(@PathParam("traceId") String traceId) {
+        List<Span> spans = store.trace(traceId);
+        if (spans == null) {
+            return Response.status(Response.Status.NOT_FOUND)
+                    .entity(new ErrorResponse("TRACE_NOT_FOUND", "Trace " + traceId + " is not stored on this node"))
+                    .build();
+        }
+        return Response.ok(spans).build();
+    }
+
+    @DELETE
+    public Response clear() {
+        store.clear();
+        LOGGER.info("Stored traces cleared");
+        return Response.noContent().build();
+    }
+}
@@ -1,10 +1,18 @@
 package com.trustsphere.rest.resource;
 
 import com.trustsphere.ejb.exception.AccountNotFoundException;
-import com.trustsphere.ejb.remote.TransactionServiceRemote;
+import com.trustsphere.ejb.local.TransactionServiceLocal;
+import com.trustsphere.core.dto.CursorPageDTO;
+import com.trustsphere.core.dto.FieldSet;
 import com.trustsphere.core.dto.TransactionDTO;
+import com.trustsphere.core.dto.TransactionSearchCriteria;
+import com.trustsphere.core.enums.TransactionStatus;
+import com.trustsphere.core.enums.TransactionType;
+import com.trustsphere.core.util.PageCursor;
 
+import com.trustsphere.rest.async.AsyncDispatcher;
 import com.trustsphere.rest.model.ErrorResponse;
+import com.trustsphere.rest.provider.BinaryMediaType;
 import com.trustsphere.rest.model.TransferRequest;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.ejb.EJB;
@@ -12,6 +20,7 @@ import jakarta.ejb.EJBTransactionRolledbackException;
 import jakarta.ejb.TransactionAttribute;
 import jakarta.ejb.TransactionAttributeType;
 import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
 import jakarta.validation.Valid;
 import jakarta.validation.ValidationException;
 import jakarta.ws.rs.*;
@@ -23,7 +32,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.math.BigDecimal;
-import java.util.List;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.concurrent.CompletionStage;
 
 @Path("/transactions")
 @Produces(MediaType.APPLICATION_JSON)
@@ -36,23 +49,163 @@ public class TransactionResource {
     private static final BigDecimal MAX_TRANSFER_AMOUNT = new BigDecimal("1000000.00");
     private static final BigDecimal MIN_TRANSFER_AMOUNT = new BigDecimal("0.01");
 
+    private static final int MAX_PAGE_SIZE = 200;
+
+    // Searches without an account, status or type filter must stay within this window
+    private static final Duration MAX_UNANCHORED_SEARCH_WINDOW = Duration.ofDays(31);
+
+    // Above the DAO's per-query timeout, so a search against both account columns can still finish
+    private static final long SEARCH_TIMEOUT_MS = 8_000;
+
     @EJB
-    private TransactionServiceRemote txnService;
+    private TransactionServiceLocal txnService;
+
+    @Inject
+    private AsyncDispatcher dispatcher;
 
     @Context
     private SecurityContext securityContext;
 
+    @GET
+    @Path("search")
+    @RolesAllowed({"ROLE_ADMIN", "ROLE_TELLER"})
+    @TransactionAttribute(TransactionAttributeType.SUPPORTS)
+    @Produces({MediaType.APPLICATION_JSON, BinaryMediaType.APPLICATION_PROTOBUF, BinaryMediaType.APPLICATION_CBOR})
+    public CompletionStage<Response> searchTransactions(
+            @QueryParam("accountId") String accountId,
+            @QueryParam("sourceAccountId") String sourceAccountId,
+            @QueryParam("targetAccountId") String targetAccountId,
+            @QueryParam("status") String status,
+            @QueryParam("type") String type,
+            @QueryParam("minAmount") String minAmount,
+            @QueryParam("maxAmount") String maxAmount,
+            @QueryParam("from") String from,
+            @QueryParam("to") String to,
+            @QueryParam("cursor") String cursor,
+            @QueryParam("limit") @DefaultValue("50") int limit,
+            @QueryParam("fields") String fields) {
+        return dispatcher.supply("search", SEARCH_TIMEOUT_MS, () -> {
+            FieldSet selected;
+            try {
+                selected = FieldSet.parse(fields, TransactionDTO.class);
+            } catch (IllegalArgumentException e) {
+                return SparseFields.invalid(e);
+            }
+            try {
+                if (limit < 1 || limit > MAX_PAGE_SIZE) {
+                    return Response
+                            .status(Response.Status.BAD_REQUEST)
+                            .entity(new ErrorResponse("VALIDATION_FAILED", "Limit must be between 1 and " + MAX_PAGE_SIZE))
+                            .build();
+                }
+
+                TransactionSearchCriteria criteria = new TransactionSearchCriteria();
+                criteria.setAccountId(blankToNull(accountId));
+                criteria.setSourceAccountId(blankToNull(sourceAccountId));
+                criteria.setTargetAccountId(blankToNull(targetAccountId));
+                if (blankToNull(status) != null) {
+                    criteria.setStatus(TransactionStatus.valueOf(status.trim().toUpperCase(Locale.ROOT)));
+                }
+                if (blankToNull(type) != null) {
+                    criteria.setType(TransactionType.valueOf(type.trim().toUpperCase(Locale.ROOT)));
+                }
+                if (blankToNull(minAmount) != null) {
+                    criteria.setMinAmount(new BigDecimal(minAmount.trim()));
+                }
+                if (blankToNull(maxAmount) != null) {
+                    criteria.setMaxAmount(new BigDecimal(maxAmount.trim()));
+                }
+                criteria.setFrom(TimeBounds.parse(from, false));
+                criteria.setTo(TimeBounds.parse(to, true));
+
+                ValidationResult validationResult = validateSearchCriteria(criteria);
+                if (!validationResult.isValid()) {
+                    return Response
+                            .status(Response.Status.BAD_REQUEST)
+                            .entity(new ErrorResponse("VALIDATION_FAILED", validationResult.getMessage()))
+                            .build();
+                }
+
+                // Rejects malformed cursors here; thrown inside the EJB they would surface as EJBException
+                PageCursor.decode(cursor);
+
+                CursorPageDTO<TransactionDTO> transactions = txnService.searchTransactions(criteria, cursor, limit, selected);
+                LOGGER.info("Transaction search returned {} rows for {}", transactions.getItems().size(), criteria);
+                return Response
+                        .ok(transactions)
+                        .build();
+
+            } catch (DateTimeParseException e) {
+                LOGGER.warn("Invalid transaction search period: {}", e.getMessage());
+                return Response
+                        .status(Response.Status.BAD_REQUEST)
+                        .entity(new ErrorResponse("INVALID_PERIOD", TimeBounds.INVALID_BOUND_MESSAGE))
+                        .build();
+
+            } catch (IllegalArgumentException e) {
+                LOGGER.warn("Invalid transaction search parameters: {}", e.getMessage());
+                return Response
+                        .status(Response.Status.BAD_REQUEST)
+                        .entity(new ErrorResponse("INVALID_SEARCH", "Invalid search parameters"))
+                        .build();
+
+            } catch (SecurityException e) {
+                LOGGER.warn("Unauthorized transaction search attempt", e);
+                return Response
+                        .status(Response.Status.FORBIDDEN)
+                        .entity(new ErrorResponse("UNAUTHORIZED_ACCESS", "Access denied"))
+                        .build();
+
+            } catch (Exception e) {
+                LOGGER.error("Transaction search failed", e);
+                return Response
+                        .status(Response.Status.INTERNAL_SERVER_ERROR)
+                        .entity(new ErrorResponse("SEARCH_FAILED", "Internal server error"))
+                        .build();
+            }
+        });
+    }
+
     @GET
     @Path("{accId}")
     @TransactionAttribute(TransactionAttributeType.SUPPORTS)
-    public Response getTransactionsBySourceAccount(@PathParam("accId") String sourceAccount) {
+    @Produces({MediaType.APPLICATION_JSON, BinaryMediaType.APPLICATION_PROTOBUF, BinaryMediaType.APPLICATION_CBOR})
+    public Response getTransactionsBySourceAccount(
+            @PathParam("accId") String sourceAccount,
+            @QueryParam("cursor") String cursor,
+            @QueryParam("limit") @DefaultValue("50") int limit,
+            @QueryParam("fields") String fields) {
+        FieldSet selected;
         try {
-            List<TransactionDTO> transactions = txnService.getTransactionsBySourceAccount(sourceAccount);
-            LOGGER.info("Retrieved {} transactions from account: {}", transactions.size(), sourceAccount);
+            selected = FieldSet.parse(fields, TransactionDTO.class);
+        } catch (IllegalArgumentException e) {
+            return SparseFields.invalid(e);
+        }
+        try {
+            if (limit < 1 || limit > MAX_PAGE_SIZE) {
+                return Response
+                        .status(Response.Status.BAD_REQUEST)
+                        .entity(new ErrorResponse("VALIDATION_FAILED", "Limit must be between 1 and " + MAX_PAGE_SIZE))
+                        .build();
+            }
+
+            // Rejects malformed cursors here; thrown inside the EJB they would surface as EJBException
+            PageCursor.decode(cursor);
+
+            CursorPageDTO<TransactionDTO> transactions =
+                    txnService.getTransactionPageBySourceAccount(sourceAccount, cursor, limit, selected);
+            LOGGER.info("Retrieved {} transactions from account: {}", transactions.getItems().size(), sourceAccount);
             return Response
                     .ok(transactions)
                     .build();
 
+        } catch (IllegalArgumentException e) {
+            LOGGER.warn("Invalid cursor for account {}: {}", sourceAccount, e.getMessage());
+            return Response
+                    .status(Response.Status.BAD_REQUEST)
+                    .entity(new ErrorResponse("INVALID_CURSOR", "Cursor is malformed"))
+                    .build();
+
         } catch (AccountNotFoundException e) {
             LOGGER.warn("Account not found: {} : {}", sourceAccount, e.getMessage(), e);
             return Response
@@ -199,6 +352,36 @@ public class TransactionResource {
         return new ValidationResult(true, null);
     }
 
+    /**
+     * Validates search criteria ranges and bounds unanchored scans
+     */
+    private ValidationResult validateSearchCriteria(TransactionSearchCriteria criteria) {
+        if (criteria.getMinAmount() != null && criteria.getMaxAmount() != null
+                && criteria.getMinAmount().compareTo(criteria.getMaxAmount()) > 0) {
+            return new ValidationResult(false, "minAmount cannot exceed maxAmount");
+        }
+
+        if (criteria.getFrom() != null && criteria.getTo() != null && !criteria.getFrom().isBefore(criteria.getTo())) {
+            return new ValidationResult(false, "from must be before to");
+        }
+
+        if (!criteria.isAnchored()) {
+            if (criteria.getFrom() == null || criteria.getTo() == null) {
+                return new ValidationResult(false, "Searches without an account, status or type filter require from and to");
+            }
+            if (Duration.between(criteria.getFrom(), criteria.getTo()).compareTo(MAX_UNANCHORED_SEARCH_WINDOW) > 0) {
+                return new ValidationResult(false, "Searches without an account, status or type filter cannot span more than "
+                        + MAX_UNANCHORED_SEARCH_WINDOW.toDays() + " days");
+            }
+        }
+
+        return new ValidationResult(true, null);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.trim().isEmpty() ? null : value.trim();
+    }
+
     // Validation result container
     private static class ValidationResult {
         private final boolean valid;
@@ -1,26 +1,44 @@
 package com.trustsphere.rest.resource;
 
-import com.trustsphere.ejb.remote.UserServiceRemote;
+import com.trustsphere.ejb.local.AccountServiceLocal;
+import com.trustsphere.ejb.local.NotificationServiceLocal;
+import com.trustsphere.ejb.local.TransactionServiceLocal;
+import com.trustsphere.ejb.local.UserServiceLocal;
+import com.trustsphere.core.dto.AccountDTO;
+import com.trustsphere.core.dto.NotificationDTO;
+import com.trustsphere.core.dto.TransactionDTO;
 import com.trustsphere.core.dto.UserDTO;
 
 import com.trustsphere.core.enums.UserStatus;
 
 import com.trustsphere.ejb.exception.UserNotFoundException;
+import com.trustsphere.rest.model.CustomerOverview;
 import com.trustsphere.rest.model.ErrorResponse;
+import com.trustsphere.rest.provider.BinaryMediaType;
+import jakarta.annotation.Resource;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.ejb.EJB;
 import jakarta.ejb.TransactionAttribute;
 import jakarta.ejb.TransactionAttributeType;
+import jakarta.enterprise.concurrent.ManagedExecutorService;
 import jakarta.enterprise.context.RequestScoped;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.SecurityContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 @Path("/users")
 @Produces(MediaType.APPLICATION_JSON)
@@ -30,11 +48,34 @@ public class UserResource {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(UserResource.class);
 
+    // Budget per overview part; parts run concurrently, so the endpoint waits roughly the slowest one
+    private static final long OVERVIEW_PART_TIMEOUT_MS = 800;
+    private static final int OVERVIEW_RECENT_ITEMS = 10;
+
+    @EJB
+    private UserServiceLocal userService;
+
+    @EJB
+    private AccountServiceLocal accountService;
+
+    @EJB
+    private TransactionServiceLocal txnService;
+
     @EJB
-    private UserServiceRemote userService;
+    private NotificationServiceLocal notifService;
+
+    @Resource
+    private ManagedExecutorService executor;
+
+    @Context
+    private SecurityContext securityContext;
+
+    @Context
+    private Request request;
 
     @POST
     @RolesAllowed("ROLE_ADMIN")
+    @Consumes({MediaType.APPLICATION_JSON, BinaryMediaType.APPLICATION_PROTOBUF, BinaryMediaType.APPLICATION_CBOR})
     public Response createUser(@Valid @NotNull UserDTO dto) {
         try {
             LOGGER.info("Creating user: {}", dto.getEmail());
@@ -74,6 +115,7 @@ public class UserResource {
     @Path("{id}")
     @RolesAllowed({"ROLE_ADMIN", "ROLE_USER"})
     @TransactionAttribute(TransactionAttributeType.SUPPORTS)
+    @Produces({MediaType.APPLICATION_JSON, BinaryMediaType.APPLICATION_PROTOBUF, BinaryMediaType.APPLICATION_CBOR})
     public Response getUserById(
             @PathParam("id") String id) {
 
@@ -85,10 +127,21 @@ public class UserResource {
                         .build();
             }
 
+            // Revalidation only needs the version; the user is loaded and mapped on a miss
+            EntityTag etag = EntityTags.of(id, userService.getUserVersion(id));
+            Response.ResponseBuilder notModified = request.evaluatePreconditions(etag);
+            if (notModified != null) {
+                return notModified
+                        .cacheControl(EntityTags.REVALIDATE)
+                        .build();
+            }
+
             UserDTO user = userService.getUserById(id);
 
             return Response
                     .ok(user)
+                    .tag(etag)
+                    .cacheControl(EntityTags.REVALIDATE)
                     .build();
 
         } catch (UserNotFoundException e) {
@@ -107,9 +160,89 @@ public class UserResource {
         }
     }
 
+    @GET
+    @Path("{id}/overview")
+    @RolesAllowed({"ROLE_ADMIN", "ROLE_USER"})
+    public Response getOverview(
+            @PathParam("id") String id) {
+
+        try {
+            if (id == null || id.trim().isEmpty()) {
+                return Response
+                        .status(Response.Status.BAD_REQUEST)
+                        .entity(new ErrorResponse("INVALID_ID", "User ID cannot be null or empty"))
+                        .build();
+            }
+
+            // Enforce data isolation - users can only see their own overview unless admin
+            String currentUser = securityContext.getUserPrincipal().getName();
+            if (!securityContext.isUserInRole("ROLE_ADMIN") && !currentUser.equals(id)) {
+                return Response
+                        .status(Response.Status.FORBIDDEN)
+                        .entity(new ErrorResponse("UNAUTHORIZED_ACCESS", "Access denied"))
+                        .build();
+            }
+
+            // Fan out all sub-fetches before waiting on any of them
+            CompletableFuture<UserDTO> user = fetch(() -> userService.getUserById(id));
+            CompletableFuture<List<AccountDTO>> accounts = fetch(() -> accountService.listActiveByUser(id));
+            CompletableFuture<List<TransactionDTO>> transactions =
+                    fetch(() -> txnService.getTransactionPageByUser(id, null, OVERVIEW_RECENT_ITEMS).getItems());
+            CompletableFuture<List<NotificationDTO>> notifications =
+                    fetch(() -> notifService.getNotificationsByUser(id, 0, OVERVIEW_RECENT_ITEMS));
+
+            CustomerOverview overview = new CustomerOverview();
+            overview.setUser(await("user", user, overview));
+            overview.setAccounts(await("accounts", accounts, overview));
+            overview.setRecentTransactions(await("recentTransactions", transactions, overview));
+            overview.setNotifications(await("notifications", notifications, overview));
+
+            if (overview.isPartial()) {
+                LOGGER.warn("Returning partial overview for user: {} missing: {}", id, overview.getUnavailable());
+            }
+            return Response
+                    .ok(overview)
+                    .build();
+
+        } catch (UserNotFoundException e) {
+            LOGGER.warn("User not found with id: {} : {}", id, e.getMessage(), e);
+            return Response
+                    .status(Response.Status.NOT_FOUND)
+                    .entity(new ErrorResponse("USER_NOT_FOUND", "User with ID " + id + " not found"))
+                    .build();
+
+        } catch (Exception e) {
+            LOGGER.error("Failed to build overview: {}", id, e);
+            return Response
+                    .status(Response.Status.INTERNAL_SERVER_ERROR)
+                    .entity(new ErrorResponse("RETRIEVAL_FAILED", "Internal server error"))
+                    .build();
+        }
+    }
+
+    private <T> CompletableFuture<T> fetch(Supplier<T> call) {
+        return CompletableFuture.supplyAsync(call, executor)
+                .orTimeout(OVERVIEW_PART_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    }
+
+    // Waits for one part; a slow or failed part is reported as unavailable instead of failing the overview
+    private <T> T await(String part, CompletableFuture<T> future, CustomerOverview overview) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UserNotFoundException) {
+                throw (UserNotFoundException) e.getCause();
+            }
+            LOGGER.warn("Overview part '{}' unavailable: {}", part, String.valueOf(e.getCause()));
+            overview.markUnavailable(part);
+            return null;
+        }
+    }
+
     @GET
     @RolesAllowed({"ROLE_ADMIN", "ROLE_USER"})
     @TransactionAttribute(TransactionAttributeType.SUPPORTS)
+    @Produces({MediaType.APPLICATION_JSON, BinaryMediaType.APPLICATION_PROTOBUF, BinaryMediaType.APPLICATION_CBOR})
     public Response listActiveUsers() {
         try {
             List<UserDTO> activeUsers = userService.listActiveUsers();
@@ -0,0 +1,248 @@
+package com.trustsphere.rest.security;
+
+import com.trustsphere.rest.jfr.RateLimitDecisionEvent;
+import com.trustsphere.rest.jfr.RateLimitRejectedEvent;
+import com.trustsphere.rest.security.ratelimit.InMemorySharedCounterStore;
+import com.trustsphere.rest.security.ratelimit.JdbcSharedCounterStore;
+import com.trustsphere.rest.security.ratelimit.RateLimitBackend;
+import com.trustsphere.rest.security.ratelimit.SharedCounterStore;
+import com.trustsphere.rest.security.ratelimit.SharedRateLimitBackend;
+import com.trustsphere.rest.security.ratelimit.TokenBucketTable;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedScheduledExecutorService;
+import jakarta.inject.Inject;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+
+/**
+ * Backend setup, maintenance and rejection handling shared by the rate-limit filters. Each filter
+ * has its own backend and limits, read from {@code <prefix>.requests.per.minute} and
+ * {@code <prefix>.requests.per.hour}; the backend type and its tuning are common to both.
+ */
+public abstract class BaseRateLimitFilter implements ContainerRequestFilter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BaseRateLimitFilter.class);
+
+    protected static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    @Inject
+    private ConfigurationProvider configProvider;
+
+    @Resource
+    private ManagedScheduledExecutorService scheduler;
+
+    @Resource(lookup = "trust_sphere_jdbc")
+    private DataSource dataSource;
+
+    @Context
+    private HttpServletRequest servletRequest;
+
+    private String[] trustedProxies;
+
+    private RateLimitBackend backend;
+    private String backendName;
+    private ScheduledFuture<?> maintenance;
+
+    // Config key prefix of this filter's limits
+    protected abstract String limitPrefix();
+
+    protected abstract int defaultRequestsPerMinute();
+
+    protected abstract int defaultRequestsPerHour();
+
+    // Reported in the JFR events to tell the filters apart
+    protected abstract String stage();
+
+    // Hash of whatever the limit applies to; requests with equal keys share buckets
+    protected abstract long requestKey(ContainerRequestContext requestContext, String path);
+
+    @PostConstruct
+    public void init() {
+        int perMinute = Integer.parseInt(configProvider.getProperty(limitPrefix() + ".requests.per.minute",
+                String.valueOf(defaultRequestsPerMinute())));
+        int perHour = Integer.parseInt(configProvider.getProperty(limitPrefix() + ".requests.per.hour",
+                String.valueOf(defaultRequestsPerHour())));
+        String backendType = configProvider.getProperty("rate.limit.backend", "local");
+        this.backendName = backendType.toLowerCase(Locale.ROOT);
+        this.trustedProxies = Arrays.stream(configProvider.getProperty("rate.limit.trusted.proxies", "").split(","))
+                .map(String::trim)
+                .filter(proxy -> !proxy.isEmpty())
+                .toArray(String[]::new);
+        // Keys tracked per node, by either backend
+        int capacity = Integer.parseInt(configProvider.getProperty("rate.limit.table.capacity", "65536"));
+
+        long intervalMillis;
+        if ("shared".equalsIgnoreCase(backendType)) {
+            // Shorter sync intervals tighten cluster-wide accuracy at the cost of more store round trips
+            intervalMillis = Long.parseLong(configProvider.getProperty("rate.limit.sync.interval.millis", "1000"));
+            this.backend = new SharedRateLimitBackend(createSharedStore(), capacity, perMinute, perHour);
+        } else {
+            intervalMillis = TimeUnit.SECONDS.toMillis(
+                    Long.parseLong(configProvider.getProperty("rate.limit.sweep.interval.seconds", "60")));
+            this.backend = new TokenBucketTable(capacity, perMinute, perHour);
+        }
+
+        this.maintenance = scheduler.scheduleWithFixedDelay(this::maintain, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        LOGGER.info("Rate limiter {} initialized: {} backend, {}/min, {}/h, maintenance every {} ms",
+                stage(), backendType, perMinute, perHour, intervalMillis);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (maintenance != null) {
+            maintenance.cancel(false);
+        }
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) throws IOException {
+        String path = requestContext.getUriInfo().getPath();
+
+        // Skip rate limiting for health checks and public endpoints
+        if (isExemptFromRateLimit(path) || !isLimited(requestContext)) {
+            return;
+        }
+
+        long key = requestKey(requestContext, path);
+        RateLimitDecisionEvent decision = new RateLimitDecisionEvent();
+        decision.begin();
+        boolean allowed = backend.tryAcquire(key);
+        decision.end();
+        if (decision.shouldCommit()) {
+            decision.backend = backendName;
+            decision.stage = stage();
+            decision.allowed = allowed;
+            decision.commit();
+        }
+
+        if (!allowed) {
+            RateLimitRejectedEvent rejected = new RateLimitRejectedEvent();
+            rejected.backend = backendName;
+            rejected.stage = stage();
+            rejected.key = key;
+            rejected.commit();
+            LOGGER.warn("Rate limit ({}) exceeded on path: {}", stage(), path);
+            abortWithRateLimitExceeded(requestContext);
+        }
+    }
+
+    private void maintain() {
+        try {
+            backend.maintain();
+        } catch (Exception e) {
+            LOGGER.warn("Rate limiter maintenance failed", e);
+        }
+    }
+
+    private SharedCounterStore createSharedStore() {
+        String store = configProvider.getProperty("rate.limit.shared.store", "jdbc");
+        if ("memory".equalsIgnoreCase(store)) {
+            return new InMemorySharedCounterStore();
+        }
+        return new JdbcSharedCounterStore(dataSource);
+    }
+
+    // Whether the request is limited at all; stages keyed by client alone skip clients they cannot identify
+    protected boolean isLimited(ContainerRequestContext requestContext) {
+        return true;
+    }
+
+    protected boolean hasClientAddress() {
+        return servletRequest.getRemoteAddr() != null;
+    }
+
+    /**
+     * Hashes the client address into {@code hash}: the connection's peer address, unless the peer
+     * is one of {@code rate.limit.trusted.proxies}. Then the client is the rightmost
+     * {@code X-Forwarded-For} entry not added by a trusted proxy, or {@code X-Real-IP}. Headers
+     * from any other peer are ignored, since the client sets them freely.
+     */
+    protected long hashClientIp(long hash, ContainerRequestContext requestContext) {
+        String peer = servletRequest.getRemoteAddr();
+        if (peer == null) {
+            return hash;
+        }
+        if (isTrustedProxy(peer, 0, peer.length())) {
+            String xForwardedFor = requestContext.getHeaderString("X-Forwarded-For");
+            if (xForwardedFor != null) {
+                int end = xForwardedFor.length();
+                while (end > 0) {
+                    int start = xForwardedFor.lastIndexOf(',', end - 1) + 1;
+                    int from = start;
+                    int to = end;
+                    while (from < to && xForwardedFor.charAt(from) == ' ') {
+                        from++;
+                    }
+                    while (to > from && xForwardedFor.charAt(to - 1) == ' ') {
+                        to--;
+                    }
+                    if (from < to && !isTrustedProxy(xForwardedFor, from, to)) {
+                        return hashChars(hash, xForwardedFor, from, to);
+                    }
+                    end = start - 1;
+                }
+            }
+            String xRealIp = requestContext.getHeaderString("X-Real-IP");
+            if (xRealIp != null && !xRealIp.isEmpty()) {
+                return hashChars(hash, xRealIp, 0, xRealIp.length());
+            }
+        }
+        return hashChars(hash, peer, 0, peer.length());
+    }
+
+    private boolean isTrustedProxy(String value, int from, int to) {
+        for (String proxy : trustedProxies) {
+            if (proxy.length() == to - from && value.regionMatches(from, proxy, 0, proxy.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected static long hashChars(long hash, String value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            hash = mix(hash, value.charAt(i));
+        }
+        return hash;
+    }
+
+    protected static long mix(long hash, long value) {
+        return (hash ^ value) * FNV_PRIME;
+    }
+
+    private boolean isExemptFromRateLimit(String path) {
+        return path.startsWith("health") ||
+               path.startsWith("metrics") ||
+               path.startsWith("swagger") ||
+               path.startsWith("openapi") ||
+               path.startsWith("auth/login") ||
+               path.startsWith("auth/refresh");
+    }
+
+    private void abortWithRateLimitExceeded(ContainerRequestContext requestContext) {
+        Response response = Response.status(Response.Status.TOO_MANY_REQUESTS)
+                .header("Retry-After", "60")
+                .entity("{\"error\":\"rate_limit_exceeded\",\"message\":\"Too many requests. Please try again later.\"}")
+                .type("application/json")
+                .build();
+
+        requestContext.abortWith(response);
+    }
+}
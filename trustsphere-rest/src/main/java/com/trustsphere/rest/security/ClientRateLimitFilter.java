@@ -0,0 +1,53 @@
+package com.trustsphere.rest.security;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.PreMatching;
+import jakarta.ws.rs.ext.Provider;
+
+/**
+ * Per-IP limit across all routes, applied before JWTAuthenticationFilter so that floods of missing
+ * or forged tokens are rejected without paying for signature checks. The limits are looser than the
+ * per-caller ones in {@link RateLimitFilter}, since many users can share an address behind NAT.
+ * A request whose client address is unknown is left to the per-caller limit rather than sharing
+ * one bucket with every other such request.
+ */
+@Provider
+@PreMatching
+@Priority(Priorities.AUTHENTICATION - 100)
+@ApplicationScoped
+public class ClientRateLimitFilter extends BaseRateLimitFilter {
+
+    @Override
+    protected String limitPrefix() {
+        return "rate.limit.client";
+    }
+
+    @Override
+    protected int defaultRequestsPerMinute() {
+        return 600;
+    }
+
+    @Override
+    protected int defaultRequestsPerHour() {
+        return 20000;
+    }
+
+    @Override
+    protected String stage() {
+        return "client";
+    }
+
+    @Override
+    protected boolean isLimited(ContainerRequestContext requestContext) {
+        return hasClientAddress();
+    }
+
+    @Override
+    protected long requestKey(ContainerRequestContext requestContext, String path) {
+        // Own prefix so client keys never share a bucket with RateLimitFilter's in a shared store
+        return hashClientIp(mix(FNV_OFFSET_BASIS, 'c'), requestContext);
+    }
+}
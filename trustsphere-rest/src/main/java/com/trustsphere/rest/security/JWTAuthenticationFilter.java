@@ -2,12 +2,15 @@ package com.trustsphere.rest.security;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SecurityException;
 
+import com.trustsphere.rest.jfr.JwtValidationEvent;
+
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.Priority;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -46,8 +49,14 @@ public class JWTAuthenticationFilter implements ContainerRequestFilter {
     @Inject
     private JWTConfiguration jwtConfig;
 
+    @Inject
+    private VerifiedTokenCache tokenCache;
+
     private Key signingKey;
 
+    // Immutable and thread-safe once built
+    private JwtParser jwtParser;
+
     @PostConstruct
     public void init() {
         try {
@@ -59,6 +68,10 @@ public class JWTAuthenticationFilter implements ContainerRequestFilter {
                 // Fallback to keystore if secret key not provided
                 this.signingKey = jwtConfig.getPublicKey();
             }
+            this.jwtParser = Jwts.parserBuilder()
+                    .setSigningKey(signingKey)
+                    .requireIssuer(EXPECTED_ISSUER)
+                    .build();
             LOGGER.info("JWT Authentication Filter initialized successfully");
         } catch (Exception e) {
             LOGGER.error("Failed to initialize JWT Authentication Filter", e);
@@ -88,43 +101,58 @@ public class JWTAuthenticationFilter implements ContainerRequestFilter {
             return;
         }
 
+        JwtValidationEvent event = new JwtValidationEvent();
+        event.begin();
         try {
-            Claims claims = validateToken(token);
-            SecurityContext securityContext = createSecurityContext(claims, requestContext);
+            // Repeat requests with an already verified token skip parsing and signature checks
+            VerifiedTokenCache.VerifiedToken verified = tokenCache.get(token);
+            event.cacheHit = verified != null;
+            if (verified == null) {
+                Claims claims = validateToken(token);
+                verified = tokenCache.put(token, claims.getSubject(), extractRoles(claims), claims.getExpiration());
+            }
+            SecurityContext securityContext = createSecurityContext(verified, requestContext);
             requestContext.setSecurityContext(securityContext);
 
             // Add user info to request context for audit logging
-            requestContext.setProperty("jwt.username", claims.getSubject());
-            requestContext.setProperty("jwt.roles", claims.get(ROLES_CLAIM));
+            requestContext.setProperty("jwt.username", verified.getUsername());
+            requestContext.setProperty("jwt.roles", verified.getRoles());
 
-            LOGGER.info("Successfully authenticated user: {}", claims.getSubject());
+            LOGGER.info("Successfully authenticated user: {}", verified.getUsername());
+            event.outcome = "valid";
 
         } catch (ExpiredJwtException e) {
+            event.outcome = "expired";
             LOGGER.warn("Expired JWT token", e);
             abortWithUnauthorized(requestContext, "Token expired");
         } catch (UnsupportedJwtException e) {
+            event.outcome = "unsupported";
             LOGGER.warn("Unsupported JWT token", e);
             abortWithUnauthorized(requestContext, "Unsupported token format");
         } catch (MalformedJwtException e) {
+            event.outcome = "malformed";
             LOGGER.warn("Malformed JWT token", e);
             abortWithUnauthorized(requestContext, "Malformed token");
         } catch (SecurityException e) {
+            event.outcome = "bad-signature";
             LOGGER.warn("Invalid JWT signature", e);
             abortWithUnauthorized(requestContext, "Invalid token signature");
         } catch (IllegalArgumentException e) {
+            event.outcome = "invalid";
             LOGGER.warn("Invalid JWT token argument", e);
             abortWithUnauthorized(requestContext, "Invalid token");
         } catch (Exception e) {
+            event.outcome = "error";
             LOGGER.error("Unexpected error during JWT validation", e);
             abortWithUnauthorized(requestContext, "Authentication failed");
+        } finally {
+            // Costs a flag check unless the event is enabled in the running recording
+            event.commit();
         }
     }
 
     private Claims validateToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(signingKey)
-                .requireIssuer(EXPECTED_ISSUER)
-                .build()
+        Claims claims = jwtParser
                 .parseClaimsJws(token)
                 .getBody();
 
@@ -151,12 +179,11 @@ public class JWTAuthenticationFilter implements ContainerRequestFilter {
         // etc.
     }
 
-    private SecurityContext createSecurityContext(Claims claims, ContainerRequestContext requestContext) {
-        String username = claims.getSubject();
-        List<String> roles = extractRoles(claims);
+    private SecurityContext createSecurityContext(VerifiedTokenCache.VerifiedToken verified,
+                                                  ContainerRequestContext requestContext) {
         boolean isSecure = requestContext.getSecurityContext().isSecure();
 
-        return new JWTSecurityContext(username, roles, isSecure);
+        return new JWTSecurityContext(verified.getUsername(), verified.getRoles(), isSecure);
     }
 
     @SuppressWarnings("unchecked")
@@ -66,6 +66,15 @@ public class JWTConfiguration {
         return configProvider.getProperty("jwt.issuer", "trustsphere");
     }
 
+    public int getTokenCacheMaxEntries() {
+        return Integer.parseInt(configProvider.getProperty("jwt.cache.max.entries", "10000"));
+    }
+
+    // Upper bound on how long a verified token is trusted without re-checking its signature
+    public long getTokenCacheMaxTtlSeconds() {
+        return Long.parseLong(configProvider.getProperty("jwt.cache.max.ttl.seconds", "300"));
+    }
+
     public boolean isRSASignature() {
         return configProvider.getProperty("jwt.signature.algorithm", "HS256").startsWith("RS");
     }
@@ -1,205 +1,80 @@
 package com.trustsphere.rest.security;
 
-import java.io.IOException;
-import java.time.Instant;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.security.Principal;
 
 import jakarta.annotation.Priority;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.ws.rs.Priorities;
 import jakarta.ws.rs.container.ContainerRequestContext;
-import jakarta.ws.rs.container.ContainerRequestFilter;
 import jakarta.ws.rs.container.PreMatching;
-import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.SecurityContext;
 import jakarta.ws.rs.ext.Provider;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
+/**
+ * Per-caller limits on each route. Runs after JWTAuthenticationFilter so authenticated callers are
+ * limited by subject rather than IP; anonymous requests fall back to the client IP. Floods that never
+ * authenticate are already cut off by {@link ClientRateLimitFilter}.
+ */
 @Provider
 @PreMatching
-@Priority(Priorities.AUTHENTICATION - 100)
+@Priority(Priorities.AUTHENTICATION + 100)
 @ApplicationScoped
-public class RateLimitFilter implements ContainerRequestFilter {
+public class RateLimitFilter extends BaseRateLimitFilter {
+
+    // Stands in for path segments that carry ids, so /accounts/{id} is one route however many ids are used
+    private static final long ID_SEGMENT = 0x9e3779b97f4a7c15L;
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(RateLimitFilter.class);
-    
-    // Rate limiting configuration
-    private static final int MAX_REQUESTS_PER_MINUTE = 60;
-    private static final int MAX_REQUESTS_PER_HOUR = 1000;
-    private static final int WINDOW_SIZE_MINUTES = 1;
-    private static final int WINDOW_SIZE_HOURS = 60;
-    
-    // Store request counts per client IP
-    private final ConcurrentHashMap<String, RequestWindow> requestWindows = new ConcurrentHashMap<>();
-    
     @Override
-    public void filter(ContainerRequestContext requestContext) throws IOException {
-        String clientIp = getClientIp(requestContext);
-        String path = requestContext.getUriInfo().getPath();
-        
-        // Skip rate limiting for health checks and public endpoints
-        if (isExemptFromRateLimit(path)) {
-            return;
-        }
-        
-        // Check rate limits
-        if (!isWithinRateLimit(clientIp, path)) {
-            LOGGER.warn("Rate limit exceeded for client: {} on path: {}", clientIp, path);
-            abortWithRateLimitExceeded(requestContext);
-            return;
-        }
-        
-        // Update request count
-        updateRequestCount(clientIp, path);
+    protected String limitPrefix() {
+        return "rate.limit";
     }
-    
-    private String getClientIp(ContainerRequestContext requestContext) {
-        String xForwardedFor = requestContext.getHeaderString("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-        
-        String xRealIp = requestContext.getHeaderString("X-Real-IP");
-        if (xRealIp != null && !xRealIp.isEmpty()) {
-            return xRealIp;
-        }
-        
-        return requestContext.getHeaderString("X-Client-IP");
-    }
-    
-    private boolean isExemptFromRateLimit(String path) {
-        return path.startsWith("health") ||
-               path.startsWith("metrics") ||
-               path.startsWith("swagger") ||
-               path.startsWith("openapi") ||
-               path.startsWith("auth/login") ||
-               path.startsWith("auth/refresh");
+
+    @Override
+    protected int defaultRequestsPerMinute() {
+        return 60;
     }
-    
-    private boolean isWithinRateLimit(String clientIp, String path) {
-        String key = clientIp + ":" + path;
-        RequestWindow window = requestWindows.get(key);
-        
-        if (window == null) {
-            return true; // First request
-        }
-        
-        Instant now = Instant.now();
-        
-        // Check minute rate limit
-        if (window.getMinuteCount() >= MAX_REQUESTS_PER_MINUTE && 
-            now.isBefore(window.getMinuteWindowEnd())) {
-            return false;
-        }
-        
-        // Check hour rate limit
-        if (window.getHourCount() >= MAX_REQUESTS_PER_HOUR && 
-            now.isBefore(window.getHourWindowEnd())) {
-            return false;
-        }
-        
-        return true;
+
+    @Override
+    protected int defaultRequestsPerHour() {
+        return 1000;
     }
-    
-    private void updateRequestCount(String clientIp, String path) {
-        String key = clientIp + ":" + path;
-        Instant now = Instant.now();
-        
-        requestWindows.compute(key, (k, existingWindow) -> {
-            if (existingWindow == null) {
-                return new RequestWindow(now);
-            }
-            
-            // Reset counters if window has expired
-            if (now.isAfter(existingWindow.getMinuteWindowEnd())) {
-                existingWindow.resetMinuteCount();
-                existingWindow.setMinuteWindowEnd(now.plusSeconds(60));
-            }
-            
-            if (now.isAfter(existingWindow.getHourWindowEnd())) {
-                existingWindow.resetHourCount();
-                existingWindow.setHourWindowEnd(now.plusSeconds(3600));
-            }
-            
-            // Increment counters
-            existingWindow.incrementMinuteCount();
-            existingWindow.incrementHourCount();
-            
-            return existingWindow;
-        });
+
+    @Override
+    protected String stage() {
+        return "caller";
     }
-    
-    private void abortWithRateLimitExceeded(ContainerRequestContext requestContext) {
-        Response response = Response.status(Response.Status.TOO_MANY_REQUESTS)
-                .header("Retry-After", "60")
-                .entity("{\"error\":\"rate_limit_exceeded\",\"message\":\"Too many requests. Please try again later.\"}")
-                .type("application/json")
-                .build();
-        
-        requestContext.abortWith(response);
+
+    // Hashes (client, normalized route) without building any intermediate strings
+    @Override
+    protected long requestKey(ContainerRequestContext requestContext, String path) {
+        long hash = FNV_OFFSET_BASIS;
+        SecurityContext securityContext = requestContext.getSecurityContext();
+        Principal principal = securityContext != null ? securityContext.getUserPrincipal() : null;
+        if (principal != null) {
+            hash = mix(hash, 's');
+            hash = hashChars(hash, principal.getName(), 0, principal.getName().length());
+        } else {
+            hash = mix(hash, 'i');
+            hash = hashClientIp(hash, requestContext);
+        }
+        hash = mix(hash, '|');
+        return hashRoute(hash, path);
     }
-    
-    private static class RequestWindow {
-        private final AtomicInteger minuteCount = new AtomicInteger(0);
-        private final AtomicInteger hourCount = new AtomicInteger(0);
-        private Instant minuteWindowEnd;
-        private Instant hourWindowEnd;
-        
-        public RequestWindow(Instant startTime) {
-            this.minuteWindowEnd = startTime.plusSeconds(60);
-            this.hourWindowEnd = startTime.plusSeconds(3600);
-            this.minuteCount.incrementAndGet();
-            this.hourCount.incrementAndGet();
-        }
-        
-        public int getMinuteCount() {
-            return minuteCount.get();
-        }
-        
-        public int getHourCount() {
-            return hourCount.get();
-        }
-        
-        public void incrementMinuteCount() {
-            minuteCount.incrementAndGet();
-        }
-        
-        public void incrementHourCount() {
-            hourCount.incrementAndGet();
-        }
-        
-        public void resetMinuteCount() {
-            minuteCount.set(0);
-        }
-        
-        public void resetHourCount() {
-            hourCount.set(0);
-        }
-        
-        public Instant getMinuteWindowEnd() {
-            return minuteWindowEnd;
-        }
-        
-        public Instant getHourWindowEnd() {
-            return hourWindowEnd;
-        }
-        
-        public void setMinuteWindowEnd(Instant minuteWindowEnd) {
-            this.minuteWindowEnd = minuteWindowEnd;
-        }
-        
-        public void setHourWindowEnd(Instant hourWindowEnd) {
-            this.hourWindowEnd = hourWindowEnd;
+
+    private static long hashRoute(long hash, String path) {
+        long segment = FNV_OFFSET_BASIS;
+        boolean hasDigit = false;
+        for (int i = 0; i <= path.length(); i++) {
+            char c = i < path.length() ? path.charAt(i) : '/';
+            if (c == '/') {
+                hash = mix(hash, hasDigit ? ID_SEGMENT : segment);
+                segment = FNV_OFFSET_BASIS;
+                hasDigit = false;
+            } else {
+                hasDigit |= Character.isDigit(c);
+                segment = mix(segment, c);
+            }
         }
+        return hash;
     }
-    
-    public void cleanup() {
-        Instant now = Instant.now();
-        requestWindows.entrySet().removeIf(entry -> {
-            RequestWindow window = entry.getValue();
-            return now.isAfter(window.getMinuteWindowEnd()) && 
-                   now.isAfter(window.getHourWindowEnd());
-        });
-    }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,161 @@
+package com.trustsphere.rest.security;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache of tokens whose signature and claims have already been verified, keyed by the
+ * SHA-256 digest of the raw token. Entries expire at the token's {@code exp} or after the
+ * configured maximum TTL, whichever comes first.
+ */
+@ApplicationScoped
+public class VerifiedTokenCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VerifiedTokenCache.class);
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    });
+
+    @Inject
+    private JWTConfiguration jwtConfig;
+
+    private final ConcurrentHashMap<String, VerifiedToken> entries = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    private int maxEntries;
+    private Duration maxTtl;
+
+    @PostConstruct
+    public void init() {
+        this.maxEntries = jwtConfig.getTokenCacheMaxEntries();
+        this.maxTtl = Duration.ofSeconds(jwtConfig.getTokenCacheMaxTtlSeconds());
+        LOGGER.info("Verified token cache initialized: maxEntries={}, maxTtl={}", maxEntries, maxTtl);
+    }
+
+    /**
+     * Returns the cached verification result for this token, or null if it must be verified
+     */
+    public VerifiedToken get(String token) {
+        String key = digest(token);
+        VerifiedToken cached = entries.get(key);
+        if (cached == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        if (!Instant.now().isBefore(cached.getExpiresAt())) {
+            if (entries.remove(key, cached)) {
+                evictions.incrementAndGet();
+            }
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return cached;
+    }
+
+    /**
+     * Records a freshly verified token. The result is returned even when the cache is full and
+     * the entry could not be stored.
+     */
+    public VerifiedToken put(String token, String username, List<String> roles, Date expiration) {
+        Instant now = Instant.now();
+        Instant expiresAt = now.plus(maxTtl);
+        if (expiration != null && expiration.toInstant().isBefore(expiresAt)) {
+            expiresAt = expiration.toInstant();
+        }
+        VerifiedToken verified = new VerifiedToken(username,
+                Collections.unmodifiableList(new ArrayList<>(roles)), expiresAt);
+
+        if (entries.size() >= maxEntries) {
+            evictExpired(now);
+        }
+        if (entries.size() < maxEntries && expiresAt.isAfter(now)) {
+            entries.put(digest(token), verified);
+        }
+        return verified;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    public int getSize() {
+        return entries.size();
+    }
+
+    private void evictExpired(Instant now) {
+        entries.entrySet().removeIf(entry -> {
+            boolean expired = !now.isBefore(entry.getValue().getExpiresAt());
+            if (expired) {
+                evictions.incrementAndGet();
+            }
+            return expired;
+        });
+    }
+
+    private static String digest(String token) {
+        MessageDigest sha256 = SHA_256.get();
+        sha256.reset();
+        return Base64.getEncoder().encodeToString(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Principal and roles extracted from a verified token
+     */
+    public static final class VerifiedToken {
+
+        private final String username;
+        private final List<String> roles;
+        private final Instant expiresAt;
+
+        private VerifiedToken(String username, List<String> roles, Instant expiresAt) {
+            this.username = username;
+            this.roles = roles;
+            this.expiresAt = expiresAt;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public List<String> getRoles() {
+            return roles;
+        }
+
+        public Instant getExpiresAt() {
+            return expiresAt;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.trustsphere.rest.security.ratelimit;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process stand-in for a Redis-style counter store: one INCRBY per key and window, with old
+ * windows deleted as they expire. Lets the shared backend run on a single node or in development
+ * without a database round trip.
+ */
+public class InMemorySharedCounterStore implements SharedCounterStore {
+
+    private final Map<String, Map<Long, Map<Long, AtomicLong>>> windowsByScope = new ConcurrentHashMap<>();
+
+    @Override
+    public Map<Long, Long> addAndGet(String scope, long windowId, Map<Long, Long> deltas) {
+        Map<Long, AtomicLong> counters = windowsByScope
+                .computeIfAbsent(scope, s -> new ConcurrentHashMap<>())
+                .computeIfAbsent(windowId, w -> new ConcurrentHashMap<>());
+        Map<Long, Long> totals = new HashMap<>();
+        for (Map.Entry<Long, Long> delta : deltas.entrySet()) {
+            long total = counters.computeIfAbsent(delta.getKey(), k -> new AtomicLong())
+                    .addAndGet(delta.getValue());
+            totals.put(delta.getKey(), total);
+        }
+        return totals;
+    }
+
+    @Override
+    public void expireBefore(String scope, long windowId) {
+        Map<Long, Map<Long, AtomicLong>> windows = windowsByScope.get(scope);
+        if (windows != null) {
+            windows.keySet().removeIf(id -> id < windowId);
+        }
+    }
+}
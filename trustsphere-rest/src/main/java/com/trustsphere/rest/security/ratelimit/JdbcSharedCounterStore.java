@@ -0,0 +1,94 @@
+package com.trustsphere.rest.security.ratelimit;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shared counters in the MySQL table {@code rate_limit_counters}, created by the schema migration.
+ * Each sync is one batched upsert of this node's deltas plus a read of the totals of the keys it
+ * tracks, in chunks of {@value #SELECT_CHUNK} keys.
+ */
+public class JdbcSharedCounterStore implements SharedCounterStore {
+
+    private static final int SELECT_CHUNK = 500;
+
+    private static final String UPSERT =
+            "INSERT INTO rate_limit_counters (scope, window_id, bucket_key, hits) VALUES (?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE hits = hits + VALUES(hits)";
+
+    private static final String SELECT_KEYS =
+            "SELECT bucket_key, hits FROM rate_limit_counters WHERE scope = ? AND window_id = ? AND bucket_key IN (";
+
+    private static final String DELETE_BEFORE =
+            "DELETE FROM rate_limit_counters WHERE scope = ? AND window_id < ?";
+
+    private final DataSource dataSource;
+
+    public JdbcSharedCounterStore(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public Map<Long, Long> addAndGet(String scope, long windowId, Map<Long, Long> deltas) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            try (PreparedStatement upsert = connection.prepareStatement(UPSERT)) {
+                for (Map.Entry<Long, Long> delta : deltas.entrySet()) {
+                    if (delta.getValue() == 0) {
+                        continue;
+                    }
+                    upsert.setString(1, scope);
+                    upsert.setLong(2, windowId);
+                    upsert.setLong(3, delta.getKey());
+                    upsert.setLong(4, delta.getValue());
+                    upsert.addBatch();
+                }
+                upsert.executeBatch();
+            }
+
+            Map<Long, Long> totals = new HashMap<>();
+            List<Long> keys = new ArrayList<>(deltas.keySet());
+            for (int from = 0; from < keys.size(); from += SELECT_CHUNK) {
+                List<Long> chunk = keys.subList(from, Math.min(from + SELECT_CHUNK, keys.size()));
+                try (PreparedStatement select = connection.prepareStatement(selectKeys(chunk.size()))) {
+                    select.setString(1, scope);
+                    select.setLong(2, windowId);
+                    for (int i = 0; i < chunk.size(); i++) {
+                        select.setLong(3 + i, chunk.get(i));
+                    }
+                    try (ResultSet rs = select.executeQuery()) {
+                        while (rs.next()) {
+                            totals.put(rs.getLong(1), rs.getLong(2));
+                        }
+                    }
+                }
+            }
+            return totals;
+        }
+    }
+
+    private static String selectKeys(int count) {
+        StringBuilder sql = new StringBuilder(SELECT_KEYS.length() + 2 * count);
+        sql.append(SELECT_KEYS);
+        for (int i = 0; i < count; i++) {
+            sql.append(i == 0 ? "?" : ",?");
+        }
+        return sql.append(')').toString();
+    }
+
+    @Override
+    public void expireBefore(String scope, long windowId) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement delete = connection.prepareStatement(DELETE_BEFORE)) {
+            delete.setString(1, scope);
+            delete.setLong(2, windowId);
+            delete.executeUpdate();
+        }
+    }
+}
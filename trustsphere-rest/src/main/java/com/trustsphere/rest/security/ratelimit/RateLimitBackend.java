@@ -0,0 +1,18 @@
+package com.trustsphere.rest.security.ratelimit;
+
+/**
+ * Where rate-limit state lives. Implementations must keep {@link #tryAcquire} cheap and free of
+ * remote calls; anything slow belongs in {@link #maintain}, which runs on a scheduler.
+ */
+public interface RateLimitBackend {
+
+    /**
+     * Counts one request for the key; returns false if the key is over its limit
+     */
+    boolean tryAcquire(long key);
+
+    /**
+     * Periodic housekeeping such as sweeping idle state or syncing with a shared store
+     */
+    void maintain();
+}
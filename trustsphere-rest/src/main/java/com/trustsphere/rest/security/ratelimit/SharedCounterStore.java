@@ -0,0 +1,20 @@
+package com.trustsphere.rest.security.ratelimit;
+
+import java.util.Map;
+
+/**
+ * Cluster-wide counters for fixed rate-limit windows, shared by every node.
+ */
+public interface SharedCounterStore {
+
+    /**
+     * Adds each delta to its key's counter in the given window and returns the resulting
+     * cluster-wide totals for those keys
+     */
+    Map<Long, Long> addAndGet(String scope, long windowId, Map<Long, Long> deltas) throws Exception;
+
+    /**
+     * Drops counters of windows older than the given one
+     */
+    void expireBefore(String scope, long windowId) throws Exception;
+}
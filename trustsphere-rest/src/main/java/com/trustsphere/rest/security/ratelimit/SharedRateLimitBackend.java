@@ -0,0 +1,169 @@
+package com.trustsphere.rest.security.ratelimit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cluster-wide limits over fixed per-minute and per-hour windows. Requests are admitted against the
+ * last known cluster total plus this node's unsynced hits; {@link #maintain} pushes those hits to the
+ * shared store in one batch and pulls back fresh totals.
+ *
+ * <p>Accuracy is traded against the sync interval: between syncs each node only sees its own new
+ * hits, so a key can exceed its limit by at most what the other nodes admit within one interval.
+ *
+ * <p>Each window tracks at most {@code maxKeys} keys. A new key beyond that evicts the least used of
+ * a few sampled counters; the evicted key's unsynced hits are lost and its total starts from zero
+ * again until the next sync, so the cap should exceed the keys seen within an hour.
+ */
+public class SharedRateLimitBackend implements RateLimitBackend {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SharedRateLimitBackend.class);
+
+    private static final int EVICTION_SAMPLE = 8;
+
+    private final SharedCounterStore store;
+    private final Window minute;
+    private final Window hour;
+
+    public SharedRateLimitBackend(SharedCounterStore store, int maxKeys, int requestsPerMinute, int requestsPerHour) {
+        this.store = store;
+        this.minute = new Window("m", TimeUnit.MINUTES.toMillis(1), requestsPerMinute, maxKeys);
+        this.hour = new Window("h", TimeUnit.HOURS.toMillis(1), requestsPerHour, maxKeys);
+    }
+
+    @Override
+    public boolean tryAcquire(long key) {
+        long now = System.currentTimeMillis();
+        Counter minuteCounter = minute.counter(key, now);
+        Counter hourCounter = hour.counter(key, now);
+        if (minuteCounter.estimate() >= minute.limit || hourCounter.estimate() >= hour.limit) {
+            return false;
+        }
+        minuteCounter.pending.incrementAndGet();
+        hourCounter.pending.incrementAndGet();
+        return true;
+    }
+
+    @Override
+    public void maintain() {
+        long now = System.currentTimeMillis();
+        sync(minute, now);
+        sync(hour, now);
+    }
+
+    private void sync(Window window, long now) {
+        long windowId = now / window.lengthMillis;
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Map.Entry<Long, Counter> entry : window.counters.entrySet()) {
+            Counter counter = entry.getValue();
+            if (counter.windowId != windowId) {
+                window.counters.remove(entry.getKey(), counter);
+            } else {
+                // Keys without new hits are still sent so their totals pick up other nodes' hits
+                deltas.put(entry.getKey(), counter.pending.getAndSet(0));
+            }
+        }
+
+        try {
+            if (!deltas.isEmpty()) {
+                Map<Long, Long> totals = store.addAndGet(window.scope, windowId, deltas);
+                for (Map.Entry<Long, Long> total : totals.entrySet()) {
+                    Counter counter = window.counters.get(total.getKey());
+                    if (counter != null && counter.windowId == windowId) {
+                        counter.synced = total.getValue();
+                    }
+                }
+            }
+            if (window.expiredBefore < windowId) {
+                store.expireBefore(window.scope, windowId);
+                window.expiredBefore = windowId;
+            }
+        } catch (Exception e) {
+            // Keep the hits for the next attempt; meanwhile each node enforces on its own view
+            for (Map.Entry<Long, Long> delta : deltas.entrySet()) {
+                Counter counter = window.counters.get(delta.getKey());
+                if (counter != null && counter.windowId == windowId) {
+                    counter.pending.addAndGet(delta.getValue());
+                }
+            }
+            LOGGER.warn("Rate limit sync failed for window {} :{}", window.scope, e.getMessage());
+        }
+    }
+
+    private static final class Window {
+        private final String scope;
+        private final long lengthMillis;
+        private final int limit;
+        private final int maxKeys;
+        private final ConcurrentHashMap<Long, Counter> counters = new ConcurrentHashMap<>();
+        private volatile long expiredBefore;
+
+        private Window(String scope, long lengthMillis, int limit, int maxKeys) {
+            this.scope = scope;
+            this.lengthMillis = lengthMillis;
+            this.limit = limit;
+            this.maxKeys = maxKeys;
+        }
+
+        private Counter counter(long key, long now) {
+            long windowId = now / lengthMillis;
+            while (true) {
+                Counter counter = counters.get(key);
+                if (counter != null && counter.windowId == windowId) {
+                    return counter;
+                }
+                if (counter == null && counters.size() >= maxKeys) {
+                    evictOne(windowId);
+                }
+                // First hit in this window; retry if another thread or the sync got there first
+                Counter fresh = new Counter(windowId);
+                if (counter == null ? counters.putIfAbsent(key, fresh) == null : counters.replace(key, counter, fresh)) {
+                    return fresh;
+                }
+            }
+        }
+
+        // Counters left from an older window go first, then the lowest estimate among the sample
+        private void evictOne(long windowId) {
+            Map.Entry<Long, Counter> victim = null;
+            int sampled = 0;
+            for (Map.Entry<Long, Counter> entry : counters.entrySet()) {
+                Counter counter = entry.getValue();
+                if (counter.windowId != windowId) {
+                    victim = entry;
+                    break;
+                }
+                if (victim == null || counter.estimate() < victim.getValue().estimate()) {
+                    victim = entry;
+                }
+                if (++sampled == EVICTION_SAMPLE) {
+                    break;
+                }
+            }
+            if (victim != null) {
+                counters.remove(victim.getKey(), victim.getValue());
+            }
+        }
+    }
+
+    private static final class Counter {
+        private final long windowId;
+        private final AtomicLong pending = new AtomicLong();
+        // Cluster-wide total for the window as of the last sync, including this node's synced hits
+        private volatile long synced;
+
+        private Counter(long windowId) {
+            this.windowId = windowId;
+        }
+
+        private long estimate() {
+            return synced + pending.get();
+        }
+    }
+}
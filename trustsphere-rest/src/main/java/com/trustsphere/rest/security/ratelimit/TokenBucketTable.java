@@ -0,0 +1,179 @@
+package com.trustsphere.rest.security.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Fixed-capacity, lock-free table of per-client token buckets (a per-minute and a per-hour one).
+ *
+ * <p>Each bucket is stored in GCRA form as a single "theoretical arrival time", which is equivalent to
+ * a token bucket but can be updated with one CAS and never drifts from fractional refills. A bucket
+ * whose arrival time has fallen behind the clock is full. Keys are 64-bit hashes; {@code 0} marks an
+ * empty slot. The table is split into small stripes; a key only ever lives in its own stripe, and when
+ * the stripe is full the slot with the oldest arrival time is evicted, giving an approximate LRU.
+ */
+public class TokenBucketTable implements RateLimitBackend {
+
+    private static final int STRIPE_SIZE = 8;
+    private static final long EMPTY = 0L;
+
+    private static final long MINUTE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final long HOUR_MICROS = TimeUnit.HOURS.toMicros(1);
+
+    private final AtomicLongArray keys;
+    private final AtomicLongArray minuteArrival;
+    private final AtomicLongArray hourArrival;
+    private final int stripeMask;
+
+    private final long minuteInterval;
+    private final long minuteTolerance;
+    private final long hourInterval;
+    private final long hourTolerance;
+
+    private final LongSupplier nanoTime;
+    private final long originNanos;
+
+    public TokenBucketTable(int capacity, int requestsPerMinute, int requestsPerHour) {
+        this(capacity, requestsPerMinute, requestsPerHour, System::nanoTime);
+    }
+
+    // Clock override for tests
+    TokenBucketTable(int capacity, int requestsPerMinute, int requestsPerHour, LongSupplier nanoTime) {
+        if (requestsPerMinute < 1 || requestsPerHour < 1) {
+            throw new IllegalArgumentException("Rate limits must be positive");
+        }
+        int stripes = Integer.highestOneBit(Math.max(capacity / STRIPE_SIZE, 1));
+        this.stripeMask = stripes - 1;
+        this.keys = new AtomicLongArray(stripes * STRIPE_SIZE);
+        this.minuteArrival = new AtomicLongArray(stripes * STRIPE_SIZE);
+        this.hourArrival = new AtomicLongArray(stripes * STRIPE_SIZE);
+
+        // Emission interval between requests, and how far ahead of the clock a burst may run
+        this.minuteInterval = MINUTE_MICROS / requestsPerMinute;
+        this.minuteTolerance = MINUTE_MICROS - minuteInterval;
+        this.hourInterval = HOUR_MICROS / requestsPerHour;
+        this.hourTolerance = HOUR_MICROS - hourInterval;
+
+        this.nanoTime = nanoTime;
+        this.originNanos = nanoTime.getAsLong();
+    }
+
+    /**
+     * Takes one token from both of the key's buckets; returns false if either is empty
+     */
+    @Override
+    public boolean tryAcquire(long key) {
+        long now = nowMicros();
+        int slot = slotFor(key == EMPTY ? 1 : key);
+        if (!admit(minuteArrival, slot, minuteInterval, minuteTolerance, now)) {
+            return false;
+        }
+        if (!admit(hourArrival, slot, hourInterval, hourTolerance, now)) {
+            // Hand back the minute token so a request rejected by the hourly limit does not count twice
+            minuteArrival.addAndGet(slot, -minuteInterval);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Frees slots whose buckets have fully refilled; dropping them loses no state. Returns the number freed.
+     */
+    public int sweep() {
+        long now = nowMicros();
+        int freed = 0;
+        for (int i = 0; i < keys.length(); i++) {
+            long key = keys.get(i);
+            if (key != EMPTY && minuteArrival.get(i) <= now && hourArrival.get(i) <= now
+                    && keys.compareAndSet(i, key, EMPTY)) {
+                freed++;
+            }
+        }
+        return freed;
+    }
+
+    @Override
+    public void maintain() {
+        sweep();
+    }
+
+    public int capacity() {
+        return keys.length();
+    }
+
+    private int slotFor(long key) {
+        int base = (int) (spread(key) & stripeMask) * STRIPE_SIZE;
+        while (true) {
+            // The key may sit after a slot that a sweep has since freed, so look at the whole stripe first
+            int empty = -1;
+            int victim = base;
+            long oldest = Long.MAX_VALUE;
+            for (int i = base; i < base + STRIPE_SIZE; i++) {
+                long current = keys.get(i);
+                if (current == key) {
+                    return i;
+                }
+                if (current == EMPTY) {
+                    if (empty < 0) {
+                        empty = i;
+                    }
+                    continue;
+                }
+                long lastUse = hourArrival.get(i);
+                if (lastUse < oldest) {
+                    oldest = lastUse;
+                    victim = i;
+                }
+            }
+            if (empty >= 0) {
+                if (claim(empty, EMPTY, key)) {
+                    return empty;
+                }
+                // Another thread took the slot, possibly for this key: look again
+                continue;
+            }
+            // Stripe is full: take over the least recently used slot. Losing the race is tolerated;
+            // the request is then counted against whichever key won, which only errs towards limiting.
+            claim(victim, keys.get(victim), key);
+            return victim;
+        }
+    }
+
+    private boolean claim(int slot, long expected, long key) {
+        if (!keys.compareAndSet(slot, expected, key)) {
+            return false;
+        }
+        minuteArrival.set(slot, 0L);
+        hourArrival.set(slot, 0L);
+        return true;
+    }
+
+    private static boolean admit(AtomicLongArray arrivals, int slot, long interval, long tolerance, long now) {
+        while (true) {
+            long arrival = arrivals.get(slot);
+            long start = Math.max(arrival, now);
+            if (start - now > tolerance) {
+                return false;
+            }
+            if (arrivals.compareAndSet(slot, arrival, start + interval)) {
+                return true;
+            }
+        }
+    }
+
+    private long nowMicros() {
+        // Offset by one hour so a freshly cleared slot (arrival 0) always reads as a full bucket
+        return TimeUnit.NANOSECONDS.toMicros(nanoTime.getAsLong() - originNanos) + HOUR_MICROS;
+    }
+
+    // Murmur3 finalizer; keys are already hashes but their low bits pick the stripe
+    private static long spread(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return key;
+    }
+}
@@ -0,0 +1,120 @@
+package com.trustsphere.rest.tracing;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.trustsphere.ejb.tracing.Span;
+import com.trustsphere.ejb.tracing.SpanExporter;
+import com.trustsphere.rest.security.ConfigurationProvider;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedScheduledExecutorService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Appends finished spans to {@code tracing.file.path} as JSON lines, one span per line, for
+ * collection by a log shipper. Disabled when the path is empty.
+ *
+ * Exporting only queues the span; a scheduled task writes the queue out every
+ * {@code tracing.file.flush.interval.millis}. When the queue is full the span is dropped and
+ * counted rather than making the request wait on the disk.
+ */
+@ApplicationScoped
+public class FileSpanExporter implements SpanExporter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileSpanExporter.class);
+
+    private static final ObjectWriter WRITER = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build()
+            .writer();
+
+    @Inject
+    private ConfigurationProvider configProvider;
+
+    @Resource
+    private ManagedScheduledExecutorService scheduler;
+
+    private Path file;
+    private BlockingQueue<Span> queue;
+    private ScheduledFuture<?> flusher;
+    private final LongAdder dropped = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        String path = configProvider.getProperty("tracing.file.path", "").trim();
+        if (path.isEmpty()) {
+            return;
+        }
+        this.file = Paths.get(path);
+        this.queue = new ArrayBlockingQueue<>(
+                Integer.parseInt(configProvider.getProperty("tracing.file.queue.capacity", "10000")));
+        long intervalMillis = Long.parseLong(configProvider.getProperty("tracing.file.flush.interval.millis", "1000"));
+        this.flusher = scheduler.scheduleWithFixedDelay(this::flush, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        LOGGER.info("Exporting spans to {} every {} ms", file, intervalMillis);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (flusher != null) {
+            flusher.cancel(false);
+            flush();
+        }
+    }
+
+    public boolean isEnabled() {
+        return file != null;
+    }
+
+    @Override
+    public void export(Span span) {
+        if (!queue.offer(span)) {
+            dropped.increment();
+        }
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    private synchronized void flush() {
+        List<Span> spans = new ArrayList<>();
+        queue.drainTo(spans);
+        if (spans.isEmpty()) {
+            return;
+        }
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (Span span : spans) {
+                out.write(WRITER.writeValueAsString(span));
+                out.write('\n');
+            }
+        } catch (IOException | RuntimeException e) {
+            // Keep the task scheduled; a failed write loses this batch only
+            dropped.add(spans.size());
+            LOGGER.warn("Failed to write {} spans to {}", spans.size(), file, e);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.trustsphere.rest.tracing;
+
+import com.trustsphere.ejb.tracing.Span;
+import com.trustsphere.ejb.tracing.SpanExporter;
+import com.trustsphere.ejb.tracing.SpanKind;
+import com.trustsphere.rest.security.ConfigurationProvider;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps the spans of the most recent sampled traces on this node, for the admin trace
+ * endpoint. Bounded by {@code tracing.store.max.traces}; the oldest trace is dropped first,
+ * and spans beyond {@link #MAX_SPANS_PER_TRACE} in a single trace are not kept.
+ */
+@ApplicationScoped
+public class InMemorySpanStore implements SpanExporter {
+
+    static final int MAX_SPANS_PER_TRACE = 256;
+
+    @Inject
+    private ConfigurationProvider configProvider;
+
+    private Map<String, StoredTrace> traces;
+    private final LongAdder dropped = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        int maxTraces = Integer.parseInt(configProvider.getProperty("tracing.store.max.traces", "1000"));
+        this.traces = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StoredTrace> eldest) {
+                return size() > maxTraces;
+            }
+        };
+    }
+
+    @Override
+    public void export(Span span) {
+        synchronized (traces) {
+            StoredTrace trace = traces.computeIfAbsent(span.getTraceId(), id -> new StoredTrace());
+            if (trace.spans.size() == MAX_SPANS_PER_TRACE) {
+                dropped.increment();
+                return;
+            }
+            trace.spans.add(span);
+            // The server span ends last, after everything it called
+            if (span.getKind() == SpanKind.SERVER) {
+                trace.root = span;
+            }
+        }
+    }
+
+    /**
+     * Server spans of the most recent traces, newest first, that took at least {@code minMillis}.
+     */
+    public List<Span> recent(int limit, long minMillis) {
+        List<StoredTrace> stored;
+        synchronized (traces) {
+            stored = new ArrayList<>(traces.values());
+        }
+        List<Span> roots = new ArrayList<>(Math.min(limit, stored.size()));
+        for (int i = stored.size() - 1; i >= 0 && roots.size() < limit; i--) {
+            Span root = stored.get(i).root;
+            if (root != null && root.getDurationMicros() >= minMillis * 1_000) {
+                roots.add(root);
+            }
+        }
+        return roots;
+    }
+
+    // Spans of one trace in start order, or null when it is not (or no longer) stored
+    public List<Span> trace(String traceId) {
+        List<Span> spans;
+        synchronized (traces) {
+            StoredTrace trace = traces.get(traceId);
+            if (trace == null) {
+                return null;
+            }
+            spans = new ArrayList<>(trace.spans);
+        }
+        spans.sort(Comparator.comparing(Span::getStart));
+        return spans;
+    }
+
+    public void clear() {
+        synchronized (traces) {
+            traces.clear();
+        }
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    private static final class StoredTrace {
+
+        final List<Span> spans = new ArrayList<>();
+        Span root;
+    }
+}
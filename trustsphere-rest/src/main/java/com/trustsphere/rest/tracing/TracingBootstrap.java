@@ -0,0 +1,53 @@
+package com.trustsphere.rest.tracing;
+
+import com.trustsphere.ejb.tracing.SpanExporter;
+import com.trustsphere.ejb.tracing.Tracing;
+import com.trustsphere.rest.security.ConfigurationProvider;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configures {@link Tracing} at startup: the share of new traces sampled, from
+ * {@code tracing.sample.rate}, and where sampled spans go. Requests carrying a
+ * {@code traceparent} from a trusted hop follow the caller's sampling decision instead.
+ */
+@ApplicationScoped
+public class TracingBootstrap {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TracingBootstrap.class);
+
+    @Inject
+    private ConfigurationProvider configProvider;
+
+    @Inject
+    private InMemorySpanStore store;
+
+    @Inject
+    private FileSpanExporter fileExporter;
+
+    void start(@Observes @Initialized(ApplicationScoped.class) Object init) {
+        double sampleRate = Double.parseDouble(configProvider.getProperty("tracing.sample.rate", "0.1"));
+        List<SpanExporter> exporters = new ArrayList<>();
+        exporters.add(store);
+        if (fileExporter.isEnabled()) {
+            exporters.add(fileExporter);
+        }
+        Tracing.configure(sampleRate, exporters);
+        LOGGER.info("Tracing initialized: sample rate {}, file export {}",
+                sampleRate, fileExporter.isEnabled() ? "enabled" : "disabled");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        Tracing.configure(0, List.of());
+    }
+}
@@ -0,0 +1,120 @@
+package com.trustsphere.rest.tracing;
+
+import com.trustsphere.ejb.tracing.Span;
+import com.trustsphere.ejb.tracing.SpanKind;
+import com.trustsphere.ejb.tracing.Tracing;
+import com.trustsphere.rest.security.ConfigurationProvider;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.container.PreMatching;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.ext.Provider;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Starts the server span of every request, continuing the caller's trace when it sends a W3C
+ * {@code traceparent} header, and returns the trace id in {@code X-Trace-Id}. The header's
+ * sampled flag is followed only when the request comes directly from one of the addresses in
+ * {@code tracing.trusted.hops}; other requests are sampled at {@code tracing.sample.rate}.
+ *
+ * Runs before authentication and rate limiting so their time, and rejected requests, are part
+ * of the trace. A response with an entity ends its span once the entity has been written, as
+ * {@link com.trustsphere.rest.metrics.RequestMetricsFilter} does for its timings.
+ */
+@Provider
+@PreMatching
+@Priority(Priorities.AUTHENTICATION - 200)
+public class TracingFilter implements ContainerRequestFilter, ContainerResponseFilter, WriterInterceptor {
+
+    static final String TRACE_ID_HEADER = "X-Trace-Id";
+
+    private static final String SPAN = TracingFilter.class.getName() + ".span";
+
+    @Context
+    private ResourceInfo resourceInfo;
+
+    @Context
+    private HttpServletRequest servletRequest;
+
+    @Inject
+    private ConfigurationProvider configProvider;
+
+    private Set<String> trustedHops;
+
+    @PostConstruct
+    public void init() {
+        Set<String> hops = new HashSet<>();
+        for (String hop : configProvider.getProperty("tracing.trusted.hops", "").split(",")) {
+            if (!hop.isBlank()) {
+                hops.add(hop.trim());
+            }
+        }
+        this.trustedHops = Set.copyOf(hops);
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        Span span = Tracing.startTrace("HTTP " + requestContext.getMethod(), SpanKind.SERVER,
+                requestContext.getHeaderString(Tracing.TRACEPARENT), isTrustedHop());
+        span.setAttribute("http.method", requestContext.getMethod());
+        span.setAttribute("http.path", requestContext.getUriInfo().getPath());
+        requestContext.setProperty(SPAN, span);
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        Span span = (Span) requestContext.getProperty(SPAN);
+        if (span == null) {
+            return;
+        }
+        Method method = resourceInfo.getResourceMethod();
+        if (method != null) {
+            span.rename(method.getDeclaringClass().getSimpleName() + "." + method.getName());
+        }
+        span.setAttribute("http.status", responseContext.getStatus());
+        responseContext.getHeaders().putSingle(TRACE_ID_HEADER, span.getTraceId());
+        if (!responseContext.hasEntity()) {
+            span.end();
+            requestContext.removeProperty(SPAN);
+        }
+    }
+
+    // The direct peer only: forwarded-for headers are set by the client and prove nothing
+    private boolean isTrustedHop() {
+        return !trustedHops.isEmpty() && trustedHops.contains(servletRequest.getRemoteAddr());
+    }
+
+    @Override
+    public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+        try {
+            context.proceed();
+        } catch (IOException | RuntimeException e) {
+            Span span = (Span) context.getProperty(SPAN);
+            if (span != null) {
+                span.fail(e);
+            }
+            throw e;
+        } finally {
+            Span span = (Span) context.getProperty(SPAN);
+            if (span != null) {
+                span.end();
+                context.removeProperty(SPAN);
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.trustsphere.rest.bulk;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AccountRowReaderTest {
+
+    private static final String USER_ID = "0b9f3c2e-6a51-4d8e-9f1a-2c7b4e5d6a70";
+
+    @Test
+    void quotedFieldsMayContainCommasAndQuotes() throws IOException {
+        try (AccountRowReader reader = csv(
+                "accountNumber,\"balance\",status,userId,note\n"
+                        + "\"ACC0000000001\",\"1250.50\",active," + USER_ID + ",\"Smith, \"\"Jr\"\"\"\n")) {
+            AccountRowReader.Row row = reader.next();
+
+            assertTrue(row.isValid(), row.getErrorMessage());
+            assertEquals(2, row.getRowNumber());
+            assertEquals("ACC0000000001", row.getAccount().getAccountNumber());
+            assertEquals("1250.50", row.getAccount().getBalance().toPlainString());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void quotedLineBreakKeepsTheRowNumberOfItsFirstLine() throws IOException {
+        try (AccountRowReader reader = csv(
+                "accountNumber,balance,status,userId,note\n"
+                        + "ACC0000000001,10,ACTIVE," + USER_ID + ",\"first\nsecond\"\n"
+                        + "ACC0000000002,20,ACTIVE," + USER_ID + ",\n")) {
+            assertEquals(2, reader.next().getRowNumber());
+            AccountRowReader.Row next = reader.next();
+            assertTrue(next.isValid(), next.getErrorMessage());
+            assertEquals(4, next.getRowNumber());
+        }
+    }
+
+    @Test
+    void strayQuotesAreReportedWithTheirLine() throws IOException {
+        try (AccountRowReader reader = csv(
+                "accountNumber,balance,status,userId\n"
+                        + "ACC0000000001,1\"0,ACTIVE," + USER_ID + "\n"
+                        + "\"ACC0000000002\"x,10,ACTIVE," + USER_ID + "\n"
+                        + "ACC0000000003,\"10,ACTIVE," + USER_ID + "\n")) {
+            for (long line = 2; line <= 4; line++) {
+                AccountRowReader.Row row = reader.next();
+                assertFalse(row.isValid());
+                assertEquals(line, row.getRowNumber());
+                assertEquals("MALFORMED_ROW", row.getErrorCode());
+            }
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void malformedHeaderIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> csv("\"accountNumber,balance,status,userId\n").next());
+    }
+
+    private static AccountRowReader csv(String content) {
+        return new AccountRowReader(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)),
+                AccountRowReader.Format.CSV);
+    }
+}
@@ -0,0 +1,80 @@
+package com.trustsphere.rest.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClientRateLimitFilterTest {
+
+    private static final String PROXY = "172.16.0.1";
+
+    @Test
+    void directClientsGetTheirOwnKeys() throws ReflectiveOperationException {
+        assertNotEquals(key("203.0.113.7", Map.of()), key("198.51.100.2", Map.of()));
+    }
+
+    @Test
+    void forwardedHeadersFromAnUntrustedPeerAreIgnored() throws ReflectiveOperationException {
+        long direct = key("203.0.113.7", Map.of());
+
+        assertEquals(direct, key("203.0.113.7", Map.of("X-Forwarded-For", "198.51.100.2")));
+        assertEquals(direct, key("203.0.113.7", Map.of("X-Real-IP", "198.51.100.2")));
+    }
+
+    @Test
+    void trustedProxyNamesTheClient() throws ReflectiveOperationException {
+        long client = key("198.51.100.2", Map.of());
+
+        assertEquals(client, key(PROXY, Map.of("X-Forwarded-For", "198.51.100.2")));
+        assertEquals(client, key(PROXY, Map.of("X-Real-IP", "198.51.100.2")));
+        // The leftmost entries are whatever the client sent; the proxy appended the address it saw
+        assertEquals(client, key(PROXY, Map.of("X-Forwarded-For", "10.9.9.9, 198.51.100.2 , " + PROXY)));
+    }
+
+    @Test
+    void requestsFromAnUnknownClientAreNotLimited() throws ReflectiveOperationException {
+        assertFalse(filter(null).isLimited(request(Map.of())));
+        assertTrue(filter("203.0.113.7").isLimited(request(Map.of())));
+    }
+
+    private static long key(String peer, Map<String, String> headers) throws ReflectiveOperationException {
+        return filter(peer).requestKey(request(headers), "accounts");
+    }
+
+    private static ClientRateLimitFilter filter(String peer) throws ReflectiveOperationException {
+        ClientRateLimitFilter filter = new ClientRateLimitFilter();
+        inject(filter, "trustedProxies", new String[] {PROXY});
+        inject(filter, "servletRequest", proxy(HttpServletRequest.class, "getRemoteAddr", args -> peer));
+        return filter;
+    }
+
+    private static ContainerRequestContext request(Map<String, String> headers) {
+        return proxy(ContainerRequestContext.class, "getHeaderString", args -> headers.get((String) args[0]));
+    }
+
+    // Answers one method of the interface and fails on any other
+    private static <T> T proxy(Class<T> type, String methodName, Function<Object[], Object> answer) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (instance, method, args) -> {
+            if (!methodName.equals(method.getName())) {
+                throw new UnsupportedOperationException(method.getName());
+            }
+            return answer.apply(args);
+        }));
+    }
+
+    private static void inject(Object target, String fieldName, Object value) throws ReflectiveOperationException {
+        Field field = BaseRateLimitFilter.class.getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
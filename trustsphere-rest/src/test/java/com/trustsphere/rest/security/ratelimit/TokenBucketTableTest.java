@@ -0,0 +1,74 @@
+package com.trustsphere.rest.security.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTableTest {
+
+    // A capacity of one stripe puts every key in the same stripe
+    private static final int ONE_STRIPE = 8;
+
+    private static final long FIRST = 11L;
+    private static final long SECOND = 22L;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private TokenBucketTable table;
+
+    @BeforeEach
+    void setUp() {
+        // 2/min and 100/h: a request costs 30 s of the minute bucket and 36 s of the hour bucket
+        table = new TokenBucketTable(ONE_STRIPE, 2, 100, nanos::get);
+    }
+
+    @Test
+    void rejectsOnceTheMinuteBucketIsEmpty() {
+        assertTrue(table.tryAcquire(FIRST));
+        assertTrue(table.tryAcquire(FIRST));
+        assertFalse(table.tryAcquire(FIRST));
+        assertTrue(table.tryAcquire(SECOND));
+    }
+
+    @Test
+    void sweepFreesOnlyFullBuckets() {
+        assertTrue(table.tryAcquire(FIRST));
+        assertTrue(table.tryAcquire(SECOND));
+        assertTrue(table.tryAcquire(SECOND));
+
+        advance(40);
+
+        // FIRST has refilled completely; SECOND still owes 20 s of its minute bucket
+        assertEquals(1, table.sweep());
+    }
+
+    @Test
+    void keyKeepsItsBucketWhenAnEarlierSlotIsSweptAndReused() {
+        assertTrue(table.tryAcquire(FIRST));
+        assertTrue(table.tryAcquire(SECOND));
+        assertTrue(table.tryAcquire(SECOND));
+        assertFalse(table.tryAcquire(SECOND));
+
+        advance(40);
+        assertEquals(1, table.sweep());
+
+        // FIRST's slot, ahead of SECOND's in the stripe, is now empty. SECOND must keep its own bucket,
+        // which has refilled by one request, rather than start over in the free slot with two.
+        assertTrue(table.tryAcquire(SECOND));
+        assertFalse(table.tryAcquire(SECOND));
+
+        // The freed slot still serves a returning key with a full bucket
+        assertTrue(table.tryAcquire(FIRST));
+        assertTrue(table.tryAcquire(FIRST));
+        assertFalse(table.tryAcquire(FIRST));
+    }
+
+    private void advance(long seconds) {
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+    }
+}